@@ -19,6 +19,10 @@ package org.jnosql.diana.api.column;
 
 
 import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.TypeReference;
+
+import java.util.Collections;
+import java.util.List;
 
 import static org.jnosql.diana.api.Condition.EQUALS;
 import static org.jnosql.diana.api.Condition.GREATER_EQUALS_THAN;
@@ -49,6 +53,26 @@ public interface ColumnCondition {
      */
     Condition getCondition();
 
+    /**
+     * Gets the conditions combined by this one: the conditions joined by {@link Condition#AND} or
+     * {@link Condition#OR}, the negated one to {@link Condition#NOT}, otherwise an empty list.
+     * Unlike {@link #getColumn()}, it does not need to convert the column value.
+     *
+     * @return the conditions combined, an unmodifiable list
+     */
+    default List<ColumnCondition> getConditions() {
+        switch (getCondition()) {
+            case AND:
+            case OR:
+                return Collections.unmodifiableList(getColumn().get(new TypeReference<List<ColumnCondition>>() {
+                }));
+            case NOT:
+                return Collections.singletonList(getColumn().get(ColumnCondition.class));
+            default:
+                return Collections.emptyList();
+        }
+    }
+
     /**
      * Creates a new {@link ColumnCondition} using the {@link Condition#AND}
      *
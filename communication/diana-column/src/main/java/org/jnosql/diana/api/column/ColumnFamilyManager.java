@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -129,6 +130,22 @@ public interface ColumnFamilyManager extends AutoCloseable {
      */
     List<ColumnEntity> select(ColumnQuery query);
 
+    /**
+     * Finds {@link ColumnEntity} from select as a {@link Stream}, so the entities might be consumed while they
+     * are read from the database instead of loading the whole result in memory.
+     * By default it uses {@link #select(ColumnQuery)}, each NoSQL vendor might replace to a lazy one.
+     * The stream might hold database resources, so it should be closed after its use.
+     *
+     * @param query - select to figure out entities
+     * @return entities found by select
+     * @throws NullPointerException          when select is null
+     * @throws UnsupportedOperationException if the implementation does not support any operation that a query has.
+     */
+    default Stream<ColumnEntity> stream(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query).stream();
+    }
+
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
      * command it will return the result of the operation when the command is <b>delete</b> it will return an empty collection.
@@ -18,13 +18,17 @@
 package org.jnosql.diana.api.column;
 
 
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.QueryException;
+import org.jnosql.diana.api.flow.Publisher;
+import org.jnosql.diana.api.flow.Publishers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -261,6 +265,187 @@ public interface ColumnFamilyManagerAsync extends AutoCloseable {
      */
     void count(String columnFamily, Consumer<Long> callback);
 
+    /**
+     * Saves an entity asynchronously, by default it adapts {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Consumer)}
+     * to a {@link CompletionStage}, each NoSQL vendor might replace it to a native one.
+     *
+     * @param entity entity to be saved
+     * @return a {@link CompletionStage} with the saved entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entity is null
+     */
+    default CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(callBack -> insert(entity, callBack));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, by default it adapts
+     * {@link ColumnFamilyManagerAsync#insert(ColumnEntity, Duration, Consumer)} to a {@link CompletionStage}.
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @return a {@link CompletionStage} with the saved entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when either entity or ttl are null
+     */
+    default CompletionStage<ColumnEntity> insertAsync(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of(callBack -> insert(entity, ttl, callBack));
+    }
+
+    /**
+     * Saves entities asynchronously, the returned {@link CompletionStage} completes when all of them are saved.
+     *
+     * @param entities entities to be saved
+     * @return a {@link CompletionStage} with the saved entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entities is null
+     */
+    default CompletionStage<List<ColumnEntity>> insertAsync(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false).map(this::insertAsync));
+    }
+
+    /**
+     * Saves entities asynchronously with time to live, the returned {@link CompletionStage} completes when all
+     * of them are saved.
+     *
+     * @param entities entities to be saved
+     * @param ttl      time to live
+     * @return a {@link CompletionStage} with the saved entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when either entities or ttl are null
+     */
+    default CompletionStage<List<ColumnEntity>> insertAsync(Iterable<ColumnEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> insertAsync(e, ttl)));
+    }
+
+    /**
+     * Updates an entity asynchronously, by default it adapts {@link ColumnFamilyManagerAsync#update(ColumnEntity, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param entity entity to be updated
+     * @return a {@link CompletionStage} with the updated entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entity is null
+     */
+    default CompletionStage<ColumnEntity> updateAsync(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(callBack -> update(entity, callBack));
+    }
+
+    /**
+     * Updates entities asynchronously, the returned {@link CompletionStage} completes when all of them are updated.
+     *
+     * @param entities entities to be updated
+     * @return a {@link CompletionStage} with the updated entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entities is null
+     */
+    default CompletionStage<List<ColumnEntity>> updateAsync(Iterable<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false).map(this::updateAsync));
+    }
+
+    /**
+     * Deletes an entity asynchronously, by default it adapts {@link ColumnFamilyManagerAsync#delete(ColumnDeleteQuery, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param query select to delete an entity
+     * @return a {@link CompletionStage} completed when the entities are deleted
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when query is null
+     */
+    default CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> delete(query, callBack));
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select asynchronously, by default it adapts
+     * {@link ColumnFamilyManagerAsync#select(ColumnQuery, Consumer)} to a {@link CompletionStage}.
+     *
+     * @param query select to select entities
+     * @return a {@link CompletionStage} with the result of select
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when query is null
+     */
+    default CompletionStage<List<ColumnEntity>> selectAsync(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> select(query, callBack));
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from select as a {@link Publisher}, the entities are published according to the demand
+     * of the subscriber. By default it is the buffering adapter of {@link ColumnFamilyManagerAsync#select(ColumnQuery, Consumer)},
+     * that runs the select on the first request; the NoSQL vendors that page internally should replace it,
+     * e.g. using {@link Publishers#ofPages(long, Publishers.PageReader)}, so the demand drives the reads.
+     *
+     * @param query select to select entities
+     * @return a {@link Publisher} of the result of select
+     * @throws UnsupportedOperationException when the database does not support this feature
+     * @throws NullPointerException          when query is null
+     */
+    default Publisher<ColumnEntity> selectPublisher(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return Publishers.of(callBack -> select(query, callBack));
+    }
+
+    /**
+     * Returns a single entity from select asynchronously
+     *
+     * @param query select to figure out entities
+     * @return a {@link CompletionStage} with the entity, it completes exceptionally with
+     * {@link NonUniqueResultException} when the result has more than 1 entity
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Optional<ColumnEntity>> singleResultAsync(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.singleResult(selectAsync(query),
+                "The select returns more than one entity, select: " + query);
+    }
+
+    /**
+     * Executes a query asynchronously, by default it adapts {@link ColumnFamilyManagerAsync#query(String, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param query the query as {@link String}
+     * @return a {@link CompletionStage} with the result of the query
+     * @throws NullPointerException  when query is null
+     * @throws IllegalStateException when there is not {@link ColumnQueryParserAsync}
+     * @throws QueryException        when there is error in the syntax
+     */
+    default CompletionStage<List<ColumnEntity>> queryAsync(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> query(query, callBack));
+    }
+
+    /**
+     * Returns the number of elements from column family asynchronously
+     *
+     * @param columnFamily the column family
+     * @return a {@link CompletionStage} with the number of elements
+     * @throws NullPointerException          when columnFamily is null
+     * @throws UnsupportedOperationException when the database dot not have support
+     */
+    default CompletionStage<Long> countAsync(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return CompletionStages.of(callBack -> count(columnFamily, callBack));
+    }
+
     /**
      * closes a resource
      */
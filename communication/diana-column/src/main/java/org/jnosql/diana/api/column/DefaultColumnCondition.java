@@ -22,61 +22,79 @@ import org.jnosql.diana.api.Condition;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
-import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.diana.api.Condition.AND;
-import static org.jnosql.diana.api.Condition.BETWEEN;
-import static org.jnosql.diana.api.Condition.IN;
 import static org.jnosql.diana.api.Condition.NOT;
 import static org.jnosql.diana.api.Condition.OR;
 
 /**
- * The default implementation of {@link ColumnCondition}
+ * The default implementation of {@link ColumnCondition}.
+ * The {@link Condition#AND}, {@link Condition#OR} and {@link Condition#NOT} conditions keep their conditions
+ * in an array, and the {@link Column} view is created only when {@link #getColumn()} is called.
+ * A chain of {@link #and(ColumnCondition)} or {@link #or(ColumnCondition)} appends to the array
+ * the previous condition has created instead of copying it, so each one stays immutable
+ * while building n conditions takes O(n).
  */
 final class DefaultColumnCondition implements ColumnCondition {
 
-    private final Column column;
+    private static final int MIN_CAPACITY = 4;
 
     private final Condition condition;
 
+    private final ColumnCondition[] conditions;
+
+    private final int size;
+
+    private final AtomicInteger used;
+
+    private volatile Column column;
+
     private DefaultColumnCondition(Column column, Condition condition) {
         this.column = column;
         this.condition = condition;
+        this.conditions = null;
+        this.size = 0;
+        this.used = null;
     }
 
-    public static DefaultColumnCondition of(Column column, Condition condition) {
-        return new DefaultColumnCondition(requireNonNull(column, "Column is required"), condition);
-    }
-
-    static DefaultColumnCondition and(ColumnCondition... conditions) {
-        requireNonNull(conditions, "condition is required");
-        Column column = Column.of(AND.getNameField(), asList(conditions));
-        return DefaultColumnCondition.of(column, AND);
+    private DefaultColumnCondition(Condition condition, ColumnCondition[] conditions, int size,
+                                     AtomicInteger used) {
+        this.condition = condition;
+        this.conditions = conditions;
+        this.size = size;
+        this.used = used;
     }
 
-
-    static DefaultColumnCondition or(ColumnCondition... conditions) {
-        requireNonNull(conditions, "condition is required");
-        Column column = Column.of(OR.getNameField(), asList(conditions));
-        return DefaultColumnCondition.of(column, OR);
+    public static DefaultColumnCondition of(Column column, Condition condition) {
+        requireNonNull(column, "Column is required");
+        if (AND.equals(condition) || OR.equals(condition)) {
+            List<ColumnCondition> conditions = column.get(new TypeReference<List<ColumnCondition>>() {
+            });
+            return of(condition, conditions.toArray(new ColumnCondition[0]));
+        } else if (NOT.equals(condition)) {
+            return of(NOT, new ColumnCondition[]{column.get(ColumnCondition.class)});
+        }
+        return new DefaultColumnCondition(column, condition);
     }
 
-
-    static DefaultColumnCondition between(Column column) {
+    static ColumnCondition between(Column column) {
         Objects.requireNonNull(column, "column is required");
         checkBetweenClause(column.get());
-        return new DefaultColumnCondition(column, BETWEEN);
+        return new DefaultColumnCondition(column, Condition.BETWEEN);
     }
 
-    static DefaultColumnCondition in(Column column) {
+    static ColumnCondition in(Column column) {
         Objects.requireNonNull(column, "column is required");
-        checkInClause(column.getValue());
-        return new DefaultColumnCondition(column, IN);
+        Value value = column.getValue();
+        checkInClause(value);
+        return new DefaultColumnCondition(column, Condition.IN);
     }
 
     private static void checkInClause(Value value) {
@@ -90,31 +108,64 @@ final class DefaultColumnCondition implements ColumnCondition {
         if (Iterable.class.isInstance(value)) {
 
             long count = (int) StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).count();
+
             if (count != 2) {
                 throw new IllegalArgumentException("On Columncondition#between you must use an iterable" +
                         " with two elements");
             }
-
         } else {
             throw new IllegalArgumentException("On Columncondition#between you must use an iterable" +
                     " with two elements instead of class: " + value.getClass().getName());
         }
     }
 
+    static DefaultColumnCondition and(ColumnCondition... conditions) {
+        requireNonNull(conditions, "condition is required");
+        return of(AND, conditions.clone());
+    }
+
+
+    static DefaultColumnCondition or(ColumnCondition... conditions) {
+        requireNonNull(conditions, "condition is required");
+        return of(OR, conditions.clone());
+    }
+
+    private static DefaultColumnCondition of(Condition condition, ColumnCondition[] conditions) {
+        return new DefaultColumnCondition(condition, conditions, conditions.length,
+                new AtomicInteger(conditions.length));
+    }
+
+
     public Column getColumn() {
-        return column;
+        Column value = column;
+        if (value == null) {
+            if (NOT.equals(condition)) {
+                value = Column.of(NOT.getNameField(), conditions[0]);
+            } else {
+                value = Column.of(condition.getNameField(), getConditions());
+            }
+            column = value;
+        }
+        return value;
     }
 
     public Condition getCondition() {
         return condition;
     }
 
+    @Override
+    public List<ColumnCondition> getConditions() {
+        if (conditions == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(conditions).subList(0, size));
+    }
+
     @Override
     public ColumnCondition and(ColumnCondition condition) {
         requireNonNull(condition, "Conditions is required");
         if (AND.equals(this.condition)) {
-            Column newColumn = getConditions(condition, AND);
-            return new DefaultColumnCondition(newColumn, AND);
+            return append(condition);
         }
         return DefaultColumnCondition.and(this, condition);
     }
@@ -122,29 +173,29 @@ final class DefaultColumnCondition implements ColumnCondition {
     @Override
     public ColumnCondition negate() {
         if (NOT.equals(this.condition)) {
-            return this.column.get(ColumnCondition.class);
+            return conditions[0];
         } else {
-            Column newColumn = Column.of(NOT.getNameField(), this);
-            return new DefaultColumnCondition(newColumn, NOT);
+            return of(NOT, new ColumnCondition[]{this});
         }
-
     }
 
     @Override
     public ColumnCondition or(ColumnCondition condition) {
         requireNonNull(condition, "Condition is required");
         if (OR.equals(this.condition)) {
-            Column newColumn = getConditions(condition, OR);
-            return new DefaultColumnCondition(newColumn, OR);
+            return append(condition);
         }
         return DefaultColumnCondition.or(this, condition);
     }
 
-    private Column getConditions(ColumnCondition columnCondition, Condition condition) {
-        List<ColumnCondition> conditions = new ArrayList<>(column.get(new TypeReference<List<ColumnCondition>>() {
-        }));
-        conditions.add(columnCondition);
-        return Column.of(condition.getNameField(), conditions);
+    private DefaultColumnCondition append(ColumnCondition columnCondition) {
+        if (size < conditions.length && used.compareAndSet(size, size + 1)) {
+            conditions[size] = columnCondition;
+            return new DefaultColumnCondition(condition, conditions, size + 1, used);
+        }
+        ColumnCondition[] copy = Arrays.copyOf(conditions, Math.max(size * 2, MIN_CAPACITY));
+        copy[size] = columnCondition;
+        return new DefaultColumnCondition(condition, copy, size + 1, new AtomicInteger(size + 1));
     }
 
     @Override
@@ -156,19 +207,29 @@ final class DefaultColumnCondition implements ColumnCondition {
             return false;
         }
         ColumnCondition that = (ColumnCondition) o;
-        return Objects.equals(column, that.getColumn()) &&
-                condition == that.getCondition();
+        if (condition != that.getCondition()) {
+            return false;
+        }
+        if (conditions != null) {
+            return getConditions().equals(that.getConditions());
+        }
+        return Objects.equals(column, that.getColumn());
     }
 
     @Override
     public int hashCode() {
+        if (conditions != null) {
+            return Objects.hash(getConditions(), condition);
+        }
         return Objects.hash(column, condition);
     }
 
     @Override
     public String toString() {
-        return "DefaultColumnCondition{" + "column=" + column +
+        return "DefaultColumnCondition{" + "column=" + getColumn() +
                 ", condition=" + condition +
                 '}';
     }
+
+
 }
@@ -18,35 +18,68 @@ package org.jnosql.diana.api.column.query;
 
 import org.jnosql.diana.api.column.ColumnObserverParser;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.BiFunction;
 
-import static java.util.Collections.synchronizedMap;
-
+/**
+ * The queries converted by the parsers, kept at the concurrent and size-bounded
+ * {@link org.jnosql.aphrodite.antlr.cache.CacheQuery}. The observer changes the entity and field names,
+ * so the entries are keyed by both the query and the observer.
+ * The maximum size might be defined by the {@link CacheQuery#MAX_SIZE_PROPERTY} system property.
+ *
+ * @param <V> the cached value type
+ */
 final class CacheQuery<V> {
 
-    private final Map<String, V> store = synchronizedMap(new WeakHashMap<>());
-    private final BiFunction<String, ColumnObserverParser, V> supplier;
+    static final String MAX_SIZE_PROPERTY = "jnosql.query.cache.size";
+
+    static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private final org.jnosql.aphrodite.antlr.cache.CacheQuery<Key, V> store;
 
     CacheQuery(BiFunction<String, ColumnObserverParser, V> supplier) {
-        this.supplier = supplier;
+        this(supplier, Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+    }
+
+    CacheQuery(BiFunction<String, ColumnObserverParser, V> supplier, int maxSize) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        this.store = org.jnosql.aphrodite.antlr.cache.CacheQuery.of(k -> supplier.apply(k.query, k.observer), maxSize);
+    }
+
+    public V get(String query, ColumnObserverParser observer) {
+        return store.get(new Key(query, observer));
     }
 
+    int size() {
+        return store.size();
+    }
+
+    private static final class Key {
+
+        private final String query;
 
-    public V get(String key, ColumnObserverParser observer) {
-        V value = this.store.get(key);
-        if (Objects.isNull(value)) {
-            synchronized (key) {
-                value = supplier.apply(key, observer);
-                put(key, value);
+        private final ColumnObserverParser observer;
+
+        private Key(String query, ColumnObserverParser observer) {
+            this.query = query;
+            this.observer = observer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
             }
+            Key key = (Key) o;
+            return query.equals(key.query) && observer.equals(key.observer);
         }
-        return value;
-    }
 
-    private V put(String key, V value) {
-        return store.put(key, value);
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, observer);
+        }
     }
 }
@@ -17,7 +17,6 @@
 package org.jnosql.diana.api.column.query;
 
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
 import org.jnosql.diana.api.QueryException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
@@ -35,40 +34,27 @@ import static java.util.Collections.singletonList;
 
 final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
 
-    private final ColumnEntity entity;
-
-    private final ColumnQuery columnQuery;
-
-    private final ColumnDeleteQuery columnDeleteQuery;
+    private final PreparedStatementTemplate<?> template;
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final Object[] values;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final ColumnFamilyManager manager;
 
-    private DefaultColumnPreparedStatement(ColumnEntity entity,
-                                           ColumnQuery columnQuery,
-                                           ColumnDeleteQuery columnDeleteQuery,
+    private DefaultColumnPreparedStatement(PreparedStatementTemplate<?> template,
                                            PreparedStatementType type,
-                                           Params params,
                                            String query,
-                                           List<String> paramsLeft,
                                            Duration duration,
                                            ColumnFamilyManager manager) {
-        this.entity = entity;
-        this.columnQuery = columnQuery;
-        this.columnDeleteQuery = columnDeleteQuery;
+        this.template = template;
         this.type = type;
-        this.params = params;
+        this.values = new Object[template.size()];
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
     }
@@ -78,29 +64,33 @@ final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int slot = template.getSlot(name);
+        if (slot != PreparedStatementTemplate.NOT_FOUND) {
+            values[slot] = value;
+        }
         return this;
     }
 
     @Override
     public List<ColumnEntity> getResultList() {
+        List<String> paramsLeft = template.getParamsLeft(values);
         if (!paramsLeft.isEmpty()) {
             throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
         }
+        Object value = template.bind(values);
         switch (type) {
             case SELECT:
-                return manager.select(columnQuery);
+                return manager.select((ColumnQuery) value);
             case DELETE:
-                manager.delete(columnDeleteQuery);
+                manager.delete((ColumnDeleteQuery) value);
                 return emptyList();
             case UPDATE:
-                return singletonList(manager.update(entity));
+                return singletonList(manager.update((ColumnEntity) value));
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    return singletonList(manager.insert(entity));
+                    return singletonList(manager.insert((ColumnEntity) value));
                 } else {
-                    return singletonList(manager.insert(entity, duration));
+                    return singletonList(manager.insert((ColumnEntity) value, duration));
                 }
             default:
                 throw new UnsupportedOperationException("there is not support to operation type: " + type);
@@ -132,45 +122,33 @@ final class DefaultColumnPreparedStatement implements ColumnPreparedStatement {
     }
 
     static ColumnPreparedStatement select(
-            ColumnQuery columnQuery,
-            Params params,
+            PreparedStatementTemplate<ColumnQuery> template,
             String query,
             ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(null, columnQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultColumnPreparedStatement(template, PreparedStatementType.SELECT, query, null, manager);
 
     }
 
-    static ColumnPreparedStatement delete(ColumnDeleteQuery columnDeleteQuery,
-                                          Params params,
+    static ColumnPreparedStatement delete(PreparedStatementTemplate<ColumnDeleteQuery> template,
                                           String query,
                                           ColumnFamilyManager manager) {
 
-        return new DefaultColumnPreparedStatement(null, null,
-                columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultColumnPreparedStatement(template, PreparedStatementType.DELETE, query, null, manager);
 
     }
 
-    static ColumnPreparedStatement insert(ColumnEntity entity,
-                                          Params params,
+    static ColumnPreparedStatement insert(PreparedStatementTemplate<ColumnEntity> template,
                                           String query,
                                           Duration duration,
                                           ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+        return new DefaultColumnPreparedStatement(template, PreparedStatementType.INSERT, query, duration, manager);
 
     }
 
-    static ColumnPreparedStatement update(ColumnEntity entity,
-                                          Params params,
+    static ColumnPreparedStatement update(PreparedStatementTemplate<ColumnEntity> template,
                                           String query,
                                           ColumnFamilyManager manager) {
-        return new DefaultColumnPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultColumnPreparedStatement(template, PreparedStatementType.UPDATE, query, null, manager);
 
     }
 }
@@ -17,7 +17,6 @@
 package org.jnosql.diana.api.column.query;
 
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
 import org.jnosql.diana.api.QueryException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
@@ -34,40 +33,27 @@ import java.util.function.Consumer;
 
 final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStatementAsync {
 
-    private final ColumnEntity entity;
-
-    private final ColumnQuery columnQuery;
-
-    private final ColumnDeleteQuery columnDeleteQuery;
+    private final PreparedStatementTemplate<?> template;
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final Object[] values;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final ColumnFamilyManagerAsync manager;
 
-    private DefaultColumnPreparedStatementAsync(ColumnEntity entity,
-                                                ColumnQuery columnQuery,
-                                                ColumnDeleteQuery columnDeleteQuery,
+    private DefaultColumnPreparedStatementAsync(PreparedStatementTemplate<?> template,
                                                 PreparedStatementType type,
-                                                Params params,
                                                 String query,
-                                                List<String> paramsLeft,
                                                 Duration duration,
                                                 ColumnFamilyManagerAsync manager) {
-        this.entity = entity;
-        this.columnQuery = columnQuery;
-        this.columnDeleteQuery = columnDeleteQuery;
+        this.template = template;
         this.type = type;
-        this.params = params;
+        this.values = new Object[template.size()];
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
     }
@@ -77,8 +63,10 @@ final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStateme
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int slot = template.getSlot(name);
+        if (slot != PreparedStatementTemplate.NOT_FOUND) {
+            values[slot] = value;
+        }
         return this;
     }
 
@@ -86,24 +74,27 @@ final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStateme
     public void getResultList(Consumer<List<ColumnEntity>> callBack) {
         Objects.requireNonNull(callBack, "callBack is required");
 
+        List<String> paramsLeft = template.getParamsLeft(values);
         if (!paramsLeft.isEmpty()) {
             throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
         }
+        Object value = template.bind(values);
         switch (type) {
             case SELECT:
-                manager.select(columnQuery, callBack);
+                manager.select((ColumnQuery) value, callBack);
                 return;
             case DELETE:
-                manager.delete(columnDeleteQuery, c -> callBack.accept(Collections.emptyList()));
+                manager.delete((ColumnDeleteQuery) value, c -> callBack.accept(Collections.emptyList()));
                 return;
             case UPDATE:
-                manager.update(entity, c -> callBack.accept(Collections.singletonList(c)));
+                manager.update((ColumnEntity) value, c -> callBack.accept(Collections.singletonList(c)));
                 return;
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    manager.insert(entity, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert((ColumnEntity) value, c -> callBack.accept(Collections.singletonList(c)));
                 } else {
-                    manager.insert(entity, duration, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert((ColumnEntity) value, duration,
+                            c -> callBack.accept(Collections.singletonList(c)));
                 }
                 return;
             default:
@@ -139,46 +130,35 @@ final class DefaultColumnPreparedStatementAsync implements ColumnPreparedStateme
         return query;
     }
 
-    static ColumnPreparedStatementAsync select(
-            ColumnQuery columnQuery,
-            Params params,
+    static DefaultColumnPreparedStatementAsync select(
+            PreparedStatementTemplate<ColumnQuery> template,
             String query,
             ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(null, columnQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultColumnPreparedStatementAsync(template, PreparedStatementType.SELECT, query, null, manager);
 
     }
 
-    static ColumnPreparedStatementAsync delete(ColumnDeleteQuery columnDeleteQuery,
-                                               Params params,
-                                               String query,
-                                               ColumnFamilyManagerAsync manager) {
+    static DefaultColumnPreparedStatementAsync delete(PreparedStatementTemplate<ColumnDeleteQuery> template,
+                                                      String query,
+                                                      ColumnFamilyManagerAsync manager) {
 
-        return new DefaultColumnPreparedStatementAsync(null, null,
-                columnDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultColumnPreparedStatementAsync(template, PreparedStatementType.DELETE, query, null, manager);
 
     }
 
-    static ColumnPreparedStatementAsync insert(ColumnEntity entity,
-                                               Params params,
-                                               String query,
-                                               Duration duration,
-                                               ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+    static DefaultColumnPreparedStatementAsync insert(PreparedStatementTemplate<ColumnEntity> template,
+                                                      String query,
+                                                      Duration duration,
+                                                      ColumnFamilyManagerAsync manager) {
+        return new DefaultColumnPreparedStatementAsync(template, PreparedStatementType.INSERT, query, duration,
+                manager);
 
     }
 
-    static ColumnPreparedStatementAsync update(ColumnEntity entity,
-                                               Params params,
-                                               String query,
-                                               ColumnFamilyManagerAsync manager) {
-        return new DefaultColumnPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultColumnPreparedStatementAsync update(PreparedStatementTemplate<ColumnEntity> template,
+                                                      String query,
+                                                      ColumnFamilyManagerAsync manager) {
+        return new DefaultColumnPreparedStatementAsync(template, PreparedStatementType.UPDATE, query, null, manager);
 
     }
-}
\ No newline at end of file
+}
@@ -40,10 +40,12 @@ final class DeleteQueryParser implements DeleteQueryConverter{
 
     private final DeleteQuerySupplier selectQuerySupplier;
     private final CacheQuery<ColumnDeleteQuery> cache;
+    private final CacheQuery<PreparedStatementTemplate<ColumnDeleteQuery>> templates;
 
     DeleteQueryParser() {
         this.selectQuerySupplier = DeleteQuerySupplier.getSupplier();
         cache = new CacheQuery<>(this::getQuery);
+        templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
@@ -62,18 +64,15 @@ final class DeleteQueryParser implements DeleteQueryConverter{
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager,
                                     ColumnObserverParser observer) {
-        Params params = new Params();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
-        return DefaultColumnPreparedStatement.delete(columnDeleteQuery, params, query, manager);
+        PreparedStatementTemplate<ColumnDeleteQuery> template = templates.get(query, observer);
+        return DefaultColumnPreparedStatement.delete(template, query, manager);
     }
 
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
-        ColumnDeleteQuery columnDeleteQuery = getQuery(query, params, observer);
-        return DefaultColumnPreparedStatementAsync.delete(columnDeleteQuery, params, query, manager);
-
+        PreparedStatementTemplate<ColumnDeleteQuery> template = templates.get(query, observer);
+        return DefaultColumnPreparedStatementAsync.delete(template, query, manager);
     }
 
     @Override
@@ -87,10 +86,9 @@ final class DeleteQueryParser implements DeleteQueryConverter{
         return new DefaultColumnDeleteQueryParams(query, params);
     }
 
-    private ColumnDeleteQuery getQuery(String query, Params params, ColumnObserverParser observer) {
+    private PreparedStatementTemplate<ColumnDeleteQuery> getTemplate(String query, ColumnObserverParser observer) {
         DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
+        return PreparedStatementTemplate.of(params -> getQuery(params, observer, deleteQuery));
     }
 
     private ColumnDeleteQuery getQuery(Params params, ColumnObserverParser observer, DeleteQuery deleteQuery) {
@@ -38,9 +38,11 @@ import static java.util.Collections.singletonList;
 final class InsertQueryParser {
 
     private final InsertQuerySupplier supplier;
+    private final CacheQuery<PreparedStatementTemplate<ColumnEntity>> templates;
 
     InsertQueryParser() {
         this.supplier = InsertQuerySupplier.getSupplier();
+        this.templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
@@ -90,26 +92,27 @@ final class InsertQueryParser {
                                     ColumnObserverParser observer) {
         InsertQuery insertQuery = supplier.apply(query);
 
-        String columnFamily = observer.fireEntity(insertQuery.getEntity());
-        Params params = new Params();
-
         Optional<Duration> ttl = insertQuery.getTtl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
+        PreparedStatementTemplate<ColumnEntity> template = templates.get(query, observer);
 
-        return DefaultColumnPreparedStatement.insert(entity, params, query, ttl.orElse(null), manager);
+        return DefaultColumnPreparedStatement.insert(template, query, ttl.orElse(null), manager);
 
     }
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
-
         InsertQuery insertQuery = supplier.apply(query);
-        String columnFamily = observer.fireEntity(insertQuery.getEntity());
+
         Optional<Duration> ttl = insertQuery.getTtl();
-        ColumnEntity entity = getEntity(insertQuery, columnFamily, params, observer);
+        PreparedStatementTemplate<ColumnEntity> template = templates.get(query, observer);
+
+        return DefaultColumnPreparedStatementAsync.insert(template, query, ttl.orElse(null), manager);
+    }
 
-        return DefaultColumnPreparedStatementAsync.insert(entity, params, query, ttl.orElse(null), manager);
+    private PreparedStatementTemplate<ColumnEntity> getTemplate(String query, ColumnObserverParser observer) {
+        InsertQuery insertQuery = supplier.apply(query);
+        String columnFamily = observer.fireEntity(insertQuery.getEntity());
+        return PreparedStatementTemplate.of(params -> getEntity(insertQuery, columnFamily, params, observer));
     }
 
     private ColumnEntity getEntity(InsertQuery insertQuery, String columnFamily, Params params,
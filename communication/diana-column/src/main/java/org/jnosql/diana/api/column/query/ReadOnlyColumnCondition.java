@@ -20,6 +20,7 @@ import org.jnosql.diana.api.Condition;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 
+import java.util.List;
 import java.util.Objects;
 
 class ReadOnlyColumnCondition implements ColumnCondition {
@@ -40,6 +41,11 @@ class ReadOnlyColumnCondition implements ColumnCondition {
         return condition.getCondition();
     }
 
+    @Override
+    public List<ColumnCondition> getConditions() {
+        return condition.getConditions();
+    }
+
     @Override
     public ColumnCondition and(ColumnCondition condition) {
         throw new IllegalStateException("You cannot change the status after building the query");
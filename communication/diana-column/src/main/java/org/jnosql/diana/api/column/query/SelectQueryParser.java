@@ -43,10 +43,12 @@ final class SelectQueryParser implements SelectQueryConverter {
 
     private final SelectQuerySupplier selectQuerySupplier;
     private final CacheQuery<ColumnQuery> cache;
+    private final CacheQuery<PreparedStatementTemplate<ColumnQuery>> templates;
 
     SelectQueryParser() {
         this.selectQuerySupplier = SelectQuerySupplier.getSupplier();
         this.cache = new CacheQuery<>(this::getColumnQuery);
+        this.templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
@@ -64,12 +66,8 @@ final class SelectQueryParser implements SelectQueryConverter {
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        Params params = new Params();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return DefaultColumnPreparedStatement.select(columnQuery, params, query, manager);
+        PreparedStatementTemplate<ColumnQuery> template = templates.get(query, observer);
+        return DefaultColumnPreparedStatement.select(template, query, manager);
     }
 
 
@@ -85,12 +83,14 @@ final class SelectQueryParser implements SelectQueryConverter {
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
 
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
+        PreparedStatementTemplate<ColumnQuery> template = templates.get(query, observer);
+        return DefaultColumnPreparedStatementAsync.select(template, query, manager);
+    }
 
-        ColumnQuery columnQuery = getColumnQuery(params, selectQuery, observer);
-        return DefaultColumnPreparedStatementAsync.select(columnQuery, params, query, manager);
+    private PreparedStatementTemplate<ColumnQuery> getTemplate(String query, ColumnObserverParser observer) {
+        SelectQuery selectQuery = selectQuerySupplier.apply(query);
+        return PreparedStatementTemplate.of(params -> getColumnQuery(params, selectQuery, observer));
     }
 
     private ColumnQuery getColumnQuery(String query, ColumnObserverParser observer) {
@@ -36,9 +36,11 @@ import static java.util.Collections.singletonList;
 final class UpdateQueryParser {
 
     private final UpdateQuerySupplier supplier;
+    private final CacheQuery<PreparedStatementTemplate<ColumnEntity>> templates;
 
     UpdateQueryParser() {
         this.supplier = UpdateQuerySupplier.getSupplier();
+        this.templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<ColumnEntity> query(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
@@ -72,23 +74,20 @@ final class UpdateQueryParser {
 
     ColumnPreparedStatement prepare(String query, ColumnFamilyManager manager, ColumnObserverParser observer) {
 
-        Params params = new Params();
-
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
-
-        return DefaultColumnPreparedStatement.update(entity, params, query, manager);
+        PreparedStatementTemplate<ColumnEntity> template = templates.get(query, observer);
+        return DefaultColumnPreparedStatement.update(template, query, manager);
     }
 
     ColumnPreparedStatementAsync prepareAsync(String query, ColumnFamilyManagerAsync manager,
                                               ColumnObserverParser observer) {
-        Params params = new Params();
-        UpdateQuery updateQuery = supplier.apply(query);
 
-        ColumnEntity entity = getEntity(params, updateQuery, observer);
+        PreparedStatementTemplate<ColumnEntity> template = templates.get(query, observer);
+        return DefaultColumnPreparedStatementAsync.update(template, query, manager);
+    }
 
-        return DefaultColumnPreparedStatementAsync.update(entity, params, query, manager);
+    private PreparedStatementTemplate<ColumnEntity> getTemplate(String query, ColumnObserverParser observer) {
+        UpdateQuery updateQuery = supplier.apply(query);
+        return PreparedStatementTemplate.of(params -> getEntity(params, updateQuery, observer));
     }
 
     private ColumnEntity getEntity(Params params, UpdateQuery updateQuery, ColumnObserverParser observer) {
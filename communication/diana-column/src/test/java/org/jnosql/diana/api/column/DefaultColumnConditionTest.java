@@ -24,14 +24,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.jnosql.diana.api.Condition.AND;
 import static org.jnosql.diana.api.Condition.OR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class DefaultColumnConditionTest {
@@ -243,4 +246,88 @@ public class DefaultColumnConditionTest {
         assertThat(integers, contains(12, 13));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldKeepTheConditionsImmutableWhenAppend() {
+        ColumnCondition age = ColumnCondition.eq(Column.of("age", 26));
+        ColumnCondition name = ColumnCondition.eq(Column.of("name", "Ada"));
+        ColumnCondition city = ColumnCondition.eq(Column.of("city", "London"));
+        ColumnCondition country = ColumnCondition.eq(Column.of("country", "UK"));
+
+        ColumnCondition and = age.and(name);
+        ColumnCondition andCity = and.and(city);
+        ColumnCondition andCountry = and.and(country);
+
+        assertThat(and.getConditions(), contains(age, name));
+        assertThat(andCity.getConditions(), contains(age, name, city));
+        assertThat(andCountry.getConditions(), contains(age, name, country));
+        List<ColumnCondition> conditions = andCity.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertThat(conditions, contains(age, name, city));
+    }
+
+    @Test
+    public void shouldAppendManyConditions() {
+        ColumnCondition condition = ColumnCondition.eq(Column.of("id", 0));
+        for (int index = 1; index < 100; index++) {
+            condition = condition.or(ColumnCondition.eq(Column.of("id", index)));
+        }
+        assertEquals(OR, condition.getCondition());
+        assertEquals(100, condition.getConditions().size());
+        assertEquals(ColumnCondition.eq(Column.of("id", 99)), condition.getConditions().get(99));
+    }
+
+    @Test
+    public void shouldReturnConditions() {
+        ColumnCondition age = ColumnCondition.eq(Column.of("age", 26));
+        assertTrue(age.getConditions().isEmpty());
+        assertThat(age.negate().getConditions(), contains(age));
+        assertThrows(UnsupportedOperationException.class, () -> age.negate().getConditions().add(age));
+    }
+
+    @Test
+    public void shouldReturnConditionsFromAndOr() {
+        ColumnCondition age = ColumnCondition.eq(Column.of("age", 26));
+        ColumnCondition name = ColumnCondition.eq(Column.of("name", "Ada"));
+        ColumnCondition city = ColumnCondition.eq(Column.of("city", "London"));
+
+        assertThat(ColumnCondition.and(age, name, city).getConditions(), contains(age, name, city));
+        assertThat(ColumnCondition.or(age, name).getConditions(), contains(age, name));
+        assertThat(age.and(name).or(city).getConditions(), contains(age.and(name), city));
+        assertThrows(UnsupportedOperationException.class, () -> age.and(name).getConditions().add(city));
+    }
+
+    @Test
+    public void shouldKeepColumnAndConditionsInSyncAfterChains() {
+        ColumnCondition age = ColumnCondition.eq(Column.of("age", 26));
+        ColumnCondition name = ColumnCondition.eq(Column.of("name", "Ada"));
+        ColumnCondition city = ColumnCondition.eq(Column.of("city", "London"));
+        ColumnCondition country = ColumnCondition.eq(Column.of("country", "UK"));
+
+        List<ColumnCondition> chains = Arrays.asList(age.and(name), age.and(name).and(city),
+                age.or(name).or(city), age.and(name).or(city), age.or(name).and(city).and(country),
+                ColumnCondition.and(age, name).and(city), ColumnCondition.or(age, name).or(city).or(country));
+
+        for (ColumnCondition condition : chains) {
+            List<ColumnCondition> fromColumn = condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+            });
+            assertEquals(fromColumn, condition.getConditions());
+        }
+
+        ColumnCondition negate = age.and(name).negate();
+        assertEquals(singletonList(negate.getColumn().get(ColumnCondition.class)), negate.getConditions());
+    }
+
+    @Test
+    public void shouldBeEqualsWhenTheChainsHaveTheSameConditions() {
+        ColumnCondition age = ColumnCondition.eq(Column.of("age", 26));
+        ColumnCondition name = ColumnCondition.eq(Column.of("name", "Ada"));
+        ColumnCondition city = ColumnCondition.eq(Column.of("city", "London"));
+
+        ColumnCondition chain = age.and(name).and(city);
+        ColumnCondition and = ColumnCondition.and(age, name, city);
+        assertEquals(and, chain);
+        assertEquals(and.hashCode(), chain.hashCode());
+        assertEquals(and.getColumn(), chain.getColumn());
+        assertNotEquals(ColumnCondition.or(age, name, city), chain);
+    }
+}
@@ -37,6 +37,7 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -520,6 +521,54 @@ public class SelectQueryParserTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldCreateNewQueryToEachExecution(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+
+        ColumnPreparedStatement first = parser.prepare(query, manager, observer);
+        ColumnPreparedStatement second = parser.prepare(query, manager, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+        first.bind("age", 30);
+        first.getResultList();
+        Mockito.verify(manager, Mockito.times(3)).select(captor.capture());
+        List<Object> ages = captor.getAllValues().stream()
+                .map(ColumnQuery::getCondition)
+                .map(c -> c.get().getColumn().get())
+                .collect(Collectors.toList());
+        assertThat(ages, contains(12, 20, 30));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldUseTheObserverOfEachPrepare(String query) {
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        ColumnObserverParser mapper = new ColumnObserverParser() {
+            @Override
+            public String fireEntity(String entity) {
+                return "Gods";
+            }
+
+            @Override
+            public String fireField(String entity, String field) {
+                return "god_" + field;
+            }
+        };
+
+        parser.prepare(query, manager, mapper).bind("age", 12).getResultList();
+        parser.prepare(query, manager, observer).bind("age", 20).getResultList();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+
+        assertEquals("Gods", queries.get(0).getColumnFamily());
+        assertEquals("god_age", queries.get(0).getCondition().get().getColumn().getName());
+        assertEquals("God", queries.get(1).getColumnFamily());
+        assertEquals("age", queries.get(1).getCondition().get().getColumn().getName());
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = @age"})
     public void shouldReturnErrorWhenIsQueryWithParamAsync(String query) {
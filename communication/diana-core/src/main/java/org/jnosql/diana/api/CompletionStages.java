@@ -0,0 +1,96 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Utilitarian class to the {@link CompletionStage} operations of the asynchronous APIs, it adapts the
+ * callback methods to a {@link CompletionStage} and aggregates the completion of the batch operations.
+ */
+public final class CompletionStages {
+
+    private CompletionStages() {
+    }
+
+    /**
+     * Adapts a callback operation to a {@link CompletionStage}, the stage completes when the operation
+     * calls the callback, and completes exceptionally when the operation throws.
+     *
+     * @param operation the operation that receives the callback
+     * @param <T>       the result type
+     * @return a {@link CompletionStage} completed by the callback
+     * @throws NullPointerException when operation is null
+     */
+    public static <T> CompletionStage<T> of(Consumer<Consumer<T>> operation) {
+        Objects.requireNonNull(operation, "operation is required");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            operation.accept(future::complete);
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    /**
+     * Returns a {@link CompletionStage} that completes when all the stages complete, with their results
+     * in the same order; it completes exceptionally when any of them does.
+     *
+     * @param stages the stages
+     * @param <T>    the result type
+     * @return the aggregate {@link CompletionStage}
+     * @throws NullPointerException when stages is null
+     */
+    public static <T> CompletionStage<List<T>> allOf(Stream<? extends CompletionStage<T>> stages) {
+        Objects.requireNonNull(stages, "stages is required");
+        List<CompletableFuture<T>> futures = stages.map(CompletionStage::toCompletableFuture).collect(toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(toList()));
+    }
+
+    /**
+     * Returns the single element of the list, or completes exceptionally with {@link NonUniqueResultException}
+     * when there is more than one.
+     *
+     * @param stage   the stage with the list
+     * @param message the message when there is more than one element
+     * @param <T>     the element type
+     * @return a {@link CompletionStage} with the single element
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T> CompletionStage<Optional<T>> singleResult(CompletionStage<List<T>> stage, String message) {
+        Objects.requireNonNull(stage, "stage is required");
+        Objects.requireNonNull(message, "message is required");
+        return stage.thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            } else if (entities.size() == 1) {
+                return Optional.ofNullable(entities.get(0));
+            }
+            throw new NonUniqueResultException(message);
+        });
+    }
+}
@@ -17,7 +17,10 @@
 package org.jnosql.diana.api;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -30,6 +33,8 @@ public class Params {
 
     private final List<ParamValue> parameters = new ArrayList<>();
 
+    private final Map<String, List<ParamValue>> parametersByName = new HashMap<>();
+
     /**
      * @return if the params list is not empty
      */
@@ -46,6 +51,7 @@ public class Params {
     public Value add(String param) {
         ParamValue value = new ParamValue(param);
         parameters.add(value);
+        parametersByName.computeIfAbsent(param, k -> new ArrayList<>(1)).add(value);
         return value;
     }
 
@@ -68,6 +74,6 @@ public class Params {
      * @param value
      */
     public void bind(String name, Object value) {
-        parameters.stream().filter(p -> p.getName().equals(name)).forEach(p -> p.setValue(value));
+        parametersByName.getOrDefault(name, Collections.emptyList()).forEach(p -> p.setValue(value));
     }
 }
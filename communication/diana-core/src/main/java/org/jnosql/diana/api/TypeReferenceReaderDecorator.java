@@ -18,12 +18,18 @@
 package org.jnosql.diana.api;
 
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Decorators of all {@link TypeReferenceReader} supported by Diana
+ * Decorators of all {@link TypeReferenceReader} supported by Diana.
+ * The reader to each {@link Type}, the raw type with its type arguments, is found once and then kept
+ * in a dispatch table.
  *
  * @see ValueReader
  */
@@ -33,6 +39,8 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    private final Map<Type, Optional<TypeReferenceReader>> dispatch = new ConcurrentHashMap<>();
+
     {
         ServiceLoader.load(TypeReferenceReader.class).forEach(readers::add);
     }
@@ -43,17 +51,27 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public <T> boolean isCompatible(TypeSupplier<T> type) {
-        return readers.stream().anyMatch(r -> r.isCompatible(type));
+        return getReader(type).isPresent();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.isCompatible(typeReference)).findFirst().
+        TypeReferenceReader valueReader = getReader(typeReference).
                 orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
         return valueReader.convert(typeReference, value);
     }
 
+    private <T> Optional<TypeReferenceReader> getReader(TypeSupplier<T> typeReference) {
+        Type type = typeReference.get();
+        Optional<TypeReferenceReader> reader = dispatch.get(type);
+        if (reader == null) {
+            reader = dispatch.computeIfAbsent(type,
+                    t -> readers.stream().filter(r -> r.isCompatible(typeReference)).findFirst());
+        }
+        return reader;
+    }
+
     @Override
     public String toString() {
         return  "TypeReferenceReaderDecorator{" + "readers=" + readers +
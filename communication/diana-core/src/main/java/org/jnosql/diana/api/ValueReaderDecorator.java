@@ -19,19 +19,39 @@ package org.jnosql.diana.api;
 
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Decorators of all {@link ValueReader} supported by Diana
+ * Decorators of all {@link ValueReader} supported by Diana.
+ * The reader to each class is found once and then kept in a dispatch table.
  * @see ValueReader
  */
 public final class ValueReaderDecorator implements ValueReader {
 
     private static final ValueReaderDecorator INSTANCE = new ValueReaderDecorator();
 
+    private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>();
+
+    static {
+        WRAPPERS.put(boolean.class, Boolean.class);
+        WRAPPERS.put(byte.class, Byte.class);
+        WRAPPERS.put(char.class, Character.class);
+        WRAPPERS.put(short.class, Short.class);
+        WRAPPERS.put(int.class, Integer.class);
+        WRAPPERS.put(long.class, Long.class);
+        WRAPPERS.put(float.class, Float.class);
+        WRAPPERS.put(double.class, Double.class);
+    }
+
     private final List<ValueReader> readers = new ArrayList<>();
 
+    private final Map<Class<?>, Optional<ValueReader>> dispatch = new ConcurrentHashMap<>();
+
     {
         ServiceLoader.load(ValueReader.class).forEach(readers::add);
     }
@@ -42,7 +62,7 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean isCompatible(Class clazz) {
-        return readers.stream().anyMatch(r -> r.isCompatible(clazz));
+        return getReader(clazz).isPresent();
     }
 
     @Override
@@ -50,11 +70,23 @@ public final class ValueReaderDecorator implements ValueReader {
         if (clazz.isInstance(value)) {
             return clazz.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.isCompatible(clazz)).findFirst().orElseThrow(
+        if (clazz.isPrimitive() && value != null && value.getClass().equals(WRAPPERS.get(clazz))) {
+            return (T) value;
+        }
+        ValueReader valueReader = getReader(clazz).orElseThrow(
             () -> new UnsupportedOperationException("The type " + clazz + " is not supported yet"));
         return valueReader.read(clazz, value);
     }
 
+    private Optional<ValueReader> getReader(Class<?> clazz) {
+        Optional<ValueReader> reader = dispatch.get(clazz);
+        if (reader == null) {
+            reader = dispatch.computeIfAbsent(clazz,
+                    c -> readers.stream().filter(r -> r.isCompatible(c)).findFirst());
+        }
+        return reader;
+    }
+
     @Override
     public String toString() {
         return  "ValueReaderDecorator{" + "readers=" + readers +
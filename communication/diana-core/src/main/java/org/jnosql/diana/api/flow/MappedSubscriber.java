@@ -0,0 +1,79 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.flow;
+
+import java.util.function.Function;
+
+/**
+ * The {@link Subscriber} that maps the elements to the downstream subscriber, when the mapper fails it cancels
+ * the upstream subscription and sends the error downstream.
+ */
+final class MappedSubscriber<T, R> implements Subscriber<T> {
+
+    private final Subscriber<? super R> downstream;
+
+    private final Function<? super T, ? extends R> mapper;
+
+    private Subscription subscription;
+
+    private boolean done;
+
+    MappedSubscriber(Subscriber<? super R> downstream, Function<? super T, ? extends R> mapper) {
+        this.downstream = downstream;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.subscription = subscription;
+        downstream.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        R value;
+        try {
+            value = mapper.apply(item);
+        } catch (RuntimeException exception) {
+            subscription.cancel();
+            onError(exception);
+            return;
+        }
+        downstream.onNext(value);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onComplete();
+    }
+}
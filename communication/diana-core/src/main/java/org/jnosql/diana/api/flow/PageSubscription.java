@@ -0,0 +1,141 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.flow;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link Subscription} that reads the pages on demand. All the signals to the subscriber go through
+ * {@link PageSubscription#drain()}, which only one thread runs at a time.
+ */
+final class PageSubscription<T> implements Subscription {
+
+    private final Subscriber<? super T> subscriber;
+
+    private final Publishers.PageReader<T> reader;
+
+    private final long pageSize;
+
+    private final Queue<T> elements = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong demand = new AtomicLong();
+
+    private final AtomicInteger work = new AtomicInteger();
+
+    private final AtomicBoolean reading = new AtomicBoolean();
+
+    private volatile long offset;
+
+    private volatile boolean exhausted;
+
+    private volatile boolean cancelled;
+
+    private volatile Throwable error;
+
+    private boolean done;
+
+    PageSubscription(Subscriber<? super T> subscriber, Publishers.PageReader<T> reader, long pageSize) {
+        this.subscriber = subscriber;
+        this.reader = reader;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            error = new IllegalArgumentException("The request must be greater than zero: " + n);
+        } else {
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    private void read() {
+        try {
+            reader.read(offset, pageSize, this::onPage);
+        } catch (RuntimeException exception) {
+            error = exception;
+            reading.set(false);
+            drain();
+        }
+    }
+
+    private void onPage(List<T> page) {
+        elements.addAll(page);
+        offset += page.size();
+        if (page.size() < pageSize) {
+            exhausted = true;
+        }
+        reading.set(false);
+        drain();
+    }
+
+    private void drain() {
+        if (work.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (done) {
+                elements.clear();
+            } else if (cancelled) {
+                done = true;
+                elements.clear();
+            } else if (error != null) {
+                done = true;
+                elements.clear();
+                subscriber.onError(error);
+            } else {
+                emit();
+            }
+            missed = work.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit() {
+        while (demand.get() > 0 && !cancelled) {
+            T element = elements.poll();
+            if (element == null) {
+                break;
+            }
+            if (demand.get() != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            subscriber.onNext(element);
+        }
+        if (cancelled || !elements.isEmpty() || reading.get()) {
+            return;
+        }
+        if (exhausted) {
+            done = true;
+            subscriber.onComplete();
+        } else if (demand.get() > 0 && reading.compareAndSet(false, true)) {
+            read();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.flow;
+
+/**
+ * A provider of a potentially unbounded number of elements, publishing them according to the demand received
+ * from its {@link Subscriber}s.
+ *
+ * @param <T> the element type
+ */
+@FunctionalInterface
+public interface Publisher<T> {
+
+    /**
+     * Requests the {@link Publisher} to start streaming the elements, the {@link Subscriber} receives a
+     * {@link Subscription} and no element is published until it signals demand on it.
+     *
+     * @param subscriber the subscriber
+     * @throws NullPointerException when subscriber is null
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
@@ -0,0 +1,108 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.flow;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Utilitarian class to create and to transform {@link Publisher} instances.
+ */
+public final class Publishers {
+
+    private Publishers() {
+    }
+
+    /**
+     * Creates a {@link Publisher} from an operation that delivers the whole result at once through a callback,
+     * it is the buffering adapter to the drivers that do not page internally. The operation runs once, when
+     * the subscriber requests the first element, and the result is published according to the demand.
+     *
+     * @param operation the operation that receives the callback
+     * @param <T>       the element type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when operation is null
+     */
+    public static <T> Publisher<T> of(Consumer<Consumer<List<T>>> operation) {
+        Objects.requireNonNull(operation, "operation is required");
+        return ofPages(Long.MAX_VALUE, (offset, size, callback) -> operation.accept(callback));
+    }
+
+    /**
+     * Creates a {@link Publisher} to the drivers that page internally, a page is only read when the subscriber
+     * has demand that the elements already read do not fulfill, so at most one page is held in memory.
+     * The result ends when a page returns fewer elements than the page size.
+     *
+     * @param pageSize the page size
+     * @param reader   the page reader
+     * @param <T>      the element type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException     when reader is null
+     * @throws IllegalArgumentException when pageSize is not positive
+     */
+    public static <T> Publisher<T> ofPages(long pageSize, PageReader<T> reader) {
+        Objects.requireNonNull(reader, "reader is required");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero: " + pageSize);
+        }
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is required");
+            PageSubscription<T> subscription = new PageSubscription<>(subscriber, reader, pageSize);
+            subscriber.onSubscribe(subscription);
+        };
+    }
+
+    /**
+     * Returns a {@link Publisher} that applies the mapper to each element of the publisher, the demand and
+     * the cancellation go straight to the source publisher.
+     *
+     * @param publisher the source publisher
+     * @param mapper    the mapper
+     * @param <T>       the source element type
+     * @param <R>       the mapped element type
+     * @return a {@link Publisher} instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static <T, R> Publisher<R> map(Publisher<T> publisher, Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(publisher, "publisher is required");
+        Objects.requireNonNull(mapper, "mapper is required");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is required");
+            publisher.subscribe(new MappedSubscriber<>(subscriber, mapper));
+        };
+    }
+
+    /**
+     * Reads a page of a result asynchronously.
+     *
+     * @param <T> the element type
+     */
+    @FunctionalInterface
+    public interface PageReader<T> {
+
+        /**
+         * Reads the page and calls the callback with its elements.
+         *
+         * @param offset   the number of elements already read
+         * @param size     the page size
+         * @param callback the callback with the elements of the page
+         */
+        void read(long offset, long size, Consumer<List<T>> callback);
+    }
+}
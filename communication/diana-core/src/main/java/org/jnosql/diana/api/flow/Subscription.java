@@ -0,0 +1,37 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.flow;
+
+/**
+ * The one-to-one link between a {@link Subscriber} and a {@link Publisher}, it carries the demand of the
+ * subscriber, so the publisher never sends more elements than requested.
+ */
+public interface Subscription {
+
+    /**
+     * Adds n to the demand of this subscription, a non positive value terminates it with an
+     * {@link IllegalArgumentException} to {@link Subscriber#onError(Throwable)}.
+     *
+     * @param n the number of elements to add to the demand
+     */
+    void request(long n);
+
+    /**
+     * Requests the {@link Publisher} to stop sending elements and to release its resources.
+     */
+    void cancel();
+}
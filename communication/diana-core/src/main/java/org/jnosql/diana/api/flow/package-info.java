@@ -0,0 +1,23 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+/**
+ * The backpressure-aware result streaming of the asynchronous APIs. The {@link org.jnosql.diana.api.flow.Publisher},
+ * {@link org.jnosql.diana.api.flow.Subscriber} and {@link org.jnosql.diana.api.flow.Subscription} contracts have the
+ * same methods and rules of the Reactive Streams specification, so they can be bridged to any Reactive Streams
+ * or {@code java.util.concurrent.Flow} library with a method reference.
+ */
+package org.jnosql.diana.api.flow;
@@ -0,0 +1,98 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionStagesTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> CompletionStages.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> CompletionStages.allOf(null));
+        Assertions.assertThrows(NullPointerException.class, () -> CompletionStages.singleResult(null, "message"));
+    }
+
+    @Test
+    public void shouldCompleteWhenTheCallbackIsCalled() {
+        AtomicReference<Consumer<String>> callback = new AtomicReference<>();
+        CompletableFuture<String> future = CompletionStages.<String>of(callback::set).toCompletableFuture();
+        assertFalse(future.isDone());
+        callback.get().accept("Diana");
+        assertEquals("Diana", future.join());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenTheOperationThrows() {
+        CompletableFuture<String> future = CompletionStages.<String>of(c -> {
+            throw new ExecuteAsyncQueryException("error");
+        }).toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, future::join);
+        assertTrue(exception.getCause() instanceof ExecuteAsyncQueryException);
+    }
+
+    @Test
+    public void shouldAggregateInOrder() {
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<List<String>> all = CompletionStages.allOf(Stream.of(first, second)).toCompletableFuture();
+        second.complete("Artemis");
+        assertFalse(all.isDone());
+        first.complete("Diana");
+        assertEquals(Arrays.asList("Diana", "Artemis"), all.join());
+    }
+
+    @Test
+    public void shouldAggregateTheFailure() {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ExecuteAsyncQueryException("error"));
+        CompletableFuture<List<String>> all = CompletionStages
+                .allOf(Stream.of(CompletableFuture.completedFuture("Diana"), failed)).toCompletableFuture();
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, all::join);
+        assertTrue(exception.getCause() instanceof ExecuteAsyncQueryException);
+    }
+
+    @Test
+    public void shouldReturnSingleResult() {
+        CompletionStage<List<String>> empty = CompletableFuture.completedFuture(Collections.emptyList());
+        CompletionStage<List<String>> single = CompletableFuture.completedFuture(Collections.singletonList("Diana"));
+        CompletionStage<List<String>> many = CompletableFuture.completedFuture(Arrays.asList("Diana", "Artemis"));
+
+        assertEquals(Optional.empty(), CompletionStages.singleResult(empty, "message").toCompletableFuture().join());
+        assertEquals(Optional.of("Diana"), CompletionStages.singleResult(single, "message").toCompletableFuture().join());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> CompletionStages.singleResult(many, "message").toCompletableFuture().join());
+        assertTrue(exception.getCause() instanceof NonUniqueResultException);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+
+package org.jnosql.diana.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeReferenceReaderDecoratorTest {
+
+    private TypeReferenceReaderDecorator referenceReader = TypeReferenceReaderDecorator.getInstance();
+
+    @Test
+    public void shouldReturnIfIsCompatible() {
+        assertTrue(referenceReader.isCompatible(new TypeReference<List<String>>() {
+        }));
+        assertTrue(referenceReader.isCompatible(new TypeReference<Map<String, Integer>>() {
+        }));
+        assertFalse(referenceReader.isCompatible(new TypeReference<List<List<String>>>() {
+        }));
+    }
+
+    @Test
+    public void shouldConvertToTheSameTypeFromDifferentReferences() {
+        List<Integer> first = referenceReader.convert(new TypeReference<List<Integer>>() {
+        }, Arrays.asList("1", "2"));
+        List<Integer> second = referenceReader.convert(new TypeReference<List<Integer>>() {
+        }, Arrays.asList("3"));
+        assertEquals(Arrays.asList(1, 2), first);
+        assertEquals(Arrays.asList(3), second);
+    }
+
+    @Test
+    public void shouldUseTheTypeArguments() {
+        Set<Long> longs = referenceReader.convert(new TypeReference<Set<Long>>() {
+        }, Arrays.asList("1"));
+        Set<String> texts = referenceReader.convert(new TypeReference<Set<String>>() {
+        }, Arrays.asList(1));
+        assertEquals(1L, longs.iterator().next());
+        assertEquals("1", texts.iterator().next());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotSupported() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () ->
+                referenceReader.convert(new TypeReference<List<List<String>>>() {
+                }, Arrays.asList("1")));
+    }
+}
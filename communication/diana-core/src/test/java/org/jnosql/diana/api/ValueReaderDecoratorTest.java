@@ -60,6 +60,22 @@ public class ValueReaderDecoratorTest {
     }
 
 
+    @Test
+    public void shouldReadPrimitive() {
+        int value = serviceLoader.read(int.class, 10);
+        assertEquals(10, value);
+        long converted = serviceLoader.read(long.class, "10");
+        assertEquals(10L, converted);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNotSupportedAgain() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> serviceLoader.read(Bean.class, "name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> serviceLoader.read(Bean.class, "name"));
+        assertFalse(serviceLoader.isCompatible(Bean.class));
+    }
+
+
     class Bean {
         private String name;
 
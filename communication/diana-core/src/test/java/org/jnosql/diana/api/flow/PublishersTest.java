@@ -0,0 +1,216 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.flow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublishersTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> Publishers.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> Publishers.ofPages(10, null));
+        Assertions.assertThrows(NullPointerException.class, () -> Publishers.map(null, Function.identity()));
+        Assertions.assertThrows(NullPointerException.class, () -> Publishers.map(s -> {
+        }, null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPageSizeIsNotPositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Publishers.ofPages(0,
+                (offset, size, callback) -> callback.accept(Collections.emptyList())));
+    }
+
+    @Test
+    public void shouldNotRunOperationBeforeRequest() {
+        List<Integer> calls = new ArrayList<>();
+        Publisher<Integer> publisher = Publishers.of(callback -> {
+            calls.add(1);
+            callback.accept(Arrays.asList(1, 2, 3));
+        });
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        assertTrue(calls.isEmpty());
+        subscriber.request(1);
+        assertEquals(1, calls.size());
+        assertEquals(Collections.singletonList(1), subscriber.elements);
+    }
+
+    @Test
+    public void shouldPublishAccordingToDemand() {
+        Publisher<Integer> publisher = Publishers.of(callback -> callback.accept(Arrays.asList(1, 2, 3)));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        subscriber.request(2);
+        assertEquals(Arrays.asList(1, 2), subscriber.elements);
+        assertFalse(subscriber.completed);
+
+        subscriber.request(5);
+        assertEquals(Arrays.asList(1, 2, 3), subscriber.elements);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void shouldCompleteWhenResultIsEmpty() {
+        Publisher<Integer> publisher = Publishers.of(callback -> callback.accept(Collections.emptyList()));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+        assertTrue(subscriber.elements.isEmpty());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldReadPageOnlyOnDemand() {
+        List<Long> offsets = new ArrayList<>();
+        Publisher<Long> publisher = Publishers.ofPages(2, (offset, size, callback) -> {
+            offsets.add(offset);
+            callback.accept(LongStream.range(offset, Math.min(offset + size, 5))
+                    .boxed().collect(Collectors.toList()));
+        });
+        TestSubscriber<Long> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        subscriber.request(1);
+        assertEquals(Collections.singletonList(0L), offsets);
+        assertEquals(Collections.singletonList(0L), subscriber.elements);
+
+        subscriber.request(2);
+        assertEquals(Arrays.asList(0L, 2L), offsets);
+        assertEquals(Arrays.asList(0L, 1L, 2L), subscriber.elements);
+
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(0L, 2L, 4L), offsets);
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), subscriber.elements);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldStopWhenCancelled() {
+        List<Long> offsets = new ArrayList<>();
+        Publisher<Long> publisher = Publishers.ofPages(2, (offset, size, callback) -> {
+            offsets.add(offset);
+            callback.accept(Arrays.asList(offset, offset + 1));
+        });
+        TestSubscriber<Long> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+        subscriber.request(10);
+        assertEquals(Collections.singletonList(0L), offsets);
+        assertEquals(Collections.singletonList(0L), subscriber.elements);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldSignalErrorWhenRequestIsNotPositive() {
+        Publisher<Integer> publisher = Publishers.of(callback -> callback.accept(Arrays.asList(1, 2)));
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.elements.isEmpty());
+    }
+
+    @Test
+    public void shouldSignalErrorWhenReaderFails() {
+        Publisher<Integer> publisher = Publishers.of(callback -> {
+            throw new IllegalStateException("error");
+        });
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldMap() {
+        Publisher<Integer> publisher = Publishers.of(callback -> callback.accept(Arrays.asList(1, 2, 3)));
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.map(publisher, i -> "value" + i).subscribe(subscriber);
+        subscriber.request(2);
+        assertEquals(Arrays.asList("value1", "value2"), subscriber.elements);
+        subscriber.request(1);
+        assertEquals(Arrays.asList("value1", "value2", "value3"), subscriber.elements);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldCancelWhenMapperFails() {
+        Publisher<Integer> publisher = Publishers.of(callback -> callback.accept(Arrays.asList(1, 2, 3)));
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        Publishers.<Integer, String>map(publisher, i -> {
+            throw new IllegalStateException("error");
+        }).subscribe(subscriber);
+        subscriber.request(3);
+        assertTrue(subscriber.elements.isEmpty());
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertFalse(subscriber.completed);
+    }
+
+    private static class TestSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> elements = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T element) {
+            elements.add(element);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
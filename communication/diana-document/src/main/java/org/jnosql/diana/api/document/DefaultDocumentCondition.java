@@ -22,33 +22,66 @@ import org.jnosql.diana.api.Condition;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
-import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.diana.api.Condition.AND;
 import static org.jnosql.diana.api.Condition.NOT;
 import static org.jnosql.diana.api.Condition.OR;
 
 /**
- * The default implementation of {@link DocumentCondition}
+ * The default implementation of {@link DocumentCondition}.
+ * The {@link Condition#AND}, {@link Condition#OR} and {@link Condition#NOT} conditions keep their conditions
+ * in an array, and the {@link Document} view is created only when {@link #getDocument()} is called.
+ * A chain of {@link #and(DocumentCondition)} or {@link #or(DocumentCondition)} appends to the array
+ * the previous condition has created instead of copying it, so each one stays immutable
+ * while building n conditions takes O(n).
  */
 final class DefaultDocumentCondition implements DocumentCondition {
 
-    private final Document document;
+    private static final int MIN_CAPACITY = 4;
 
     private final Condition condition;
 
+    private final DocumentCondition[] conditions;
+
+    private final int size;
+
+    private final AtomicInteger used;
+
+    private volatile Document document;
+
     private DefaultDocumentCondition(Document document, Condition condition) {
         this.document = document;
         this.condition = condition;
+        this.conditions = null;
+        this.size = 0;
+        this.used = null;
+    }
+
+    private DefaultDocumentCondition(Condition condition, DocumentCondition[] conditions, int size,
+                                     AtomicInteger used) {
+        this.condition = condition;
+        this.conditions = conditions;
+        this.size = size;
+        this.used = used;
     }
 
     public static DefaultDocumentCondition of(Document document, Condition condition) {
-        return new DefaultDocumentCondition(Objects.requireNonNull(document, "Document is required"), condition);
+        Objects.requireNonNull(document, "Document is required");
+        if (AND.equals(condition) || OR.equals(condition)) {
+            List<DocumentCondition> conditions = document.get(new TypeReference<List<DocumentCondition>>() {
+            });
+            return of(condition, conditions.toArray(new DocumentCondition[0]));
+        } else if (NOT.equals(condition)) {
+            return of(NOT, new DocumentCondition[]{document.get(DocumentCondition.class)});
+        }
+        return new DefaultDocumentCondition(document, condition);
     }
 
     static DocumentCondition between(Document document) {
@@ -88,32 +121,51 @@ final class DefaultDocumentCondition implements DocumentCondition {
 
     static DefaultDocumentCondition and(DocumentCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Document document = Document.of(AND.getNameField(), asList(conditions));
-        return DefaultDocumentCondition.of(document, AND);
+        return of(AND, conditions.clone());
     }
 
 
     static DefaultDocumentCondition or(DocumentCondition... conditions) {
         requireNonNull(conditions, "condition is required");
-        Document document = Document.of(OR.getNameField(), asList(conditions));
-        return DefaultDocumentCondition.of(document, OR);
+        return of(OR, conditions.clone());
+    }
+
+    private static DefaultDocumentCondition of(Condition condition, DocumentCondition[] conditions) {
+        return new DefaultDocumentCondition(condition, conditions, conditions.length,
+                new AtomicInteger(conditions.length));
     }
 
 
     public Document getDocument() {
-        return document;
+        Document value = document;
+        if (value == null) {
+            if (NOT.equals(condition)) {
+                value = Document.of(NOT.getNameField(), conditions[0]);
+            } else {
+                value = Document.of(condition.getNameField(), getConditions());
+            }
+            document = value;
+        }
+        return value;
     }
 
     public Condition getCondition() {
         return condition;
     }
 
+    @Override
+    public List<DocumentCondition> getConditions() {
+        if (conditions == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(conditions).subList(0, size));
+    }
+
     @Override
     public DocumentCondition and(DocumentCondition condition) {
         requireNonNull(condition, "Conditions is required");
         if (AND.equals(this.condition)) {
-            Document column = getConditions(condition, AND);
-            return new DefaultDocumentCondition(column, AND);
+            return append(condition);
         }
         return DefaultDocumentCondition.and(this, condition);
     }
@@ -121,10 +173,9 @@ final class DefaultDocumentCondition implements DocumentCondition {
     @Override
     public DocumentCondition negate() {
         if (NOT.equals(this.condition)) {
-            return this.document.get(DocumentCondition.class);
+            return conditions[0];
         } else {
-            Document newDocument = Document.of(NOT.getNameField(), this);
-            return new DefaultDocumentCondition(newDocument, NOT);
+            return of(NOT, new DocumentCondition[]{this});
         }
     }
 
@@ -132,17 +183,19 @@ final class DefaultDocumentCondition implements DocumentCondition {
     public DocumentCondition or(DocumentCondition condition) {
         requireNonNull(condition, "Condition is required");
         if (OR.equals(this.condition)) {
-            Document newDocument = getConditions(condition, OR);
-            return new DefaultDocumentCondition(newDocument, OR);
+            return append(condition);
         }
         return DefaultDocumentCondition.or(this, condition);
     }
 
-    private Document getConditions(DocumentCondition columnCondition, Condition condition) {
-        List<DocumentCondition> conditions = new ArrayList<>(document.get(new TypeReference<List<DocumentCondition>>() {
-        }));
-        conditions.add(columnCondition);
-        return Document.of(condition.getNameField(), conditions);
+    private DefaultDocumentCondition append(DocumentCondition documentCondition) {
+        if (size < conditions.length && used.compareAndSet(size, size + 1)) {
+            conditions[size] = documentCondition;
+            return new DefaultDocumentCondition(condition, conditions, size + 1, used);
+        }
+        DocumentCondition[] copy = Arrays.copyOf(conditions, Math.max(size * 2, MIN_CAPACITY));
+        copy[size] = documentCondition;
+        return new DefaultDocumentCondition(condition, copy, size + 1, new AtomicInteger(size + 1));
     }
 
     @Override
@@ -154,18 +207,26 @@ final class DefaultDocumentCondition implements DocumentCondition {
             return false;
         }
         DocumentCondition that = (DocumentCondition) o;
-        return Objects.equals(document, that.getDocument()) &&
-                condition == that.getCondition();
+        if (condition != that.getCondition()) {
+            return false;
+        }
+        if (conditions != null) {
+            return getConditions().equals(that.getConditions());
+        }
+        return Objects.equals(document, that.getDocument());
     }
 
     @Override
     public int hashCode() {
+        if (conditions != null) {
+            return Objects.hash(getConditions(), condition);
+        }
         return Objects.hash(document, condition);
     }
 
     @Override
     public String toString() {
-        return "DefaultDocumentCondition{" + "document=" + document +
+        return "DefaultDocumentCondition{" + "document=" + getDocument() +
                 ", condition=" + condition +
                 '}';
     }
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -133,6 +134,22 @@ public interface DocumentCollectionManager extends AutoCloseable {
      */
     List<DocumentEntity> select(DocumentQuery query);
 
+    /**
+     * Finds {@link DocumentEntity} from select as a {@link Stream}, so the entities might be consumed while they
+     * are read from the database instead of loading the whole result in memory.
+     * By default it uses {@link #select(DocumentQuery)}, each NoSQL vendor might replace to a lazy one.
+     * The stream might hold database resources, so it should be closed after its use.
+     *
+     * @param query - select to figure out entities
+     * @return entities found by select
+     * @throws NullPointerException          when select is null
+     * @throws UnsupportedOperationException if the implementation does not support any operation that a query has.
+     */
+    default Stream<DocumentEntity> stream(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query).stream();
+    }
+
 
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
@@ -18,13 +18,17 @@
 package org.jnosql.diana.api.document;
 
 
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.QueryException;
+import org.jnosql.diana.api.flow.Publisher;
+import org.jnosql.diana.api.flow.Publishers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -259,6 +263,187 @@ public interface DocumentCollectionManagerAsync extends AutoCloseable {
      */
     void count(String documentCollection, Consumer<Long> callback);
 
+    /**
+     * Saves an entity asynchronously, by default it adapts {@link DocumentCollectionManagerAsync#insert(DocumentEntity, Consumer)}
+     * to a {@link CompletionStage}, each NoSQL vendor might replace it to a native one.
+     *
+     * @param entity entity to be saved
+     * @return a {@link CompletionStage} with the saved entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entity is null
+     */
+    default CompletionStage<DocumentEntity> insertAsync(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(callBack -> insert(entity, callBack));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, by default it adapts
+     * {@link DocumentCollectionManagerAsync#insert(DocumentEntity, Duration, Consumer)} to a {@link CompletionStage}.
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @return a {@link CompletionStage} with the saved entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when either entity or ttl are null
+     */
+    default CompletionStage<DocumentEntity> insertAsync(DocumentEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of(callBack -> insert(entity, ttl, callBack));
+    }
+
+    /**
+     * Saves entities asynchronously, the returned {@link CompletionStage} completes when all of them are saved.
+     *
+     * @param entities entities to be saved
+     * @return a {@link CompletionStage} with the saved entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entities is null
+     */
+    default CompletionStage<List<DocumentEntity>> insertAsync(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false).map(this::insertAsync));
+    }
+
+    /**
+     * Saves entities asynchronously with time to live, the returned {@link CompletionStage} completes when all
+     * of them are saved.
+     *
+     * @param entities entities to be saved
+     * @param ttl      time to live
+     * @return a {@link CompletionStage} with the saved entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when either entities or ttl are null
+     */
+    default CompletionStage<List<DocumentEntity>> insertAsync(Iterable<DocumentEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> insertAsync(e, ttl)));
+    }
+
+    /**
+     * Updates an entity asynchronously, by default it adapts {@link DocumentCollectionManagerAsync#update(DocumentEntity, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param entity entity to be updated
+     * @return a {@link CompletionStage} with the updated entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entity is null
+     */
+    default CompletionStage<DocumentEntity> updateAsync(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletionStages.of(callBack -> update(entity, callBack));
+    }
+
+    /**
+     * Updates entities asynchronously, the returned {@link CompletionStage} completes when all of them are updated.
+     *
+     * @param entities entities to be updated
+     * @return a {@link CompletionStage} with the updated entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when entities is null
+     */
+    default CompletionStage<List<DocumentEntity>> updateAsync(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false).map(this::updateAsync));
+    }
+
+    /**
+     * Deletes an entity asynchronously, by default it adapts {@link DocumentCollectionManagerAsync#delete(DocumentDeleteQuery, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param query select to delete an entity
+     * @return a {@link CompletionStage} completed when the entities are deleted
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when query is null
+     */
+    default CompletionStage<Void> deleteAsync(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> delete(query, callBack));
+    }
+
+    /**
+     * Finds {@link DocumentEntity} from select asynchronously, by default it adapts
+     * {@link DocumentCollectionManagerAsync#select(DocumentQuery, Consumer)} to a {@link CompletionStage}.
+     *
+     * @param query select to select entities
+     * @return a {@link CompletionStage} with the result of select
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not support this feature
+     * @throws NullPointerException                            when query is null
+     */
+    default CompletionStage<List<DocumentEntity>> selectAsync(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> select(query, callBack));
+    }
+
+    /**
+     * Finds {@link DocumentEntity} from select as a {@link Publisher}, the entities are published according to the demand
+     * of the subscriber. By default it is the buffering adapter of {@link DocumentCollectionManagerAsync#select(DocumentQuery, Consumer)},
+     * that runs the select on the first request; the NoSQL vendors that page internally should replace it,
+     * e.g. using {@link Publishers#ofPages(long, Publishers.PageReader)}, so the demand drives the reads.
+     *
+     * @param query select to select entities
+     * @return a {@link Publisher} of the result of select
+     * @throws UnsupportedOperationException when the database does not support this feature
+     * @throws NullPointerException          when query is null
+     */
+    default Publisher<DocumentEntity> selectPublisher(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return Publishers.of(callBack -> select(query, callBack));
+    }
+
+    /**
+     * Returns a single entity from select asynchronously
+     *
+     * @param query select to figure out entities
+     * @return a {@link CompletionStage} with the entity, it completes exceptionally with
+     * {@link NonUniqueResultException} when the result has more than 1 entity
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Optional<DocumentEntity>> singleResultAsync(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.singleResult(selectAsync(query),
+                "The select returns more than one entity, select: " + query);
+    }
+
+    /**
+     * Executes a query asynchronously, by default it adapts {@link DocumentCollectionManagerAsync#query(String, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param query the query as {@link String}
+     * @return a {@link CompletionStage} with the result of the query
+     * @throws NullPointerException  when query is null
+     * @throws IllegalStateException when there is not {@link DocumentQueryParserAsync}
+     * @throws QueryException        when there is error in the syntax
+     */
+    default CompletionStage<List<DocumentEntity>> queryAsync(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> query(query, callBack));
+    }
+
+    /**
+     * Returns the number of elements from document collection asynchronously
+     *
+     * @param documentCollection the document collection
+     * @return a {@link CompletionStage} with the number of elements
+     * @throws NullPointerException          when documentCollection is null
+     * @throws UnsupportedOperationException when the database dot not have support
+     */
+    default CompletionStage<Long> countAsync(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return CompletionStages.of(callBack -> count(documentCollection, callBack));
+    }
+
     /**
      * closes a resource
      */
@@ -19,6 +19,10 @@ package org.jnosql.diana.api.document;
 
 
 import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.TypeReference;
+
+import java.util.Collections;
+import java.util.List;
 
 import static org.jnosql.diana.api.Condition.EQUALS;
 import static org.jnosql.diana.api.Condition.GREATER_EQUALS_THAN;
@@ -49,6 +53,26 @@ public interface DocumentCondition {
      */
     Condition getCondition();
 
+    /**
+     * Gets the conditions combined by this one: the conditions joined by {@link Condition#AND} or
+     * {@link Condition#OR}, the negated one to {@link Condition#NOT}, otherwise an empty list.
+     * Unlike {@link #getDocument()}, it does not need to convert the document value.
+     *
+     * @return the conditions combined, an unmodifiable list
+     */
+    default List<DocumentCondition> getConditions() {
+        switch (getCondition()) {
+            case AND:
+            case OR:
+                return Collections.unmodifiableList(getDocument().get(new TypeReference<List<DocumentCondition>>() {
+                }));
+            case NOT:
+                return Collections.singletonList(getDocument().get(DocumentCondition.class));
+            default:
+                return Collections.emptyList();
+        }
+    }
+
     /**
      * Creates a new {@link DocumentCondition} using the {@link Condition#AND}
      *
@@ -17,7 +17,6 @@
 package org.jnosql.diana.api.document.query;
 
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
 import org.jnosql.diana.api.QueryException;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
@@ -35,40 +34,27 @@ import static java.util.Collections.singletonList;
 
 final class DefaultDocumentPreparedStatement implements DocumentPreparedStatement {
 
-    private final DocumentEntity entity;
-
-    private final DocumentQuery documentQuery;
-
-    private final DocumentDeleteQuery documentDeleteQuery;
+    private final PreparedStatementTemplate<?> template;
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final Object[] values;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final DocumentCollectionManager manager;
 
-    private DefaultDocumentPreparedStatement(DocumentEntity entity,
-                                             DocumentQuery documentQuery,
-                                             DocumentDeleteQuery documentDeleteQuery,
+    private DefaultDocumentPreparedStatement(PreparedStatementTemplate<?> template,
                                              PreparedStatementType type,
-                                             Params params,
                                              String query,
-                                             List<String> paramsLeft,
                                              Duration duration,
                                              DocumentCollectionManager manager) {
-        this.entity = entity;
-        this.documentQuery = documentQuery;
-        this.documentDeleteQuery = documentDeleteQuery;
+        this.template = template;
         this.type = type;
-        this.params = params;
+        this.values = new Object[template.size()];
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
     }
@@ -78,29 +64,33 @@ final class DefaultDocumentPreparedStatement implements DocumentPreparedStatemen
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int slot = template.getSlot(name);
+        if (slot != PreparedStatementTemplate.NOT_FOUND) {
+            values[slot] = value;
+        }
         return this;
     }
 
     @Override
     public List<DocumentEntity> getResultList() {
+        List<String> paramsLeft = template.getParamsLeft(values);
         if (!paramsLeft.isEmpty()) {
             throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
         }
+        Object value = template.bind(values);
         switch (type) {
             case SELECT:
-                return manager.select(documentQuery);
+                return manager.select((DocumentQuery) value);
             case DELETE:
-                manager.delete(documentDeleteQuery);
+                manager.delete((DocumentDeleteQuery) value);
                 return emptyList();
             case UPDATE:
-                return singletonList(manager.update(entity));
+                return singletonList(manager.update((DocumentEntity) value));
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    return singletonList(manager.insert(entity));
+                    return singletonList(manager.insert((DocumentEntity) value));
                 } else {
-                    return singletonList(manager.insert(entity, duration));
+                    return singletonList(manager.insert((DocumentEntity) value, duration));
                 }
             default:
                 throw new UnsupportedOperationException("there is not support to operation type: " + type);
@@ -132,45 +122,33 @@ final class DefaultDocumentPreparedStatement implements DocumentPreparedStatemen
     }
 
     static DocumentPreparedStatement select(
-            DocumentQuery documentQuery,
-            Params params,
+            PreparedStatementTemplate<DocumentQuery> template,
             String query,
             DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(null, documentQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultDocumentPreparedStatement(template, PreparedStatementType.SELECT, query, null, manager);
 
     }
 
-    static DocumentPreparedStatement delete(DocumentDeleteQuery documentDeleteQuery,
-                                            Params params,
+    static DocumentPreparedStatement delete(PreparedStatementTemplate<DocumentDeleteQuery> template,
                                             String query,
                                             DocumentCollectionManager manager) {
 
-        return new DefaultDocumentPreparedStatement(null, null,
-                documentDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultDocumentPreparedStatement(template, PreparedStatementType.DELETE, query, null, manager);
 
     }
 
-    static DocumentPreparedStatement insert(DocumentEntity entity,
-                                            Params params,
+    static DocumentPreparedStatement insert(PreparedStatementTemplate<DocumentEntity> template,
                                             String query,
                                             Duration duration,
                                             DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+        return new DefaultDocumentPreparedStatement(template, PreparedStatementType.INSERT, query, duration, manager);
 
     }
 
-    static DocumentPreparedStatement update(DocumentEntity entity,
-                                            Params params,
+    static DocumentPreparedStatement update(PreparedStatementTemplate<DocumentEntity> template,
                                             String query,
                                             DocumentCollectionManager manager) {
-        return new DefaultDocumentPreparedStatement(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultDocumentPreparedStatement(template, PreparedStatementType.UPDATE, query, null, manager);
 
     }
 }
@@ -17,7 +17,6 @@
 package org.jnosql.diana.api.document.query;
 
 import org.jnosql.diana.api.NonUniqueResultException;
-import org.jnosql.diana.api.Params;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
@@ -34,40 +33,27 @@ import java.util.function.Consumer;
 
 final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedStatementAsync {
 
-    private final DocumentEntity entity;
-
-    private final DocumentQuery documentQuery;
-
-    private final DocumentDeleteQuery documentDeleteQuery;
+    private final PreparedStatementTemplate<?> template;
 
     private final PreparedStatementType type;
 
-    private final Params params;
+    private final Object[] values;
 
     private final String query;
 
-    private final List<String> paramsLeft;
-
     private final Duration duration;
 
     private final DocumentCollectionManagerAsync manager;
 
-    private DefaultDocumentPreparedStatementAsync(DocumentEntity entity,
-                                                  DocumentQuery documentQuery,
-                                                  DocumentDeleteQuery documentDeleteQuery,
+    private DefaultDocumentPreparedStatementAsync(PreparedStatementTemplate<?> template,
                                                   PreparedStatementType type,
-                                                  Params params,
                                                   String query,
-                                                  List<String> paramsLeft,
                                                   Duration duration,
                                                   DocumentCollectionManagerAsync manager) {
-        this.entity = entity;
-        this.documentQuery = documentQuery;
-        this.documentDeleteQuery = documentDeleteQuery;
+        this.template = template;
         this.type = type;
-        this.params = params;
+        this.values = new Object[template.size()];
         this.query = query;
-        this.paramsLeft = paramsLeft;
         this.manager = manager;
         this.duration = duration;
     }
@@ -77,8 +63,10 @@ final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedSta
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        int slot = template.getSlot(name);
+        if (slot != PreparedStatementTemplate.NOT_FOUND) {
+            values[slot] = value;
+        }
         return this;
     }
 
@@ -86,24 +74,27 @@ final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedSta
     public void getResultList(Consumer<List<DocumentEntity>> callBack) {
         Objects.requireNonNull(callBack, "callBack is required");
 
+        List<String> paramsLeft = template.getParamsLeft(values);
         if (!paramsLeft.isEmpty()) {
             throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
         }
+        Object value = template.bind(values);
         switch (type) {
             case SELECT:
-                manager.select(documentQuery, callBack);
+                manager.select((DocumentQuery) value, callBack);
                 return;
             case DELETE:
-                manager.delete(documentDeleteQuery, c -> callBack.accept(Collections.emptyList()));
+                manager.delete((DocumentDeleteQuery) value, c -> callBack.accept(Collections.emptyList()));
                 return;
             case UPDATE:
-                manager.update(entity, c -> callBack.accept(Collections.singletonList(c)));
+                manager.update((DocumentEntity) value, c -> callBack.accept(Collections.singletonList(c)));
                 return;
             case INSERT:
                 if (Objects.isNull(duration)) {
-                    manager.insert(entity, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert((DocumentEntity) value, c -> callBack.accept(Collections.singletonList(c)));
                 } else {
-                    manager.insert(entity, duration, c -> callBack.accept(Collections.singletonList(c)));
+                    manager.insert((DocumentEntity) value, duration,
+                            c -> callBack.accept(Collections.singletonList(c)));
                 }
                 return;
             default:
@@ -140,45 +131,34 @@ final class DefaultDocumentPreparedStatementAsync implements DocumentPreparedSta
     }
 
     static DefaultDocumentPreparedStatementAsync select(
-            DocumentQuery documentQuery,
-            Params params,
+            PreparedStatementTemplate<DocumentQuery> template,
             String query,
             DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(null, documentQuery,
-                null, PreparedStatementType.SELECT, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultDocumentPreparedStatementAsync(template, PreparedStatementType.SELECT, query, null, manager);
 
     }
 
-    static DefaultDocumentPreparedStatementAsync delete(DocumentDeleteQuery documentDeleteQuery,
-                                                        Params params,
-                                            String query,
-                                            DocumentCollectionManagerAsync manager) {
+    static DefaultDocumentPreparedStatementAsync delete(PreparedStatementTemplate<DocumentDeleteQuery> template,
+                                                        String query,
+                                                        DocumentCollectionManagerAsync manager) {
 
-        return new DefaultDocumentPreparedStatementAsync(null, null,
-                documentDeleteQuery, PreparedStatementType.DELETE, params, query,
-                params.getParametersNames(), null, manager);
+        return new DefaultDocumentPreparedStatementAsync(template, PreparedStatementType.DELETE, query, null, manager);
 
     }
 
-    static DefaultDocumentPreparedStatementAsync insert(DocumentEntity entity,
-                                                        Params params,
-                                            String query,
-                                            Duration duration,
-                                            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.INSERT, params, query,
-                params.getParametersNames(), duration, manager);
+    static DefaultDocumentPreparedStatementAsync insert(PreparedStatementTemplate<DocumentEntity> template,
+                                                        String query,
+                                                        Duration duration,
+                                                        DocumentCollectionManagerAsync manager) {
+        return new DefaultDocumentPreparedStatementAsync(template, PreparedStatementType.INSERT, query, duration,
+                manager);
 
     }
 
-    static DefaultDocumentPreparedStatementAsync update(DocumentEntity entity,
-                                                        Params params,
-                                            String query,
-                                            DocumentCollectionManagerAsync manager) {
-        return new DefaultDocumentPreparedStatementAsync(entity, null,
-                null, PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(), null, manager);
+    static DefaultDocumentPreparedStatementAsync update(PreparedStatementTemplate<DocumentEntity> template,
+                                                        String query,
+                                                        DocumentCollectionManagerAsync manager) {
+        return new DefaultDocumentPreparedStatementAsync(template, PreparedStatementType.UPDATE, query, null, manager);
 
     }
 }
@@ -39,10 +39,12 @@ final class DeleteQueryParser implements DeleteQueryConverter {
 
     private final DeleteQuerySupplier selectQuerySupplier;
     private final CacheQuery<DocumentDeleteQuery> cache;
+    private final CacheQuery<PreparedStatementTemplate<DocumentDeleteQuery>> templates;
 
     DeleteQueryParser() {
         this.selectQuerySupplier = DeleteQuerySupplier.getSupplier();
         cache = new CacheQuery<>(this::getQuery);
+        templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
@@ -61,18 +63,15 @@ final class DeleteQueryParser implements DeleteQueryConverter {
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager,
                                       DocumentObserverParser observer) {
-        Params params = new Params();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
-        return DefaultDocumentPreparedStatement.delete(documentQuery, params, query, collectionManager);
+        PreparedStatementTemplate<DocumentDeleteQuery> template = templates.get(query, observer);
+        return DefaultDocumentPreparedStatement.delete(template, query, collectionManager);
     }
 
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
-        Params params = new Params();
-        DocumentDeleteQuery documentQuery = getQuery(query, params, observer);
-        return DefaultDocumentPreparedStatementAsync.delete(documentQuery, params, query, collectionManager);
-
+        PreparedStatementTemplate<DocumentDeleteQuery> template = templates.get(query, observer);
+        return DefaultDocumentPreparedStatementAsync.delete(template, query, collectionManager);
     }
 
     @Override
@@ -84,10 +83,9 @@ final class DeleteQueryParser implements DeleteQueryConverter {
         return new DefaultDocumentDeleteQueryParams(query, params);
     }
 
-    private DocumentDeleteQuery getQuery(String query, Params params, DocumentObserverParser observer) {
+    private PreparedStatementTemplate<DocumentDeleteQuery> getTemplate(String query, DocumentObserverParser observer) {
         DeleteQuery deleteQuery = selectQuerySupplier.apply(query);
-
-        return getQuery(params, observer, deleteQuery);
+        return PreparedStatementTemplate.of(params -> getQuery(params, observer, deleteQuery));
     }
 
     private DocumentDeleteQuery getQuery(Params params, DocumentObserverParser observer,
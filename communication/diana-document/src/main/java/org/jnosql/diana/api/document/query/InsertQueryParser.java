@@ -38,9 +38,11 @@ import static java.util.Collections.singletonList;
 final class InsertQueryParser {
 
     private final InsertQuerySupplier supplier;
+    private final CacheQuery<PreparedStatementTemplate<DocumentEntity>> templates;
 
     InsertQueryParser() {
         this.supplier = InsertQuerySupplier.getSupplier();
+        this.templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
@@ -86,25 +88,26 @@ final class InsertQueryParser {
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
         InsertQuery insertQuery = supplier.apply(query);
 
-        String collection = observer.fireEntity(insertQuery.getEntity());
-        Params params = new Params();
-
         Optional<Duration> ttl = insertQuery.getTtl();
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
+        PreparedStatementTemplate<DocumentEntity> template = templates.get(query, observer);
 
-        return DefaultDocumentPreparedStatement.insert(entity, params, query, ttl.orElse(null), collectionManager);
+        return DefaultDocumentPreparedStatement.insert(template, query, ttl.orElse(null), collectionManager);
 
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager, DocumentObserverParser observer) {
-        Params params = new Params();
-
         InsertQuery insertQuery = supplier.apply(query);
-        String collection = observer.fireEntity(insertQuery.getEntity());
+
         Optional<Duration> ttl = insertQuery.getTtl();
-        DocumentEntity entity = getEntity(insertQuery, collection, params, observer);
+        PreparedStatementTemplate<DocumentEntity> template = templates.get(query, observer);
+
+        return DefaultDocumentPreparedStatementAsync.insert(template, query, ttl.orElse(null), collectionManager);
+    }
 
-        return DefaultDocumentPreparedStatementAsync.insert(entity, params, query, ttl.orElse(null), collectionManager);
+    private PreparedStatementTemplate<DocumentEntity> getTemplate(String query, DocumentObserverParser observer) {
+        InsertQuery insertQuery = supplier.apply(query);
+        String collection = observer.fireEntity(insertQuery.getEntity());
+        return PreparedStatementTemplate.of(params -> getEntity(insertQuery, collection, params, observer));
     }
 
     private DocumentEntity getEntity(InsertQuery insertQuery, String collection, Params params, DocumentObserverParser observer) {
@@ -0,0 +1,129 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.document.query;
+
+import org.jnosql.diana.api.Params;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The immutable part of a prepared statement: a query already parsed and the slot of each parameter name.
+ * It is created once per query and shared among the prepared statements, which keep only the values bound,
+ * an array indexed by the parameter slot. At each execution a new query is created from these values, so the
+ * same template might be executed from several threads without sharing mutable state.
+ *
+ * @param <T> the query type created by the template
+ */
+final class PreparedStatementTemplate<T> {
+
+    static final int NOT_FOUND = -1;
+
+    private final Function<Params, T> factory;
+
+    private final List<String> names;
+
+    private final Map<String, Integer> slots;
+
+    private PreparedStatementTemplate(Function<Params, T> factory, List<String> names) {
+        this.factory = factory;
+        this.names = names;
+        Map<String, Integer> slots = new HashMap<>();
+        for (int index = 0; index < names.size(); index++) {
+            slots.put(names.get(index), index);
+        }
+        this.slots = slots;
+    }
+
+    /**
+     * @return the number of parameters at the query
+     */
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the slot of the parameter
+     *
+     * @param name the parameter name
+     * @return the slot or {@link PreparedStatementTemplate#NOT_FOUND} when the query does not have this parameter
+     */
+    int getSlot(String name) {
+        return slots.getOrDefault(name, NOT_FOUND);
+    }
+
+    /**
+     * Returns the parameters names whose values are not bound yet
+     *
+     * @param values the values indexed by the parameter slot
+     * @return the parameters left
+     */
+    List<String> getParamsLeft(Object[] values) {
+        List<String> paramsLeft = new ArrayList<>();
+        for (int index = 0; index < values.length; index++) {
+            if (Objects.isNull(values[index])) {
+                paramsLeft.add(names.get(index));
+            }
+        }
+        return paramsLeft;
+    }
+
+    /**
+     * Creates a new query with the values bound
+     *
+     * @param values the values indexed by the parameter slot
+     * @return a new query instance
+     */
+    T bind(Object[] values) {
+        Params params = new Params();
+        T query = factory.apply(params);
+        for (int index = 0; index < values.length; index++) {
+            params.bind(names.get(index), values[index]);
+        }
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedStatementTemplate{" + "names=" + names + '}';
+    }
+
+    /**
+     * Creates a template, the factory is called once to find out the parameters
+     *
+     * @param factory the factory that creates the query from the parsed one and register its parameters
+     * @param <T>     the query type
+     * @return a new template instance
+     */
+    static <T> PreparedStatementTemplate<T> of(Function<Params, T> factory) {
+        Objects.requireNonNull(factory, "factory is required");
+        Params params = new Params();
+        factory.apply(params);
+        List<String> names = new ArrayList<>();
+        for (String name : params.getParametersNames()) {
+            if (!names.contains(name)) {
+                names.add(name);
+            }
+        }
+        return new PreparedStatementTemplate<>(factory, Collections.unmodifiableList(names));
+    }
+}
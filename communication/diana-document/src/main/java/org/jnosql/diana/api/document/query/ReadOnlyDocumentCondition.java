@@ -20,6 +20,7 @@ import org.jnosql.diana.api.Condition;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCondition;
 
+import java.util.List;
 import java.util.Objects;
 
 import static java.util.Objects.requireNonNull;
@@ -42,6 +43,11 @@ class ReadOnlyDocumentCondition implements DocumentCondition {
         return condition.getCondition();
     }
 
+    @Override
+    public List<DocumentCondition> getConditions() {
+        return condition.getConditions();
+    }
+
     @Override
     public DocumentCondition and(DocumentCondition condition) {
         throw new IllegalStateException("You cannot change the status after building the query");
@@ -43,10 +43,12 @@ final class SelectQueryParser  implements SelectQueryConverter{
 
     private final SelectQuerySupplier selectQuerySupplier;
     private final CacheQuery<DocumentQuery> cache;
+    private final CacheQuery<PreparedStatementTemplate<DocumentQuery>> templates;
 
     SelectQueryParser() {
         this.selectQuerySupplier = SelectQuerySupplier.getSupplier();
         this.cache = new CacheQuery<>(this::getDocumentQuery);
+        this.templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
@@ -64,22 +66,15 @@ final class SelectQueryParser  implements SelectQueryConverter{
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        Params params = new Params();
-
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DefaultDocumentPreparedStatement.select(documentQuery, params, query, collectionManager);
+        PreparedStatementTemplate<DocumentQuery> template = templates.get(query, observer);
+        return DefaultDocumentPreparedStatement.select(template, query, collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager,
                                                 DocumentObserverParser observer) {
-        Params params = new Params();
 
-        SelectQuery selectQuery = selectQuerySupplier.apply(query);
-
-        DocumentQuery documentQuery = getDocumentQuery(params, selectQuery, observer);
-        return DefaultDocumentPreparedStatementAsync.select(documentQuery, params, query, collectionManager);
+        PreparedStatementTemplate<DocumentQuery> template = templates.get(query, observer);
+        return DefaultDocumentPreparedStatementAsync.select(template, query, collectionManager);
     }
 
     @Override
@@ -91,6 +86,11 @@ final class SelectQueryParser  implements SelectQueryConverter{
         return new DefaultDocumentQueryParams(columnQuery, params);
     }
 
+    private PreparedStatementTemplate<DocumentQuery> getTemplate(String query, DocumentObserverParser observer) {
+        SelectQuery selectQuery = selectQuerySupplier.apply(query);
+        return PreparedStatementTemplate.of(params -> getDocumentQuery(params, selectQuery, observer));
+    }
+
     private DocumentQuery getDocumentQuery(String query, DocumentObserverParser observer) {
 
         SelectQuery selectQuery = selectQuerySupplier.apply(query);
@@ -36,9 +36,11 @@ import static java.util.Collections.singletonList;
 final class UpdateQueryParser {
 
     private final UpdateQuerySupplier supplier;
+    private final CacheQuery<PreparedStatementTemplate<DocumentEntity>> templates;
 
     UpdateQueryParser() {
         this.supplier = UpdateQuerySupplier.getSupplier();
+        this.templates = new CacheQuery<>(this::getTemplate);
     }
 
     List<DocumentEntity> query(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
@@ -72,22 +74,19 @@ final class UpdateQueryParser {
 
     DocumentPreparedStatement prepare(String query, DocumentCollectionManager collectionManager, DocumentObserverParser observer) {
 
-        Params params = new Params();
-
-        UpdateQuery updateQuery = supplier.apply(query);
-
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
-
-        return DefaultDocumentPreparedStatement.update(entity, params, query, collectionManager);
+        PreparedStatementTemplate<DocumentEntity> template = templates.get(query, observer);
+        return DefaultDocumentPreparedStatement.update(template, query, collectionManager);
     }
 
     DocumentPreparedStatementAsync prepareAsync(String query, DocumentCollectionManagerAsync collectionManager, DocumentObserverParser observer) {
-        Params params = new Params();
-        UpdateQuery updateQuery = supplier.apply(query);
 
-        DocumentEntity entity = getEntity(params, updateQuery, observer);
+        PreparedStatementTemplate<DocumentEntity> template = templates.get(query, observer);
+        return DefaultDocumentPreparedStatementAsync.update(template, query, collectionManager);
+    }
 
-        return DefaultDocumentPreparedStatementAsync.update(entity, params, query, collectionManager);
+    private PreparedStatementTemplate<DocumentEntity> getTemplate(String query, DocumentObserverParser observer) {
+        UpdateQuery updateQuery = supplier.apply(query);
+        return PreparedStatementTemplate.of(params -> getEntity(params, updateQuery, observer));
     }
 
     private DocumentEntity getEntity(Params params, UpdateQuery updateQuery, DocumentObserverParser observer) {
@@ -25,14 +25,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.jnosql.diana.api.Condition.AND;
 import static org.jnosql.diana.api.Condition.OR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class DefaultDocumentConditionTest {
@@ -241,4 +244,88 @@ public class DefaultDocumentConditionTest {
         });
         assertThat(integers, contains(12, 13));
     }
-}
\ No newline at end of file
+    @Test
+    public void shouldKeepTheConditionsImmutableWhenAppend() {
+        DocumentCondition age = DocumentCondition.eq(Document.of("age", 26));
+        DocumentCondition name = DocumentCondition.eq(Document.of("name", "Ada"));
+        DocumentCondition city = DocumentCondition.eq(Document.of("city", "London"));
+        DocumentCondition country = DocumentCondition.eq(Document.of("country", "UK"));
+
+        DocumentCondition and = age.and(name);
+        DocumentCondition andCity = and.and(city);
+        DocumentCondition andCountry = and.and(country);
+
+        assertThat(and.getConditions(), contains(age, name));
+        assertThat(andCity.getConditions(), contains(age, name, city));
+        assertThat(andCountry.getConditions(), contains(age, name, country));
+        List<DocumentCondition> conditions = andCity.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+        assertThat(conditions, contains(age, name, city));
+    }
+
+    @Test
+    public void shouldAppendManyConditions() {
+        DocumentCondition condition = DocumentCondition.eq(Document.of("id", 0));
+        for (int index = 1; index < 100; index++) {
+            condition = condition.or(DocumentCondition.eq(Document.of("id", index)));
+        }
+        assertEquals(OR, condition.getCondition());
+        assertEquals(100, condition.getConditions().size());
+        assertEquals(DocumentCondition.eq(Document.of("id", 99)), condition.getConditions().get(99));
+    }
+
+    @Test
+    public void shouldReturnConditions() {
+        DocumentCondition age = DocumentCondition.eq(Document.of("age", 26));
+        assertTrue(age.getConditions().isEmpty());
+        assertThat(age.negate().getConditions(), contains(age));
+        assertThrows(UnsupportedOperationException.class, () -> age.negate().getConditions().add(age));
+    }
+
+    @Test
+    public void shouldReturnConditionsFromAndOr() {
+        DocumentCondition age = DocumentCondition.eq(Document.of("age", 26));
+        DocumentCondition name = DocumentCondition.eq(Document.of("name", "Ada"));
+        DocumentCondition city = DocumentCondition.eq(Document.of("city", "London"));
+
+        assertThat(DocumentCondition.and(age, name, city).getConditions(), contains(age, name, city));
+        assertThat(DocumentCondition.or(age, name).getConditions(), contains(age, name));
+        assertThat(age.and(name).or(city).getConditions(), contains(age.and(name), city));
+        assertThrows(UnsupportedOperationException.class, () -> age.and(name).getConditions().add(city));
+    }
+
+    @Test
+    public void shouldKeepDocumentAndConditionsInSyncAfterChains() {
+        DocumentCondition age = DocumentCondition.eq(Document.of("age", 26));
+        DocumentCondition name = DocumentCondition.eq(Document.of("name", "Ada"));
+        DocumentCondition city = DocumentCondition.eq(Document.of("city", "London"));
+        DocumentCondition country = DocumentCondition.eq(Document.of("country", "UK"));
+
+        List<DocumentCondition> chains = Arrays.asList(age.and(name), age.and(name).and(city),
+                age.or(name).or(city), age.and(name).or(city), age.or(name).and(city).and(country),
+                DocumentCondition.and(age, name).and(city), DocumentCondition.or(age, name).or(city).or(country));
+
+        for (DocumentCondition condition : chains) {
+            List<DocumentCondition> fromDocument = condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+            });
+            assertEquals(fromDocument, condition.getConditions());
+        }
+
+        DocumentCondition negate = age.and(name).negate();
+        assertEquals(singletonList(negate.getDocument().get(DocumentCondition.class)), negate.getConditions());
+    }
+
+    @Test
+    public void shouldBeEqualsWhenTheChainsHaveTheSameConditions() {
+        DocumentCondition age = DocumentCondition.eq(Document.of("age", 26));
+        DocumentCondition name = DocumentCondition.eq(Document.of("name", "Ada"));
+        DocumentCondition city = DocumentCondition.eq(Document.of("city", "London"));
+
+        DocumentCondition chain = age.and(name).and(city);
+        DocumentCondition and = DocumentCondition.and(age, name, city);
+        assertEquals(and, chain);
+        assertEquals(and.hashCode(), chain.hashCode());
+        assertEquals(and.getDocument(), chain.getDocument());
+        assertNotEquals(DocumentCondition.or(age, name, city), chain);
+    }
+}
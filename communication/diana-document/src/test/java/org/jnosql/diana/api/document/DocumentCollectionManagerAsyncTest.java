@@ -0,0 +1,174 @@
+/*
+ *
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.diana.api.document;
+
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.flow.Subscriber;
+import org.jnosql.diana.api.flow.Subscription;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DocumentCollectionManagerAsyncTest {
+
+    private DocumentCollectionManagerAsync manager;
+
+    @BeforeEach
+    public void setUp() {
+        manager = Mockito.mock(DocumentCollectionManagerAsync.class, Mockito.CALLS_REAL_METHODS);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> manager.insertAsync((DocumentEntity) null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.insertAsync((Iterable<DocumentEntity>) null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.insertAsync(DocumentEntity.of("God"), null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.updateAsync((DocumentEntity) null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.deleteAsync(null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.selectAsync(null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.singleResultAsync(null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.queryAsync(null));
+        Assertions.assertThrows(NullPointerException.class, () -> manager.countAsync(null));
+    }
+
+    @Test
+    public void shouldInsertAsync() {
+        DocumentEntity entity = DocumentEntity.of("God");
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<DocumentEntity>>getArgument(1).accept(invocation.getArgument(0));
+            return null;
+        }).when(manager).insert(any(DocumentEntity.class), any(Consumer.class));
+
+        CompletableFuture<DocumentEntity> future = manager.insertAsync(entity).toCompletableFuture();
+        assertEquals(entity, future.join());
+    }
+
+    @Test
+    public void shouldCompleteWhenAllEntitiesAreInserted() {
+        DocumentEntity diana = DocumentEntity.of("Diana");
+        DocumentEntity artemis = DocumentEntity.of("Artemis");
+        Consumer<DocumentEntity>[] callbacks = new Consumer[2];
+        Mockito.doAnswer(invocation -> {
+            DocumentEntity entity = invocation.getArgument(0);
+            callbacks[entity.equals(diana) ? 0 : 1] = invocation.getArgument(2);
+            return null;
+        }).when(manager).insert(any(DocumentEntity.class), any(Duration.class), any(Consumer.class));
+
+        CompletableFuture<List<DocumentEntity>> future = manager.insertAsync(Arrays.asList(diana, artemis),
+                Duration.ofSeconds(10L)).toCompletableFuture();
+        callbacks[1].accept(artemis);
+        assertFalse(future.isDone());
+        callbacks[0].accept(diana);
+        assertEquals(Arrays.asList(diana, artemis), future.join());
+    }
+
+    @Test
+    public void shouldUpdateAndDeleteAsync() {
+        DocumentEntity entity = DocumentEntity.of("God");
+        DocumentDeleteQuery query = delete().from("God").build();
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<DocumentEntity>>getArgument(1).accept(invocation.getArgument(0));
+            return null;
+        }).when(manager).update(any(DocumentEntity.class), any(Consumer.class));
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<Void>>getArgument(1).accept(null);
+            return null;
+        }).when(manager).delete(eq(query), any(Consumer.class));
+
+        assertEquals(Arrays.asList(entity), manager.updateAsync(Arrays.asList(entity)).toCompletableFuture().join());
+        assertTrue(manager.deleteAsync(query).toCompletableFuture().isDone());
+    }
+
+    @Test
+    public void shouldSelectAsync() {
+        DocumentQuery query = select().from("God").build();
+        DocumentEntity diana = DocumentEntity.of("God", Arrays.asList(Document.of("name", "Diana")));
+        DocumentEntity artemis = DocumentEntity.of("God", Arrays.asList(Document.of("name", "Artemis")));
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<List<DocumentEntity>>>getArgument(1).accept(Arrays.asList(diana, artemis));
+            return null;
+        }).when(manager).select(eq(query), any(Consumer.class));
+
+        assertEquals(Arrays.asList(diana, artemis), manager.selectAsync(query).toCompletableFuture().join());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> manager.singleResultAsync(query).toCompletableFuture().join());
+        assertTrue(exception.getCause() instanceof NonUniqueResultException);
+    }
+
+    @Test
+    public void shouldReturnSingleResultAsync() {
+        DocumentQuery query = select().from("God").build();
+        DocumentEntity diana = DocumentEntity.of("God", Arrays.asList(Document.of("name", "Diana")));
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<List<DocumentEntity>>>getArgument(1).accept(Arrays.asList(diana));
+            return null;
+        }).when(manager).select(eq(query), any(Consumer.class));
+
+        assertEquals(Optional.of(diana), manager.singleResultAsync(query).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldSelectPublisher() {
+        DocumentQuery query = select().from("God").build();
+        DocumentEntity diana = DocumentEntity.of("God", Arrays.asList(Document.of("name", "Diana")));
+        DocumentEntity artemis = DocumentEntity.of("God", Arrays.asList(Document.of("name", "Artemis")));
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<List<DocumentEntity>>>getArgument(1).accept(Arrays.asList(diana, artemis));
+            return null;
+        }).when(manager).select(eq(query), any(Consumer.class));
+
+        Subscriber<DocumentEntity> subscriber = Mockito.mock(Subscriber.class);
+        Mockito.doAnswer(invocation -> {
+            invocation.<Subscription>getArgument(0).request(1);
+            return null;
+        }).when(subscriber).onSubscribe(any(Subscription.class));
+
+        manager.selectPublisher(query).subscribe(subscriber);
+        verify(subscriber).onNext(diana);
+        verify(subscriber, never()).onNext(artemis);
+        verify(subscriber, never()).onComplete();
+    }
+
+    @Test
+    public void shouldCountAsync() {
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<Long>>getArgument(1).accept(10L);
+            return null;
+        }).when(manager).count(eq("God"), any(Consumer.class));
+
+        assertEquals(Long.valueOf(10L), manager.countAsync("God").toCompletableFuture().join());
+    }
+}
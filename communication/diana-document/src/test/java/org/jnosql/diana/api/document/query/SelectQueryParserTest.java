@@ -37,6 +37,7 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -525,6 +526,54 @@ public class SelectQueryParserTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldCreateNewQueryToEachExecution(String query) {
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+
+        DocumentPreparedStatement first = parser.prepare(query, documentCollection, observer);
+        DocumentPreparedStatement second = parser.prepare(query, documentCollection, observer);
+        first.bind("age", 12);
+        second.bind("age", 20);
+        first.getResultList();
+        second.getResultList();
+        first.bind("age", 30);
+        first.getResultList();
+        Mockito.verify(documentCollection, Mockito.times(3)).select(captor.capture());
+        List<Object> ages = captor.getAllValues().stream()
+                .map(DocumentQuery::getCondition)
+                .map(c -> c.get().getDocument().get())
+                .collect(Collectors.toList());
+        assertThat(ages, contains(12, 20, 30));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"select  * from God where age = @age"})
+    public void shouldUseTheObserverOfEachPrepare(String query) {
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        DocumentObserverParser mapper = new DocumentObserverParser() {
+            @Override
+            public String fireEntity(String entity) {
+                return "Gods";
+            }
+
+            @Override
+            public String fireField(String entity, String field) {
+                return "god_" + field;
+            }
+        };
+
+        parser.prepare(query, documentCollection, mapper).bind("age", 12).getResultList();
+        parser.prepare(query, documentCollection, observer).bind("age", 20).getResultList();
+        Mockito.verify(documentCollection, Mockito.times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+
+        assertEquals("Gods", queries.get(0).getDocumentCollection());
+        assertEquals("god_age", queries.get(0).getCondition().get().getDocument().getName());
+        assertEquals("God", queries.get(1).getDocumentCollection());
+        assertEquals("age", queries.get(1).getCondition().get().getDocument().getName());
+    }
+
     @ParameterizedTest(name = "Should parser the query {0}")
     @ValueSource(strings = {"select  * from God where age = @age"})
     public void shouldReturnErrorWhenIsQueryWithParamAsync(String query) {
@@ -52,7 +52,10 @@ class DefaultNumberValue implements NumberValue {
     }
 
     public static NumberValue of(QueryParser.NumberContext context) {
-        String value = context.getText();
+        return of(context.getText());
+    }
+
+    static NumberValue of(String value) {
         if (value.contains(".")) {
             return new DefaultNumberValue(Double.valueOf(value));
         }
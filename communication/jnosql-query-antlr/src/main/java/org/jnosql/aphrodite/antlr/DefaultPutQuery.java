@@ -15,6 +15,7 @@ import org.jnosql.query.PutQuery;
 import org.jnosql.query.Value;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
 
 final class DefaultPutQuery implements PutQuery {
@@ -46,6 +47,24 @@ final class DefaultPutQuery implements PutQuery {
         return Optional.ofNullable(ttl);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultPutQuery)) {
+            return false;
+        }
+        DefaultPutQuery that = (DefaultPutQuery) o;
+        return Objects.equals(key, that.key) &&
+                Objects.equals(value, that.value) &&
+                Objects.equals(ttl, that.ttl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, value, ttl);
+    }
 
     @Override
     public String toString() {
@@ -65,4 +65,8 @@ final class DefaultSort implements Sort {
         SortType type = context.desc() == null? SortType.ASC: SortType.DESC;
         return new DefaultSort(text, type);
     }
+
+    static Sort of(String name, SortType type) {
+        return new DefaultSort(name, type);
+    }
 }
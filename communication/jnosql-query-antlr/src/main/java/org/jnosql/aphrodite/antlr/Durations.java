@@ -19,8 +19,10 @@ final class Durations {
     }
 
     static Duration get(QueryParser.TtlContext ctx) {
-        long value = Long.valueOf(ctx.INT().getText());
-        String unit = ctx.unit().getText();
+        return get(Long.valueOf(ctx.INT().getText()), ctx.unit().getText());
+    }
+
+    static Duration get(long value, String unit) {
         switch (unit) {
             case "day":
                 return Duration.ofDays(value);
@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.aphrodite.antlr;
+
+import org.jnosql.query.GetQuery;
+import org.jnosql.query.GetQuerySupplier;
+
+/**
+ * The {@link GetQuerySupplier} implementation that reads the most common queries with a hand-written parser,
+ * without the Antlr4 pipeline, and uses the {@link AntlrGetQuerySupplier} to any other query.
+ */
+public final class FastGetQuerySupplier implements GetQuerySupplier {
+
+    @Override
+    public GetQuery apply(String query) {
+        return FastQueryParser.get(query).orElseGet(() -> new AntlrGetQuerySupplier().apply(query));
+    }
+}
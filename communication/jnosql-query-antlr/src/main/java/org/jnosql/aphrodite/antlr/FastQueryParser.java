@@ -0,0 +1,477 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.aphrodite.antlr;
+
+import org.jnosql.query.Condition;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.GetQuery;
+import org.jnosql.query.Operator;
+import org.jnosql.query.PutQuery;
+import org.jnosql.query.RemoveQuery;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.Sort;
+import org.jnosql.query.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static org.jnosql.query.Operator.EQUALS;
+import static org.jnosql.query.Operator.GREATER_EQUALS_THAN;
+import static org.jnosql.query.Operator.GREATER_THAN;
+import static org.jnosql.query.Operator.LESSER_EQUALS_THAN;
+import static org.jnosql.query.Operator.LESSER_THAN;
+import static org.jnosql.query.Operator.LIKE;
+
+/**
+ * A hand-written recursive-descent parser to the most common shapes of the Query.g4 grammar: the get, remove
+ * and put commands whose values are numbers, strings or parameters, and the select and delete queries whose where
+ * clause only has the =, &gt;, &gt;=, &lt;, &lt;= and like conditions, joined by and/or, each one optionally negated.
+ * It reads the query straight into the same objects the Antlr4 suppliers create; whenever it finds anything
+ * out of that subset, including any malformed query, it gives up and returns an empty {@link Optional},
+ * so the caller falls back to the Antlr4 supplier, which remains the reference of the grammar and of its errors.
+ */
+final class FastQueryParser {
+
+    private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("select", "delete", "insert",
+            "update", "get", "remove", "put", "from", "where", "skip", "limit", "order", "by", "asc", "desc",
+            "between", "in", "like", "not", "and", "or", "day", "hour", "minute", "second", "millisecond",
+            "nanosecond", "true", "false", "null"));
+
+    private static final Set<String> UNITS = new HashSet<>(Arrays.asList("day", "hour", "minute", "second",
+            "millisecond", "nanosecond"));
+
+    private static final Unsupported UNSUPPORTED = new Unsupported();
+
+    private final List<Token> tokens;
+
+    private int position;
+
+    private FastQueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    static Optional<SelectQuery> select(String query) {
+        return parse(query, FastQueryParser::select);
+    }
+
+    static Optional<DeleteQuery> delete(String query) {
+        return parse(query, FastQueryParser::delete);
+    }
+
+    static Optional<GetQuery> get(String query) {
+        return parse(query, parser -> new DefaultGetQuery(parser.keys("get")));
+    }
+
+    static Optional<RemoveQuery> remove(String query) {
+        return parse(query, parser -> new DefaultRemoveQuery(parser.keys("remove")));
+    }
+
+    static Optional<PutQuery> put(String query) {
+        return parse(query, FastQueryParser::put);
+    }
+
+    private static <T> Optional<T> parse(String query, Function<FastQueryParser, T> rule) {
+        Objects.requireNonNull(query, "query is required");
+        try {
+            FastQueryParser parser = new FastQueryParser(tokenize(query));
+            T result = rule.apply(parser);
+            parser.expectEnd();
+            return Optional.of(result);
+        } catch (Unsupported exception) {
+            return Optional.empty();
+        }
+    }
+
+    private SelectQuery select() {
+        expectKeyword("select");
+        List<String> fields = emptyList();
+        if (isSymbol("*")) {
+            position++;
+        } else {
+            fields = names();
+        }
+        expectKeyword("from");
+        String entity = name();
+        WhereBuilder where = where();
+        long skip = 0;
+        long limit = 0;
+        if (isKeyword("skip")) {
+            position++;
+            skip = Long.valueOf(expect(TokenType.INT).text);
+        }
+        if (isKeyword("limit")) {
+            position++;
+            limit = Long.valueOf(expect(TokenType.INT).text);
+        }
+        List<Sort> sorts = emptyList();
+        if (isKeyword("order")) {
+            position++;
+            expectKeyword("by");
+            sorts = sorts();
+        }
+        return new DefaultSelectQuery(entity, fields, sorts, skip, limit, where.build());
+    }
+
+    private DeleteQuery delete() {
+        expectKeyword("delete");
+        List<String> fields = emptyList();
+        if (!isKeyword("from")) {
+            fields = names();
+        }
+        expectKeyword("from");
+        String entity = name();
+        return new DefaultDeleteQuery(entity, fields, where().build());
+    }
+
+    private PutQuery put() {
+        expectKeyword("put");
+        expectSymbol("{");
+        Value<?> key = value();
+        expectSymbol(",");
+        Value<?> value = value();
+        Duration ttl = null;
+        if (isSymbol(",")) {
+            position++;
+            long amount = Long.valueOf(expect(TokenType.INT).text);
+            String unit = expect(TokenType.KEYWORD).text;
+            if (!UNITS.contains(unit)) {
+                throw UNSUPPORTED;
+            }
+            ttl = Durations.get(amount, unit);
+        }
+        expectSymbol("}");
+        return new DefaultPutQuery(key, value, ttl);
+    }
+
+    private List<Value<?>> keys(String command) {
+        expectKeyword(command);
+        List<Value<?>> keys = new ArrayList<>();
+        keys.add(value());
+        while (isSymbol(",")) {
+            position++;
+            keys.add(value());
+        }
+        return keys;
+    }
+
+    private List<String> names() {
+        List<String> names = new ArrayList<>();
+        names.add(name());
+        while (isSymbol(",")) {
+            position++;
+            names.add(name());
+        }
+        return names;
+    }
+
+    private List<Sort> sorts() {
+        List<Sort> sorts = new ArrayList<>();
+        do {
+            String name = name();
+            Sort.SortType type = Sort.SortType.ASC;
+            if (isKeyword("desc")) {
+                position++;
+                type = Sort.SortType.DESC;
+            } else if (isKeyword("asc")) {
+                position++;
+            }
+            sorts.add(DefaultSort.of(name, type));
+        } while (is(TokenType.NAME));
+        return sorts;
+    }
+
+    private WhereBuilder where() {
+        WhereBuilder where = new WhereBuilder();
+        if (!isKeyword("where")) {
+            return where;
+        }
+        position++;
+        condition(where);
+        while (true) {
+            if (isKeyword("and")) {
+                where.and();
+            } else if (isKeyword("or")) {
+                where.or();
+            } else {
+                return where;
+            }
+            position++;
+            condition(where);
+        }
+    }
+
+    private void condition(WhereBuilder where) {
+        boolean hasNot = isKeyword("not");
+        if (hasNot) {
+            position++;
+        }
+        String name = name();
+        if (!hasNot && isKeyword("not")) {
+            position++;
+            expectKeyword("like");
+            where.add(new DefaultCondition(name, LIKE, string()), true);
+            return;
+        }
+        if (!hasNot && isKeyword("like")) {
+            position++;
+            where.add(new DefaultCondition(name, LIKE, string()), false);
+            return;
+        }
+        Operator operator = operator(expect(TokenType.SYMBOL).text);
+        where.add(new DefaultCondition(name, operator, value()), hasNot);
+    }
+
+    private Operator operator(String symbol) {
+        switch (symbol) {
+            case "=":
+                return EQUALS;
+            case ">":
+                return GREATER_THAN;
+            case ">=":
+                return GREATER_EQUALS_THAN;
+            case "<":
+                return LESSER_THAN;
+            case "<=":
+                return LESSER_EQUALS_THAN;
+            default:
+                throw UNSUPPORTED;
+        }
+    }
+
+    private Value<?> value() {
+        Token token = next();
+        switch (token.type) {
+            case INT:
+            case NUMBER:
+                return DefaultNumberValue.of(token.text);
+            case STRING:
+                return new DefaultStringValue(token.text.substring(1, token.text.length() - 1));
+            case PARAMETER:
+                return new DefaultParamValue(token.text.substring(1));
+            case SYMBOL:
+                if ("-".equals(token.text) && (is(TokenType.INT) || is(TokenType.NUMBER))) {
+                    return DefaultNumberValue.of("-" + next().text);
+                }
+                throw UNSUPPORTED;
+            default:
+                throw UNSUPPORTED;
+        }
+    }
+
+    private DefaultStringValue string() {
+        String text = expect(TokenType.STRING).text;
+        return new DefaultStringValue(text.substring(1, text.length() - 1));
+    }
+
+    private String name() {
+        return expect(TokenType.NAME).text;
+    }
+
+    private boolean is(TokenType type) {
+        return position < tokens.size() && tokens.get(position).type == type;
+    }
+
+    private boolean isKeyword(String keyword) {
+        return is(TokenType.KEYWORD) && keyword.equals(tokens.get(position).text);
+    }
+
+    private boolean isSymbol(String symbol) {
+        return is(TokenType.SYMBOL) && symbol.equals(tokens.get(position).text);
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!isKeyword(keyword)) {
+            throw UNSUPPORTED;
+        }
+        position++;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!isSymbol(symbol)) {
+            throw UNSUPPORTED;
+        }
+        position++;
+    }
+
+    private Token expect(TokenType type) {
+        if (!is(type)) {
+            throw UNSUPPORTED;
+        }
+        return next();
+    }
+
+    private Token next() {
+        if (position >= tokens.size()) {
+            throw UNSUPPORTED;
+        }
+        return tokens.get(position++);
+    }
+
+    private void expectEnd() {
+        if (position != tokens.size()) {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int length = query.length();
+        int index = 0;
+        while (index < length) {
+            char current = query.charAt(index);
+            int start = index;
+            if (current == ' ' || current == '\t' || current == '\r' || current == '\n') {
+                index++;
+                continue;
+            }
+            if (isNameStart(current)) {
+                do {
+                    index++;
+                } while (index < length && isNamePart(query.charAt(index)));
+                String text = query.substring(start, index);
+                tokens.add(new Token(KEYWORDS.contains(text) ? TokenType.KEYWORD : TokenType.NAME, text));
+            } else if (isDigit(current)) {
+                index = digits(query, index);
+                TokenType type = TokenType.INT;
+                if (index < length && query.charAt(index) == '.') {
+                    index = digits(query, index + 1);
+                    type = TokenType.NUMBER;
+                }
+                tokens.add(new Token(type, query.substring(start, index)));
+            } else if (current == '"' || current == '\'') {
+                index = string(query, index);
+                tokens.add(new Token(TokenType.STRING, query.substring(start, index)));
+            } else if (current == '@') {
+                do {
+                    index++;
+                } while (index < length && isNamePart(query.charAt(index)));
+                tokens.add(new Token(TokenType.PARAMETER, query.substring(start, index)));
+            } else if ((current == '>' || current == '<') && index + 1 < length && query.charAt(index + 1) == '=') {
+                index += 2;
+                tokens.add(new Token(TokenType.SYMBOL, query.substring(start, index)));
+            } else if ("=<>,{}*-".indexOf(current) >= 0) {
+                index++;
+                tokens.add(new Token(TokenType.SYMBOL, String.valueOf(current)));
+            } else {
+                throw UNSUPPORTED;
+            }
+        }
+        return tokens;
+    }
+
+    private static int string(String query, int start) {
+        char quote = query.charAt(start);
+        int index = start + 1;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (current == quote) {
+                if (quote == '\'' && hasQuote(query, index + 1)) {
+                    throw UNSUPPORTED;
+                }
+                return index + 1;
+            } else if (current == '"') {
+                throw UNSUPPORTED;
+            } else if (current == '\\') {
+                index = escape(query, index + 1);
+            } else {
+                index++;
+            }
+        }
+        throw UNSUPPORTED;
+    }
+
+    /**
+     * The Antlr lexer matches the longest single-quoted string, so it does not end at the first quote
+     * when another one follows before a double quote, e.g. {@code 'x' and b = 'y'} is a single string to Antlr.
+     */
+    private static boolean hasQuote(String query, int index) {
+        for (int current = index; current < query.length(); current++) {
+            char character = query.charAt(current);
+            if (character == '\'') {
+                return true;
+            } else if (character == '"') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static int escape(String query, int index) {
+        if (index < query.length() && "\"\\/bfnrt".indexOf(query.charAt(index)) >= 0) {
+            return index + 1;
+        }
+        if (index + 4 < query.length() && query.charAt(index) == 'u') {
+            for (int hex = index + 1; hex <= index + 4; hex++) {
+                if (Character.digit(query.charAt(hex), 16) < 0) {
+                    throw UNSUPPORTED;
+                }
+            }
+            return index + 5;
+        }
+        throw UNSUPPORTED;
+    }
+
+    private static int digits(String query, int index) {
+        while (index < query.length() && isDigit(query.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isNameStart(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || character == '_' || character == '.';
+    }
+
+    private static boolean isNamePart(char character) {
+        return isNameStart(character) || isDigit(character);
+    }
+
+    private enum TokenType {
+        NAME, KEYWORD, INT, NUMBER, STRING, PARAMETER, SYMBOL
+    }
+
+    private static final class Token {
+
+        private final TokenType type;
+
+        private final String text;
+
+        private Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Signals a query out of the supported subset; it does not fill the stack trace since it is only a jump
+     * back to the entry point.
+     */
+    private static final class Unsupported extends RuntimeException {
+
+        private Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+}
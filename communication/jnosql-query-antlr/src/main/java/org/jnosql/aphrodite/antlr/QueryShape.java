@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.jnosql.aphrodite.antlr;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.jnosql.query.Condition;
+import org.jnosql.query.ConditionValue;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.ParamValue;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.Value;
+import org.jnosql.query.Where;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.jnosql.query.Operator.AND;
+import static org.jnosql.query.Operator.BETWEEN;
+import static org.jnosql.query.Operator.IN;
+import static org.jnosql.query.Operator.NOT;
+import static org.jnosql.query.Operator.OR;
+
+/**
+ * A select or delete query with its literal values replaced by positional slots, e.g. both
+ * {@code select * from Person where age = 10} and {@code select * from Person where age = 11} have the shape
+ * {@code select * from Person where age = @_jnosql_slot_0}. Queries that only differ on the literal values
+ * share the same shape, so the query parsed from the shape might be kept and then bound to the literals of each
+ * query with {@link #bind(SelectQuery)} or {@link #bind(DeleteQuery)}.
+ * The query is only lexed, and only a literal that is a whole value of a where condition becomes a slot:
+ * the values of {@code like}, {@code skip}, {@code limit}, arrays, functions and JSON are kept in the shape.
+ */
+public final class QueryShape {
+
+    static final String SLOT_PREFIX = "_jnosql_slot_";
+
+    private static final Set<String> VALUE_PREFIXES = new HashSet<>(Arrays.asList("=", ">", ">=", "<", "<=",
+            "between", "and", "(", ","));
+
+    private final String shape;
+
+    private final Value<?>[] literals;
+
+    private QueryShape(String shape, Value<?>[] literals) {
+        this.shape = shape;
+        this.literals = literals;
+    }
+
+    /**
+     * @return the query with the literals replaced by slots
+     */
+    public String getShape() {
+        return shape;
+    }
+
+    /**
+     * @return true when at least one literal was replaced by a slot
+     */
+    public boolean hasLiterals() {
+        return literals.length > 0;
+    }
+
+    /**
+     * Replaces the slots of a query parsed from {@link #getShape()} by the literals of this query
+     *
+     * @param query the query parsed from the shape
+     * @return the query with the literals of this query
+     * @throws NullPointerException when query is null
+     */
+    public SelectQuery bind(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (!hasLiterals()) {
+            return query;
+        }
+        return new DefaultSelectQuery(query.getEntity(), query.getFields(), query.getOrderBy(), query.getSkip(),
+                query.getLimit(), query.getWhere().map(this::bind).orElse(null));
+    }
+
+    /**
+     * Replaces the slots of a query parsed from {@link #getShape()} by the literals of this query
+     *
+     * @param query the query parsed from the shape
+     * @return the query with the literals of this query
+     * @throws NullPointerException when query is null
+     */
+    public DeleteQuery bind(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (!hasLiterals()) {
+            return query;
+        }
+        return new DefaultDeleteQuery(query.getEntity(), query.getFields(),
+                query.getWhere().map(this::bind).orElse(null));
+    }
+
+    private Where bind(Where where) {
+        return new DefaultWhere(bind(where.getCondition()));
+    }
+
+    private Condition bind(Condition condition) {
+        Value<?> value = condition.getValue();
+        if (AND.equals(condition.getOperator()) || OR.equals(condition.getOperator())
+                || NOT.equals(condition.getOperator())) {
+            List<Condition> conditions = new ArrayList<>();
+            for (Condition element : ConditionValue.class.cast(value).get()) {
+                conditions.add(bind(element));
+            }
+            return new DefaultCondition(condition.getName(), condition.getOperator(),
+                    DefaultConditionValue.of(conditions));
+        } else if (IN.equals(condition.getOperator()) || BETWEEN.equals(condition.getOperator())) {
+            Value<?>[] values = ((Value<?>[]) value.get()).clone();
+            for (int index = 0; index < values.length; index++) {
+                values[index] = bind(values[index]);
+            }
+            return new DefaultCondition(condition.getName(), condition.getOperator(), DefaultArrayValue.of(values));
+        }
+        return new DefaultCondition(condition.getName(), condition.getOperator(), bind(value));
+    }
+
+    private Value<?> bind(Value<?> value) {
+        if (value instanceof ParamValue) {
+            String name = ParamValue.class.cast(value).get();
+            if (name.startsWith(SLOT_PREFIX)) {
+                return literals[Integer.parseInt(name.substring(SLOT_PREFIX.length()))];
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Lexes the query and replaces its literal values by slots
+     *
+     * @param query the query
+     * @return the query shape
+     * @throws NullPointerException when query is null
+     * @throws org.jnosql.diana.api.QueryException when the query has an invalid token
+     */
+    public static QueryShape of(String query) {
+        Objects.requireNonNull(query, "query is required");
+        QueryLexer lexer = new QueryLexer(CharStreams.fromString(query));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(QueryErrorListener.INSTANCE);
+        List<? extends Token> tokens = lexer.getAllTokens();
+
+        StringBuilder shape = new StringBuilder(query.length());
+        List<Value<?>> literals = new ArrayList<>();
+        int depth = 0;
+        String previous = null;
+        for (int index = 0; index < tokens.size(); index++) {
+            Token token = tokens.get(index);
+            String text = token.getText();
+            if (shape.length() > 0) {
+                shape.append(' ');
+            }
+            if (depth == 0 && VALUE_PREFIXES.contains(previous)) {
+                String literal = getLiteral(tokens, index);
+                if (literal != null) {
+                    if (token.getType() == QueryLexer.STRING) {
+                        literals.add(new DefaultStringValue(literal.substring(1, literal.length() - 1)));
+                    } else {
+                        literals.add(DefaultNumberValue.of(literal));
+                        index += literal.startsWith("-") ? 1 : 0;
+                    }
+                    shape.append('@').append(SLOT_PREFIX).append(literals.size() - 1);
+                    previous = literal;
+                    continue;
+                }
+            }
+            if ("{".equals(text) || "[".equals(text)) {
+                depth++;
+            } else if ("}".equals(text) || "]".equals(text)) {
+                depth--;
+            }
+            shape.append(text);
+            previous = text;
+        }
+        return new QueryShape(shape.toString(), literals.toArray(new Value<?>[0]));
+    }
+
+    private static String getLiteral(List<? extends Token> tokens, int index) {
+        Token token = tokens.get(index);
+        switch (token.getType()) {
+            case QueryLexer.STRING:
+            case QueryLexer.INT:
+            case QueryLexer.NUMBER:
+                return token.getText();
+            default:
+                if ("-".equals(token.getText()) && index + 1 < tokens.size()) {
+                    Token number = tokens.get(index + 1);
+                    if (number.getType() == QueryLexer.INT || number.getType() == QueryLexer.NUMBER) {
+                        return "-" + number.getText();
+                    }
+                }
+                return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QueryShape{" + "shape='" + shape + '\'' +
+                ", literals=" + Arrays.toString(literals) +
+                '}';
+    }
+}
@@ -11,50 +11,168 @@
  */
 package org.jnosql.aphrodite.antlr.cache;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
-import static java.util.Collections.synchronizedMap;
+/**
+ * A concurrent and size-bounded cache of parsed queries. Reads are lock-free, a missing key is loaded once
+ * even when several threads ask for it at the same time, and when the cache grows beyond its maximum size the
+ * entries are evicted using the CLOCK (second chance) policy, an approximation of LRU that does not require
+ * a lock on read.
+ * The maximum size might be defined by the {@link CacheQuery#MAX_SIZE_PROPERTY} system property, and the
+ * {@link CacheQuery#FAST_PARSER_PROPERTY} system property makes the cached suppliers load the queries with the
+ * hand-written parsers, such as {@link org.jnosql.aphrodite.antlr.FastSelectQuerySupplier}.
+ * Besides the query suppliers of this package, the Diana parsers keep their converted queries in it as well.
+ *
+ * @param <K> the key type
+ * @param <V> the cached value type
+ */
+public final class CacheQuery<K, V> {
+
+    static final String MAX_SIZE_PROPERTY = "jnosql.query.cache.size";
+
+    static final int DEFAULT_MAX_SIZE = 1_000;
+
+    static final String FAST_PARSER_PROPERTY = "jnosql.query.parser.fast";
+
+    private final ConcurrentMap<K, Entry<V>> store = new ConcurrentHashMap<>();
 
-final class CacheQuery<V> {
+    private final Queue<K> clock = new ConcurrentLinkedQueue<>();
 
-    private final Map<String, V> store = synchronizedMap(new WeakHashMap<>());
-    private final Function<String, V> supplier;
+    private final LongAdder hits = new LongAdder();
 
-    private CacheQuery(Function<String, V> supplier) {
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final Function<K, V> supplier;
+
+    private final int maxSize;
+
+    private CacheQuery(Function<K, V> supplier, int maxSize) {
         this.supplier = supplier;
+        this.maxSize = maxSize;
     }
 
 
-    public V get(String key) {
-        V value = this.store.get(key);
-        if (Objects.isNull(value)) {
-            synchronized (key) {
-                value = supplier.apply(key);
-                put(key, value);
-            }
+    public V get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        Entry<V> entry = store.get(key);
+        if (Objects.nonNull(entry)) {
+            entry.referenced = true;
+            hits.increment();
+            return entry.value;
         }
-        return value;
+        entry = store.computeIfAbsent(key, k -> new Entry<>(supplier.apply(k)));
+        if (entry.enqueue()) {
+            misses.increment();
+            clock.offer(key);
+            evict();
+        } else {
+            hits.increment();
+        }
+        return entry.value;
     }
 
     public int size() {
         return store.size();
     }
 
-    private V put(String key, V value) {
-        return store.put(key, value);
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of lookups answered without loading the value
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to load the value
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries removed to keep the cache within its maximum size
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void evict() {
+        while (store.size() > maxSize) {
+            K candidate = clock.poll();
+            if (Objects.isNull(candidate)) {
+                return;
+            }
+            Entry<V> entry = store.get(candidate);
+            if (Objects.isNull(entry)) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.offer(candidate);
+            } else if (store.remove(candidate, entry)) {
+                evictions.increment();
+            }
+        }
     }
 
     @Override
     public String toString() {
-        return "CacheQuery{" + "store=" + store +
+        return "CacheQuery{" + "size=" + store.size() +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
                 '}';
     }
 
-    public static <V> CacheQuery<V> of(Function<String, V> supplier) {
-        return new CacheQuery<>(supplier);
+    static boolean isFastParser() {
+        return Boolean.valueOf(System.getProperty(FAST_PARSER_PROPERTY));
+    }
+
+    public static <K, V> CacheQuery<K, V> of(Function<K, V> supplier) {
+        return of(supplier, Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+    }
+
+    public static <K, V> CacheQuery<K, V> of(Function<K, V> supplier, int maxSize) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The cache max size must be greater than zero: " + maxSize);
+        }
+        return new CacheQuery<>(supplier, maxSize);
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private volatile boolean referenced;
+
+        private final AtomicBoolean enqueued = new AtomicBoolean();
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        /**
+         * Only the first caller that finds the entry right after it is loaded puts it in the clock,
+         * it happens after the entry is in the store, so the eviction never drops a key that is not stored yet.
+         */
+        private boolean enqueue() {
+            return enqueued.compareAndSet(false, true);
+        }
     }
 
 }
@@ -12,26 +12,55 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrDeleteQuerySupplier;
+import org.jnosql.aphrodite.antlr.FastDeleteQuerySupplier;
+import org.jnosql.aphrodite.antlr.QueryShape;
+import org.jnosql.diana.api.QueryException;
 import org.jnosql.query.DeleteQuery;
 import org.jnosql.query.DeleteQuerySupplier;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
- * The {@link AntlrDeleteQuerySupplier} cache wrapper.
+ * The {@link AntlrDeleteQuerySupplier} cache wrapper. The queries are cached by their {@link QueryShape},
+ * so the queries that only differ on the literal values are parsed once. The shape of each query string is
+ * cached as well, so a repeated query string is not lexed again.
+ * A shape that cannot be parsed is remembered as such, and its queries are parsed by ANTLR and cached by
+ * the original query string instead.
  */
 public final class CachedDeleteQuerySupplier implements DeleteQuerySupplier {
 
-    private final CacheQuery<DeleteQuery> cached;
+    private final CacheQuery<String, Optional<DeleteQuery>> cached;
+
+    private final CacheQuery<String, QueryShape> shapes = CacheQuery.of(QueryShape::of);
+
+    private final CacheQuery<String, DeleteQuery> fallback = CacheQuery.of(q -> new AntlrDeleteQuerySupplier().apply(q));
 
 
     public CachedDeleteQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrDeleteQuerySupplier().apply(q));
+        this(CacheQuery.isFastParser() ? new FastDeleteQuerySupplier() : q -> new AntlrDeleteQuerySupplier().apply(q));
+    }
+
+    CachedDeleteQuerySupplier(DeleteQuerySupplier supplier) {
+        this.cached = CacheQuery.of(q -> parse(supplier, q));
     }
 
     @Override
     public DeleteQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        QueryShape shape = shapes.get(query);
+        Optional<DeleteQuery> parsed = cached.get(shape.hasLiterals() ? shape.getShape() : query);
+        if (!parsed.isPresent()) {
+            return fallback.get(query);
+        }
+        return shape.hasLiterals() ? shape.bind(parsed.get()) : parsed.get();
+    }
+
+    private static Optional<DeleteQuery> parse(DeleteQuerySupplier supplier, String query) {
+        try {
+            return Optional.of(supplier.apply(query));
+        } catch (QueryException exception) {
+            return Optional.empty();
+        }
     }
 }
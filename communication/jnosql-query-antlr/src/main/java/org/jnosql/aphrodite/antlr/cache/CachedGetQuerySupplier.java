@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrGetQuerySupplier;
+import org.jnosql.aphrodite.antlr.FastGetQuerySupplier;
 import org.jnosql.query.GetQuery;
 import org.jnosql.query.GetQuerySupplier;
 
@@ -23,11 +24,12 @@ import java.util.Objects;
  */
 public final class CachedGetQuerySupplier implements GetQuerySupplier {
 
-    private final CacheQuery<GetQuery> cached;
+    private final CacheQuery<String, GetQuery> cached;
 
 
     public CachedGetQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrGetQuerySupplier().apply(q));
+        this.cached = CacheQuery.of(CacheQuery.isFastParser() ? new FastGetQuerySupplier()
+                : q -> new AntlrGetQuerySupplier().apply(q));
     }
 
     @Override
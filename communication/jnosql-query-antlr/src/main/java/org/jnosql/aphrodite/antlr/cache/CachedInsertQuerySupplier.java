@@ -22,7 +22,7 @@ import java.util.Objects;
  */
 public final class CachedInsertQuerySupplier implements InsertQuerySupplier {
 
-    private final CacheQuery<InsertQuery> cached;
+    private final CacheQuery<String, InsertQuery> cached;
 
     public CachedInsertQuerySupplier() {
         this.cached = CacheQuery.of(q -> new AntlrInsertQuerySupplier().apply(q));
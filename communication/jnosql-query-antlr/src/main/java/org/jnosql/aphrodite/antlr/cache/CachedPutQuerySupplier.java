@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrPutQuerySupplier;
+import org.jnosql.aphrodite.antlr.FastPutQuerySupplier;
 import org.jnosql.query.PutQuery;
 import org.jnosql.query.PutQuerySupplier;
 
@@ -22,11 +23,12 @@ import java.util.Objects;
  */
 public final class CachedPutQuerySupplier implements PutQuerySupplier {
 
-    private final CacheQuery<PutQuery> cached;
+    private final CacheQuery<String, PutQuery> cached;
 
 
     public CachedPutQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrPutQuerySupplier().apply(q));
+        this.cached = CacheQuery.of(CacheQuery.isFastParser() ? new FastPutQuerySupplier()
+                : q -> new AntlrPutQuerySupplier().apply(q));
     }
 
     @Override
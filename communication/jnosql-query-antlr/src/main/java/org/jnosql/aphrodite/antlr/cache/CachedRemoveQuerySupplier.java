@@ -12,6 +12,7 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrRemoveQuerySupplier;
+import org.jnosql.aphrodite.antlr.FastRemoveQuerySupplier;
 import org.jnosql.query.RemoveQuery;
 import org.jnosql.query.RemoveQuerySupplier;
 
@@ -22,11 +23,12 @@ import java.util.Objects;
  */
 public final class CachedRemoveQuerySupplier implements RemoveQuerySupplier {
 
-    private final CacheQuery<RemoveQuery> cached;
+    private final CacheQuery<String, RemoveQuery> cached;
 
 
     public CachedRemoveQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrRemoveQuerySupplier().apply(q));
+        this.cached = CacheQuery.of(CacheQuery.isFastParser() ? new FastRemoveQuerySupplier()
+                : q -> new AntlrRemoveQuerySupplier().apply(q));
     }
 
     @Override
@@ -12,26 +12,55 @@
 package org.jnosql.aphrodite.antlr.cache;
 
 import org.jnosql.aphrodite.antlr.AntlrSelectQuerySupplier;
+import org.jnosql.aphrodite.antlr.FastSelectQuerySupplier;
+import org.jnosql.aphrodite.antlr.QueryShape;
+import org.jnosql.diana.api.QueryException;
 import org.jnosql.query.SelectQuery;
 import org.jnosql.query.SelectQuerySupplier;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
- * The {@link AntlrSelectQuerySupplier} cache wrapper.
+ * The {@link AntlrSelectQuerySupplier} cache wrapper. The queries are cached by their {@link QueryShape},
+ * so the queries that only differ on the literal values are parsed once. The shape of each query string is
+ * cached as well, so a repeated query string is not lexed again.
+ * A shape that cannot be parsed is remembered as such, and its queries are parsed by ANTLR and cached by
+ * the original query string instead.
  */
 public final class CachedSelectQuerySupplier implements SelectQuerySupplier {
 
-    private final CacheQuery<SelectQuery> cached;
+    private final CacheQuery<String, Optional<SelectQuery>> cached;
+
+    private final CacheQuery<String, QueryShape> shapes = CacheQuery.of(QueryShape::of);
+
+    private final CacheQuery<String, SelectQuery> fallback = CacheQuery.of(q -> new AntlrSelectQuerySupplier().apply(q));
 
 
     public CachedSelectQuerySupplier() {
-        this.cached = CacheQuery.of(q -> new AntlrSelectQuerySupplier().apply(q));
+        this(CacheQuery.isFastParser() ? new FastSelectQuerySupplier() : q -> new AntlrSelectQuerySupplier().apply(q));
+    }
+
+    CachedSelectQuerySupplier(SelectQuerySupplier supplier) {
+        this.cached = CacheQuery.of(q -> parse(supplier, q));
     }
 
     @Override
     public SelectQuery apply(String query) {
         Objects.requireNonNull(query, "query is required");
-        return cached.get(query);
+        QueryShape shape = shapes.get(query);
+        Optional<SelectQuery> parsed = cached.get(shape.hasLiterals() ? shape.getShape() : query);
+        if (!parsed.isPresent()) {
+            return fallback.get(query);
+        }
+        return shape.hasLiterals() ? shape.bind(parsed.get()) : parsed.get();
+    }
+
+    private static Optional<SelectQuery> parse(SelectQuerySupplier supplier, String query) {
+        try {
+            return Optional.of(supplier.apply(query));
+        } catch (QueryException exception) {
+            return Optional.empty();
+        }
     }
 }
@@ -22,7 +22,7 @@ import java.util.Objects;
  */
 public final class CachedUpdateQuerySupplier implements UpdateQuerySupplier {
 
-    private final CacheQuery<UpdateQuery> cached;
+    private final CacheQuery<String, UpdateQuery> cached;
 
 
     public CachedUpdateQuerySupplier() {
@@ -12,6 +12,7 @@
 
 /**
  *  This package contains the wrapper to the Antlr supplier implementation; this wrapper
- *  cache keeps the values converter to 5 minutes at least after that time the result will be expired.
+ *  keeps the parsed queries in a bounded cache, the least recently used queries are evicted when the cache is full.
+ *  The cache size is defined by the "jnosql.query.cache.size" system property.
  */
-package org.jnosql.aphrodite.antlr.cache;
\ No newline at end of file
+package org.jnosql.aphrodite.antlr.cache;
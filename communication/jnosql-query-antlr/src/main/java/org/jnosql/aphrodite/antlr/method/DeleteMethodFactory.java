@@ -22,6 +22,7 @@ import java.util.function.BiFunction;
  * - The Method
  * - The entity name
  * - The DeleteQuery from both Method and entity name
+ * The method name is parsed once per entity, the next calls return the same DeleteQuery instance.
  */
 public interface DeleteMethodFactory extends BiFunction<Method, String, DeleteQuery> {
 
@@ -14,16 +14,20 @@ package org.jnosql.aphrodite.antlr.method;
 import org.jnosql.query.DeleteQuery;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
-enum  DeleteMethodFactorySupplier implements DeleteMethodFactory {
+enum DeleteMethodFactorySupplier implements DeleteMethodFactory {
     INSTANCE;
 
+    private final Map<String, Map<String, DeleteQuery>> queries = new ConcurrentHashMap<>();
+
     @Override
     public DeleteQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        DeleteByMethodQuerySupplier supplier = new DeleteByMethodQuerySupplier();
-        return supplier.apply(method.getName(), entity);
+        return queries.computeIfAbsent(entity, e -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method.getName(), name -> new DeleteByMethodQuerySupplier().apply(name, entity));
     }
 }
@@ -14,17 +14,21 @@ package org.jnosql.aphrodite.antlr.method;
 import org.jnosql.query.SelectQuery;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum SelectMethodFactorySupplier implements SelectMethodFactory {
 
     INSTANCE;
 
+    private final Map<String, Map<String, SelectQuery>> queries = new ConcurrentHashMap<>();
+
     @Override
     public SelectQuery apply(Method method, String entity) {
         Objects.requireNonNull(method, "method is required");
         Objects.requireNonNull(entity, "entity is required");
-        FindByMethodQuerySupplier supplier = new FindByMethodQuerySupplier();
-        return supplier.apply(method.getName(), entity);
+        return queries.computeIfAbsent(entity, e -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method.getName(), name -> new FindByMethodQuerySupplier().apply(name, entity));
     }
 }
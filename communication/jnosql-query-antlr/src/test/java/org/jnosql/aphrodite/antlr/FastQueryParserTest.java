@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.jnosql.aphrodite.antlr;
+
+import org.jnosql.diana.api.QueryException;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.GetQuery;
+import org.jnosql.query.PutQuery;
+import org.jnosql.query.RemoveQuery;
+import org.jnosql.query.SelectQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FastQueryParserTest {
+
+    @Test
+    public void shouldReturnErrorWhenQueryIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> FastQueryParser.select(null));
+        Assertions.assertThrows(NullPointerException.class, () -> new FastGetQuerySupplier().apply(null));
+    }
+
+    @ParameterizedTest(name = "Should parse as Antlr the select query {0}")
+    @ValueSource(strings = {"select * from God",
+            "select name, age ,adress.age from God",
+            "select * from God skip 12 limit 12 order by name asc age desc",
+            "select * from God order by name",
+            "select * from God where age = 10",
+            "select * from God where not age >= -10.5 and name = \"Diana\" or age < 2 skip 1 limit 3",
+            "select * from God where age > 10 or name <= 'Ar\\\"tem\\u0041is' or stamina = 1 and age = @age",
+            "select * from God where name like \"Dia%\" and name not like 'Art' or not age = 2. and age = -3",
+            "select * from God where a = 1 and b = 2 or c = 3 and d = 4 or e = 5",
+            "select * from God where age=10and name='Diana'",
+            "select * from God where age = @ and name = @name.first_0"})
+    public void shouldParseSelectQueryAsAntlr(String query) {
+        Optional<SelectQuery> fast = FastQueryParser.select(query);
+        assertTrue(fast.isPresent());
+        assertEquals(new AntlrSelectQuerySupplier().apply(query), fast.get());
+    }
+
+    @ParameterizedTest(name = "Should parse as Antlr the delete query {0}")
+    @ValueSource(strings = {"delete from God",
+            "delete name, age from God",
+            "delete from God where age = 10 or not name = \"Diana\" and age <= -2.5",
+            "delete from God where name like 'Diana' or age > @age"})
+    public void shouldParseDeleteQueryAsAntlr(String query) {
+        Optional<DeleteQuery> fast = FastQueryParser.delete(query);
+        assertTrue(fast.isPresent());
+        assertEquals(new AntlrDeleteQuerySupplier().apply(query), fast.get());
+    }
+
+    @ParameterizedTest(name = "Should parse as Antlr the key-value query {0}")
+    @ValueSource(strings = {"get \"Diana\"", "get 12", "get -12.5, 'Diana', @key", "get @"})
+    public void shouldParseGetQueryAsAntlr(String query) {
+        Optional<GetQuery> fast = FastQueryParser.get(query);
+        assertTrue(fast.isPresent());
+        assertEquals(new AntlrGetQuerySupplier().apply(query), fast.get());
+
+        String remove = "remove" + query.substring(3);
+        Optional<RemoveQuery> fastRemove = FastQueryParser.remove(remove);
+        assertTrue(fastRemove.isPresent());
+        assertEquals(new AntlrRemoveQuerySupplier().apply(remove), fastRemove.get());
+    }
+
+    @ParameterizedTest(name = "Should parse as Antlr the put query {0}")
+    @ValueSource(strings = {"put {\"Diana\", \"Hunt\"}", "put {12, 10.5}", "put {@key, @value, 10 second}",
+            "put {'Diana', -1, 10 day}", "put {1, 2, 3 nanosecond}"})
+    public void shouldParsePutQueryAsAntlr(String query) {
+        Optional<PutQuery> fast = FastQueryParser.put(query);
+        assertTrue(fast.isPresent());
+        assertEquals(new AntlrPutQuerySupplier().apply(query), fast.get());
+    }
+
+    @ParameterizedTest(name = "Should fall back to Antlr the query {0}")
+    @ValueSource(strings = {"select * from God where age between 10 and 30",
+            "select * from God where age in (1, 2, 3)",
+            "select * from God where name not in ('Diana')",
+            "select * from God where siblings = {\"apollo\": \"Brother\"}",
+            "select * from God where age = {1, 2}",
+            "select * from God where birthday = convert(\"2007-12-03\", java.time.LocalDate)",
+            "select * from God // comment\n where age = 10",
+            "select * from God where name = 'Diana' and age = 'Artemis'",
+            "select * from God where name like 'Dia' or age > 10 and nickname = 'Art'"})
+    public void shouldFallbackToAntlr(String query) {
+        assertFalse(FastQueryParser.select(query).isPresent());
+        assertEquals(new AntlrSelectQuerySupplier().apply(query), new FastSelectQuerySupplier().apply(query));
+    }
+
+    @ParameterizedTest(name = "Should return the Antlr error to the query {0}")
+    @ValueSource(strings = {"select * from", "select from God", "select * from God where", "select * from select",
+            "select * from God where age = 10 skip 1.5", "select * from God where age = \"Diana'",
+            "select * from God where name = 'Di\"ana'", "select * from God where name = \"Di\\ana\"",
+            "select * from God where not name like 'Diana'", "select * from God order by name asc, age",
+            "select * from God limit 10 skip 2", "SELECT * from God", "select * from God where age = #"})
+    public void shouldReturnAntlrErrorToSelect(String query) {
+        assertFalse(FastQueryParser.select(query).isPresent());
+        Assertions.assertThrows(QueryException.class, () -> new FastSelectQuerySupplier().apply(query));
+    }
+
+    @ParameterizedTest(name = "Should return the Antlr error to the query {0}")
+    @ValueSource(strings = {"put {\"Diana\"}", "put {1, 2, 10 year}", "put {1, 2, 10 select}", "put {1, 2} 3",
+            "put 1, 2"})
+    public void shouldReturnAntlrErrorToPut(String query) {
+        assertFalse(FastQueryParser.put(query).isPresent());
+        Assertions.assertThrows(QueryException.class, () -> new FastPutQuerySupplier().apply(query));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+
+package org.jnosql.aphrodite.antlr;
+
+import org.jnosql.diana.api.QueryException;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.SelectQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryShapeTest {
+
+    @Test
+    public void shouldReturnErrorWhenQueryIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> QueryShape.of(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTokenIsInvalid() {
+        Assertions.assertThrows(QueryException.class, () -> QueryShape.of("select * from God where age = #"));
+    }
+
+    @Test
+    public void shouldReplaceLiterals() {
+        QueryShape shape = QueryShape.of("select * from God where age = 10 and name = \"Diana\"");
+        assertTrue(shape.hasLiterals());
+        assertEquals("select * from God where age = @_jnosql_slot_0 and name = @_jnosql_slot_1", shape.getShape());
+    }
+
+    @Test
+    public void shouldShareTheShapeWhenOnlyLiteralsChange() {
+        QueryShape first = QueryShape.of("select * from God where age = 10 and stamina in (1, -2.5)");
+        QueryShape second = QueryShape.of("select  * from God where age=11 and stamina in (3,4)");
+        assertEquals(first.getShape(), second.getShape());
+    }
+
+    @Test
+    public void shouldKeepLiteralsThatAreNotValues() {
+        String query = "select * from God where name like \"Diana\" and siblings = {\"apollo\": \"Brother\"}"
+                + " and age in {1, 2} and birthday = convert(\"2007-12-03\", java.time.LocalDate) skip 10 limit 2";
+        QueryShape shape = QueryShape.of(query);
+        assertFalse(shape.hasLiterals());
+        assertEquals("select * from God where name like \"Diana\" and siblings = { \"apollo\" : \"Brother\" }"
+                + " and age in { 1 , 2 } and birthday = convert( \"2007-12-03\" , java.time.LocalDate ) skip 10 limit 2",
+                shape.getShape());
+    }
+
+    @ParameterizedTest(name = "Should bind the select query {0}")
+    @ValueSource(strings = {"select * from God",
+            "select * from God where age = 10",
+            "select name, age from God where age >= -10.5 and name = \"Diana\" or age < 2 skip 1 limit 3 order by name desc",
+            "select * from God where not age > 10 and not name = 'Diana'",
+            "select * from God where age between 10 and 30 or age in (1, 2, @age) and name like \"Dia\"",
+            "select * from God where age = @age and name = \"Diana\" and stamina <= 20.5",
+            "select * from God where siblings = {\"apollo\": \"Brother\", \"age\": 10} and age = 10",
+            "select * from God where birthday = convert(\"2007-12-03\", java.time.LocalDate) and age = 10"})
+    public void shouldBindSelectQuery(String query) {
+        QueryShape shape = QueryShape.of(query);
+        SelectQuery expected = new AntlrSelectQuerySupplier().apply(query);
+        SelectQuery plan = new AntlrSelectQuerySupplier().apply(shape.getShape());
+        assertEquals(expected, shape.bind(plan));
+    }
+
+    @ParameterizedTest(name = "Should bind the delete query {0}")
+    @ValueSource(strings = {"delete from God",
+            "delete name, age from God where age = 10",
+            "delete from God where age > -10 or name = \"Diana\" and not age = 2",
+            "delete from God where age between 10 and 30 and name = @name"})
+    public void shouldBindDeleteQuery(String query) {
+        QueryShape shape = QueryShape.of(query);
+        DeleteQuery expected = new AntlrDeleteQuerySupplier().apply(query);
+        DeleteQuery plan = new AntlrDeleteQuerySupplier().apply(shape.getShape());
+        assertEquals(expected, shape.bind(plan));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.aphrodite.antlr.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheQueryTest {
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CacheQuery.of(String::length, 0));
+        Assertions.assertThrows(NullPointerException.class, () -> CacheQuery.of(null, 10));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeyIsNull() {
+        CacheQuery<String, Integer> cache = CacheQuery.of(String::length, 10);
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null));
+    }
+
+    @Test
+    public void shouldKeepValueWhenKeyIsNotTheSameInstance() {
+        AtomicInteger counter = new AtomicInteger();
+        CacheQuery<String, Integer> cache = CacheQuery.of(k -> counter.incrementAndGet(), 10);
+        String query = "select * from Person";
+        Integer value = cache.get(new String(query));
+        assertSame(value, cache.get(new String(query)));
+        assertEquals(1, counter.get());
+        assertEquals(1L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldEvictWhenCacheIsFull() {
+        CacheQuery<String, Integer> cache = CacheQuery.of(String::length, 2);
+        cache.get("a");
+        cache.get("bb");
+        cache.get("a");
+        cache.get("ccc");
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.getEvictions());
+        cache.get("a");
+        assertEquals(2L, cache.getHits());
+    }
+
+    @Test
+    public void shouldNotCacheWhenLoadFails() {
+        CacheQuery<String, Integer> cache = CacheQuery.of(k -> {
+            throw new IllegalStateException("invalid query");
+        }, 10);
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get("query"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldLoadOnceWhenConcurrentAccess() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        CacheQuery<String, Integer> cache = CacheQuery.of(k -> counter.incrementAndGet(), 10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int index = 0; index < 8; index++) {
+                futures.add(executor.submit(() -> {
+                    latch.await();
+                    return cache.get(new String("get \"Diana\""));
+                }));
+            }
+            latch.countDown();
+            for (Future<Integer> future : futures) {
+                assertEquals(Integer.valueOf(1), future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, counter.get());
+            assertTrue(cache.getMisses() == 1L);
+            assertEquals(7L, cache.getHits());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldKeepMaxSizeWhenConcurrentLoads() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        CacheQuery<String, Integer> cache = CacheQuery.of(String::length, 16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    latch.await();
+                    for (int index = 0; index < 1_000; index++) {
+                        cache.get("select * from Person where id = " + (index * 8 + offset));
+                    }
+                    return null;
+                }));
+            }
+            latch.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            cache.get("select * from God");
+            assertTrue(cache.size() <= 16);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.aphrodite.antlr.cache;
+
+import org.jnosql.aphrodite.antlr.AntlrSelectQuerySupplier;
+import org.jnosql.diana.api.QueryException;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachedSelectQuerySupplierTest {
+
+    private SelectQuerySupplier supplier = new CachedSelectQuerySupplier();
+
+    @Test
+    public void shouldReturnErrorWhenQueryIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> supplier.apply(null));
+    }
+
+    @Test
+    public void shouldBindTheLiteralsOfEachQuery() {
+        for (int age = 0; age < 10; age++) {
+            String query = "select * from God where age = " + age + " and name = \"Diana" + age + "\"";
+            SelectQuery expected = new AntlrSelectQuerySupplier().apply(query);
+            assertEquals(expected, supplier.apply(query));
+        }
+    }
+
+    @Test
+    public void shouldReturnTheErrorOfTheQuery() {
+        String query = "select * from God where age = 10 name = \"Diana\"";
+        QueryException expected = Assertions.assertThrows(QueryException.class,
+                () -> new AntlrSelectQuerySupplier().apply(query));
+        QueryException exception = Assertions.assertThrows(QueryException.class, () -> supplier.apply(query));
+        assertEquals(expected.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void shouldUseTheFastParserWhenItIsEnabled() {
+        System.setProperty(CacheQuery.FAST_PARSER_PROPERTY, "true");
+        try {
+            SelectQuerySupplier fastSupplier = new CachedSelectQuerySupplier();
+            for (String query : new String[]{"select * from God where age = 10 and name = \"Diana\"",
+                    "select * from God where age between 10 and 30 order by name desc"}) {
+                assertEquals(new AntlrSelectQuerySupplier().apply(query), fastSupplier.apply(query));
+            }
+        } finally {
+            System.clearProperty(CacheQuery.FAST_PARSER_PROPERTY);
+        }
+    }
+
+    @Test
+    public void shouldRememberTheShapesThatFail() {
+        AtomicInteger calls = new AtomicInteger();
+        SelectQuerySupplier failing = q -> {
+            calls.incrementAndGet();
+            throw new QueryException("unsupported shape: " + q);
+        };
+        SelectQuerySupplier fallbackSupplier = new CachedSelectQuerySupplier(failing);
+        for (int index = 0; index < 3; index++) {
+            for (int age = 0; age < 5; age++) {
+                String query = "select * from God where age = " + age;
+                assertEquals(new AntlrSelectQuerySupplier().apply(query), fallbackSupplier.apply(query));
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.jnosql.aphrodite.antlr.method;
+
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.SelectQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SelectMethodFactoryTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        Assertions.assertThrows(NullPointerException.class, () -> SelectMethodFactory.get().apply(null, "Person"));
+        Assertions.assertThrows(NullPointerException.class, () -> SelectMethodFactory.get().apply(method, null));
+    }
+
+    @Test
+    public void shouldReturnSameSelectQuery() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        SelectQuery query = SelectMethodFactory.get().apply(method, "Person");
+        assertEquals("Person", query.getEntity());
+        assertSame(query, SelectMethodFactory.get().apply(method, "Person"));
+        SelectQuery animalQuery = SelectMethodFactory.get().apply(method, "Animal");
+        assertNotSame(query, animalQuery);
+        assertEquals("Animal", animalQuery.getEntity());
+    }
+
+    @Test
+    public void shouldReturnSameDeleteQuery() throws NoSuchMethodException {
+        Method method = PersonRepository.class.getMethod("deleteByName", String.class);
+        DeleteQuery query = DeleteMethodFactory.get().apply(method, "Person");
+        assertEquals("Person", query.getEntity());
+        assertSame(query, DeleteMethodFactory.get().apply(method, "Person"));
+    }
+
+    interface PersonRepository {
+
+        List<Object> findByName(String name);
+
+        void deleteByName(String name);
+    }
+}
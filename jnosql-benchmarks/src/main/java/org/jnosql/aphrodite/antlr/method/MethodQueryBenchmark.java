@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.aphrodite.antlr.method;
+
+import org.jnosql.query.SelectQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The query derivation from the repository method name: cold parses the method name to each call,
+ * cached uses the {@link SelectMethodFactory} that keeps the query per entity. It is at the parser package
+ * to reach the parser without the cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodQueryBenchmark {
+
+    private static final String ENTITY = "Person";
+
+    private Method method;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = PersonRepository.class.getMethod("findByNameAndAgeGreaterThanOrderByNameDesc",
+                String.class, Integer.class);
+    }
+
+    @Benchmark
+    public SelectQuery findByCold() {
+        return new FindByMethodQuerySupplier().apply(method.getName(), ENTITY);
+    }
+
+    @Benchmark
+    public SelectQuery findByCached() {
+        return SelectMethodFactory.get().apply(method, ENTITY);
+    }
+
+    interface PersonRepository {
+
+        List<Object> findByNameAndAgeGreaterThanOrderByNameDesc(String name, Integer age);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks;
+
+import org.jnosql.benchmarks.model.Director;
+import org.jnosql.benchmarks.model.Library;
+import org.jnosql.benchmarks.model.Movie;
+import org.jnosql.benchmarks.model.Person;
+
+import javax.enterprise.inject.se.SeContainer;
+import javax.enterprise.inject.se.SeContainerInitializer;
+
+/**
+ * The CDI container shared by the benchmarks of a fork, the entities are added explicitly,
+ * so they are mapped when the container starts.
+ */
+public enum Container {
+
+    INSTANCE;
+
+    private final SeContainer container = SeContainerInitializer.newInstance()
+            .addBeanClasses(Person.class, Director.class, Movie.class, Library.class)
+            .initialize();
+
+    /**
+     * Returns the bean instance
+     *
+     * @param type the bean type
+     * @param <T>  the type
+     * @return the bean instance
+     */
+    public <T> T select(Class<T> type) {
+        return container.select(type).get();
+    }
+}
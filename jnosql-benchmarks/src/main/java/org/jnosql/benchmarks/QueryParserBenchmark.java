@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks;
+
+import org.jnosql.aphrodite.antlr.AntlrDeleteQuerySupplier;
+import org.jnosql.aphrodite.antlr.AntlrInsertQuerySupplier;
+import org.jnosql.aphrodite.antlr.AntlrSelectQuerySupplier;
+import org.jnosql.query.DeleteQuery;
+import org.jnosql.query.DeleteQuerySupplier;
+import org.jnosql.query.InsertQuery;
+import org.jnosql.query.InsertQuerySupplier;
+import org.jnosql.query.SelectQuery;
+import org.jnosql.query.SelectQuerySupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The query string parsing: cold creates a new Antlr parser to each query, cached uses the suppliers from
+ * the {@link java.util.ServiceLoader} that keep the queries already parsed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryParserBenchmark {
+
+    private static final String DELETE = "delete from Person where age >= 10 and name = @name";
+
+    private static final String INSERT = "insert Person (name = \"Ada\", age = 36, phones = {\"123\", \"456\"})";
+
+    private static final String SELECT = "select * from Person where name = \"Ada\"";
+
+    private static final String SELECT_COMPLEX = "select name, age from Person where age > 10 and name = @name"
+            + " skip 10 limit 20 order by name desc";
+
+    private final SelectQuerySupplier selectSupplier = SelectQuerySupplier.getSupplier();
+
+    private final DeleteQuerySupplier deleteSupplier = DeleteQuerySupplier.getSupplier();
+
+    private final InsertQuerySupplier insertSupplier = InsertQuerySupplier.getSupplier();
+
+    @Benchmark
+    public SelectQuery selectCold() {
+        return new AntlrSelectQuerySupplier().apply(SELECT);
+    }
+
+    @Benchmark
+    public SelectQuery selectCached() {
+        return selectSupplier.apply(SELECT);
+    }
+
+    @Benchmark
+    public SelectQuery selectComplexCold() {
+        return new AntlrSelectQuerySupplier().apply(SELECT_COMPLEX);
+    }
+
+    @Benchmark
+    public SelectQuery selectComplexCached() {
+        return selectSupplier.apply(SELECT_COMPLEX);
+    }
+
+    @Benchmark
+    public DeleteQuery deleteCold() {
+        return new AntlrDeleteQuerySupplier().apply(DELETE);
+    }
+
+    @Benchmark
+    public DeleteQuery deleteCached() {
+        return deleteSupplier.apply(DELETE);
+    }
+
+    @Benchmark
+    public InsertQuery insertCold() {
+        return new AntlrInsertQuerySupplier().apply(INSERT);
+    }
+
+    @Benchmark
+    public InsertQuery insertCached() {
+        return insertSupplier.apply(INSERT);
+    }
+}
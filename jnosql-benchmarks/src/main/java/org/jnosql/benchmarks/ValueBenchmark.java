@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks;
+
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link Value} conversions used by the mapping to read the database values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueBenchmark {
+
+    private static final TypeReference<List<Integer>> LIST_INTEGER = new TypeReference<List<Integer>>() {
+    };
+
+    private static final TypeReference<Map<String, Long>> MAP_LONG = new TypeReference<Map<String, Long>>() {
+    };
+
+    private Value text;
+
+    private Value number;
+
+    private Value list;
+
+    private Value map;
+
+    @Setup
+    public void setUp() {
+        text = Value.of("10");
+        number = Value.of(10);
+        list = Value.of(Arrays.asList("1", "2", "3", "4", "5"));
+        map = Value.of(Collections.singletonMap("key", "10"));
+    }
+
+    @Benchmark
+    public String sameType() {
+        return text.get(String.class);
+    }
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return text.get(Integer.class);
+    }
+
+    @Benchmark
+    public Long integerToLong() {
+        return number.get(Long.class);
+    }
+
+    @Benchmark
+    public BigDecimal integerToBigDecimal() {
+        return number.get(BigDecimal.class);
+    }
+
+    @Benchmark
+    public List<Integer> listOfInteger() {
+        return list.get(LIST_INTEGER);
+    }
+
+    @Benchmark
+    public Map<String, Long> mapOfLong() {
+        return map.get(MAP_LONG);
+    }
+}
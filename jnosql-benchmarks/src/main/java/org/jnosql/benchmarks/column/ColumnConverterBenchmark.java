@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks.column;
+
+import org.jnosql.artemis.column.ColumnEntityConverter;
+import org.jnosql.benchmarks.Container;
+import org.jnosql.benchmarks.model.Director;
+import org.jnosql.benchmarks.model.Entities;
+import org.jnosql.benchmarks.model.Library;
+import org.jnosql.benchmarks.model.Person;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The conversion between the entity and {@link ColumnEntity} to a flat entity, an entity with an embedded field
+ * and an entity with a collection of embedded fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnConverterBenchmark {
+
+    private ColumnEntityConverter converter;
+
+    private Person person;
+
+    private Director director;
+
+    private Library library;
+
+    private ColumnEntity personColumn;
+
+    private ColumnEntity directorColumn;
+
+    private ColumnEntity libraryColumn;
+
+    @Setup
+    public void setUp() {
+        converter = Container.INSTANCE.select(ColumnEntityConverter.class);
+        person = Entities.person();
+        director = Entities.director();
+        library = Entities.library();
+        personColumn = converter.toColumn(person);
+        directorColumn = converter.toColumn(director);
+        libraryColumn = converter.toColumn(library);
+    }
+
+    @Benchmark
+    public ColumnEntity flatToColumn() {
+        return converter.toColumn(person);
+    }
+
+    @Benchmark
+    public Person flatToEntity() {
+        return converter.toEntity(Person.class, personColumn);
+    }
+
+    @Benchmark
+    public ColumnEntity embeddedToColumn() {
+        return converter.toColumn(director);
+    }
+
+    @Benchmark
+    public Director embeddedToEntity() {
+        return converter.toEntity(Director.class, directorColumn);
+    }
+
+    @Benchmark
+    public ColumnEntity collectionToColumn() {
+        return converter.toColumn(library);
+    }
+
+    @Benchmark
+    public Library collectionToEntity() {
+        return converter.toEntity(Library.class, libraryColumn);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks.column;
+
+import org.jnosql.artemis.column.ColumnEntityConverter;
+import org.jnosql.artemis.column.ColumnRepositoryProducer;
+import org.jnosql.artemis.column.ColumnTemplate;
+import org.jnosql.artemis.column.ColumnTemplateProducer;
+import org.jnosql.benchmarks.Container;
+import org.jnosql.benchmarks.model.Entities;
+import org.jnosql.benchmarks.model.Person;
+import org.jnosql.benchmarks.model.PersonRepository;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The template and repository calls end-to-end against a {@link InMemoryColumnFamilyManager}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnTemplateBenchmark {
+
+    private static final int RESULT_SIZE = 10;
+
+    private ColumnTemplate template;
+
+    private ColumnTemplate singleTemplate;
+
+    private PersonRepository repository;
+
+    private Person person;
+
+    private List<Person> people;
+
+    private ColumnQuery query;
+
+    @Setup
+    public void setUp() {
+        person = Entities.person();
+        people = Collections.nCopies(RESULT_SIZE, person);
+        ColumnEntity column = Container.INSTANCE.select(ColumnEntityConverter.class).toColumn(person);
+        ColumnFamilyManager manager = new InMemoryColumnFamilyManager(
+                Collections.nCopies(RESULT_SIZE, column));
+        template = Container.INSTANCE.select(ColumnTemplateProducer.class).get(manager);
+        singleTemplate = Container.INSTANCE.select(ColumnTemplateProducer.class)
+                .get(new InMemoryColumnFamilyManager(Collections.singletonList(column)));
+        repository = Container.INSTANCE.select(ColumnRepositoryProducer.class).get(PersonRepository.class, template);
+        query = ColumnQueryBuilder.select().from("Person").where("name").eq("Ada").build();
+    }
+
+    @Benchmark
+    public Person insert() {
+        return template.insert(person);
+    }
+
+    @Benchmark
+    public Iterable<Person> insertIterable() {
+        return template.insert(people);
+    }
+
+    @Benchmark
+    public List<Person> select() {
+        return template.select(query);
+    }
+
+    @Benchmark
+    public Optional<Person> find() {
+        return singleTemplate.find(Person.class, 10L);
+    }
+
+    @Benchmark
+    public List<Person> queryString() {
+        return template.query("select * from Person where name = \"Ada\"");
+    }
+
+    @Benchmark
+    public List<Person> repositoryFindBy() {
+        return repository.findByName("Ada");
+    }
+
+    @Benchmark
+    public List<Person> repositoryQuery() {
+        return repository.query("Ada");
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks.column;
+
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A {@link ColumnFamilyManager} that does not reach a database: it returns the entities received and the
+ * same result to every select, so the benchmarks measure only the mapping layer.
+ */
+final class InMemoryColumnFamilyManager implements ColumnFamilyManager {
+
+    private final List<ColumnEntity> result;
+
+    InMemoryColumnFamilyManager(List<ColumnEntity> result) {
+        this.result = result;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        return entity;
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+    }
+
+    @Override
+    public List<ColumnEntity> select(ColumnQuery query) {
+        return result;
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        return result.size();
+    }
+
+    @Override
+    public void close() {
+    }
+}
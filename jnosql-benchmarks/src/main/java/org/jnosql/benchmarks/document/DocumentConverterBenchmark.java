@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks.document;
+
+import org.jnosql.artemis.document.DocumentEntityConverter;
+import org.jnosql.benchmarks.Container;
+import org.jnosql.benchmarks.model.Director;
+import org.jnosql.benchmarks.model.Entities;
+import org.jnosql.benchmarks.model.Library;
+import org.jnosql.benchmarks.model.Person;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The conversion between the entity and {@link DocumentEntity} to a flat entity, an entity with an embedded field
+ * and an entity with a collection of embedded fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentConverterBenchmark {
+
+    private DocumentEntityConverter converter;
+
+    private Person person;
+
+    private Director director;
+
+    private Library library;
+
+    private DocumentEntity personDocument;
+
+    private DocumentEntity directorDocument;
+
+    private DocumentEntity libraryDocument;
+
+    @Setup
+    public void setUp() {
+        converter = Container.INSTANCE.select(DocumentEntityConverter.class);
+        person = Entities.person();
+        director = Entities.director();
+        library = Entities.library();
+        personDocument = converter.toDocument(person);
+        directorDocument = converter.toDocument(director);
+        libraryDocument = converter.toDocument(library);
+    }
+
+    @Benchmark
+    public DocumentEntity flatToDocument() {
+        return converter.toDocument(person);
+    }
+
+    @Benchmark
+    public Person flatToEntity() {
+        return converter.toEntity(Person.class, personDocument);
+    }
+
+    @Benchmark
+    public DocumentEntity embeddedToDocument() {
+        return converter.toDocument(director);
+    }
+
+    @Benchmark
+    public Director embeddedToEntity() {
+        return converter.toEntity(Director.class, directorDocument);
+    }
+
+    @Benchmark
+    public DocumentEntity collectionToDocument() {
+        return converter.toDocument(library);
+    }
+
+    @Benchmark
+    public Library collectionToEntity() {
+        return converter.toEntity(Library.class, libraryDocument);
+    }
+}
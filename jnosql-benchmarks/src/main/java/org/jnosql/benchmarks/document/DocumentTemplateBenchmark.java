@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks.document;
+
+import org.jnosql.artemis.document.DocumentEntityConverter;
+import org.jnosql.artemis.document.DocumentRepositoryProducer;
+import org.jnosql.artemis.document.DocumentTemplate;
+import org.jnosql.artemis.document.DocumentTemplateProducer;
+import org.jnosql.benchmarks.Container;
+import org.jnosql.benchmarks.model.Entities;
+import org.jnosql.benchmarks.model.Person;
+import org.jnosql.benchmarks.model.PersonRepository;
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The template and repository calls end-to-end against a {@link InMemoryDocumentCollectionManager}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentTemplateBenchmark {
+
+    private static final int RESULT_SIZE = 10;
+
+    private DocumentTemplate template;
+
+    private DocumentTemplate singleTemplate;
+
+    private PersonRepository repository;
+
+    private Person person;
+
+    private List<Person> people;
+
+    private DocumentQuery query;
+
+    @Setup
+    public void setUp() {
+        person = Entities.person();
+        people = Collections.nCopies(RESULT_SIZE, person);
+        DocumentEntity document = Container.INSTANCE.select(DocumentEntityConverter.class).toDocument(person);
+        DocumentCollectionManager manager = new InMemoryDocumentCollectionManager(
+                Collections.nCopies(RESULT_SIZE, document));
+        template = Container.INSTANCE.select(DocumentTemplateProducer.class).get(manager);
+        singleTemplate = Container.INSTANCE.select(DocumentTemplateProducer.class)
+                .get(new InMemoryDocumentCollectionManager(Collections.singletonList(document)));
+        repository = Container.INSTANCE.select(DocumentRepositoryProducer.class).get(PersonRepository.class, template);
+        query = DocumentQueryBuilder.select().from("Person").where("name").eq("Ada").build();
+    }
+
+    @Benchmark
+    public Person insert() {
+        return template.insert(person);
+    }
+
+    @Benchmark
+    public Iterable<Person> insertIterable() {
+        return template.insert(people);
+    }
+
+    @Benchmark
+    public List<Person> select() {
+        return template.select(query);
+    }
+
+    @Benchmark
+    public Optional<Person> find() {
+        return singleTemplate.find(Person.class, 10L);
+    }
+
+    @Benchmark
+    public List<Person> queryString() {
+        return template.query("select * from Person where name = \"Ada\"");
+    }
+
+    @Benchmark
+    public List<Person> repositoryFindBy() {
+        return repository.findByName("Ada");
+    }
+
+    @Benchmark
+    public List<Person> repositoryQuery() {
+        return repository.query("Ada");
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks.document;
+
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A {@link DocumentCollectionManager} that does not reach a database: it returns the entities received and the
+ * same result to every select, so the benchmarks measure only the mapping layer.
+ */
+final class InMemoryDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final List<DocumentEntity> result;
+
+    InMemoryDocumentCollectionManager(List<DocumentEntity> result) {
+        this.result = result;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        return entity;
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+    }
+
+    @Override
+    public List<DocumentEntity> select(DocumentQuery query) {
+        return result;
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        return result.size();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.benchmarks.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * The entities used at the benchmarks: a flat one, one with an embedded field and one with a collection of
+ * embedded fields.
+ */
+public final class Entities {
+
+    private static final int MOVIES = 10;
+
+    private Entities() {
+    }
+
+    public static Person person() {
+        return new Person(10L, "Ada", 36, Arrays.asList("123-456", "789-012"));
+    }
+
+    public static Director director() {
+        return new Director(20L, "Stanley", new Movie("2001: A Space Odyssey", 1968));
+    }
+
+    public static Library library() {
+        List<Movie> movies = LongStream.range(0, MOVIES)
+                .mapToObj(index -> new Movie("Movie " + index, 1950 + index))
+                .collect(Collectors.toList());
+        return new Library(30L, "Cinematheque", movies);
+    }
+}
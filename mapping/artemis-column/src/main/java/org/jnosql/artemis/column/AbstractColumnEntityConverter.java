@@ -19,22 +19,15 @@ import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFacto
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
 /**
  * Template method to {@link ColumnEntityConverter}
@@ -43,6 +36,8 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final Map<Class<?>, ColumnEntityCodec> codecs = new ConcurrentHashMap<>();
+
 
     protected abstract ClassMappings getClassMappings();
 
@@ -51,15 +46,7 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     @Override
     public ColumnEntity toColumn(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
-        ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        ColumnEntity entity = ColumnEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toColumn(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
-        return entity;
+        return getCodec(entityInstance.getClass()).toColumn(entityInstance, this);
     }
 
     @Override
@@ -73,51 +60,54 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     public <T> T toEntity(T entityInstance, ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(entityInstance, "entityInstance is required");
-        ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        return convertEntity(entity.getColumns(), mapping, entityInstance);
+        return getCodec(entityInstance.getClass()).toEntity(entity.getColumns(), entityInstance, this);
     }
 
     @Override
     public <T> T toEntity(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
         ClassMapping mapping = getClassMappings().findByName(entity.getName());
-        T instance = mapping.newInstance();
-        return convertEntity(entity.getColumns(), mapping, instance);
+        ColumnEntityCodec codec = getCodec(mapping.getClassInstance());
+        T instance = codec.newInstance();
+        return codec.toEntity(entity.getColumns(), instance, this);
     }
 
+    /**
+     * @deprecated the fields are written through the per-class codec, see {@link #toColumn(Object)}
+     */
+    @Deprecated
     protected ColumnFieldValue to(FieldMapping field, Object entityInstance) {
         Object value = field.read(entityInstance);
         return DefaultColumnFieldValue.of(value, field);
     }
 
+    /**
+     * @deprecated the fields are read through the per-class codec, see {@link #toEntity(Class, List)}
+     */
+    @Deprecated
     protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
         return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
+            Column column = columns.stream().filter(c -> c.getName().equals(k)).findFirst().orElse(null);
             FieldMapping field = fieldsGroupByName.get(k);
-            ColumnFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, columns, column, field, this);
+            ColumnFieldConverter fieldConverter = converterFactory.get(field, getConverters());
+            fieldConverter.toEntity(instance, columns, column, this);
         };
     }
 
     protected <T> T toEntity(Class<T> entityClass, List<Column> columns) {
-        ClassMapping mapping = getClassMappings().get(entityClass);
-        T instance = mapping.newInstance();
-        return convertEntity(columns, mapping, instance);
+        ColumnEntityCodec codec = getCodec(entityClass);
+        T instance = codec.newInstance();
+        return codec.toEntity(columns, instance, this);
     }
 
-    private <T> T convertEntity(List<Column> columns, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
-
-        return instance;
+    private ColumnEntityCodec getCodec(Class<?> entityClass) {
+        ColumnEntityCodec codec = codecs.get(entityClass);
+        if (codec == null) {
+            ClassMapping mapping = getClassMappings().get(entityClass);
+            codec = codecs.computeIfAbsent(entityClass,
+                    c -> ColumnEntityCodec.of(mapping, converterFactory, getConverters()));
+        }
+        return codec;
     }
 
 }
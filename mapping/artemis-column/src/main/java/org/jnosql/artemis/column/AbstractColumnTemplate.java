@@ -16,6 +16,7 @@ package org.jnosql.artemis.column;
 
 
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.PreparedStatement;
@@ -38,6 +39,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -98,6 +100,25 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
         return getFlow().flow(entity, update);
     }
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return getFlow().flowBatch(entities, e -> getManager().insert(e));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return getFlow().flowBatch(entities, e -> getManager().insert(e, ttl));
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return getFlow().flowBatch(entities, e -> getManager().update(e));
+    }
+
 
     @Override
     public void delete(ColumnDeleteQuery query) {
@@ -113,10 +134,27 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
     }
 
 
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        getEventManager().firePreQuery(query);
+        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        return getManager().stream(query).map(function);
+    }
+
     @Override
     public <T> Page<T> select(ColumnQueryPagination query) {
-        List<T> entities = executeQuery(query);
-        return new ColumnPage<>(this, entities, query);
+        requireNonNull(query, "query is required");
+        getEventManager().firePreQuery(query);
+        List<ColumnEntity> entities = getManager().select(query);
+        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
+        List<T> result = entities.stream().map(function).collect(toList());
+        if (query.getPagination() instanceof CursoredPagination) {
+            List<Object> cursor = entities.isEmpty() ? ((CursoredPagination) query.getPagination()).getCursor() :
+                    ColumnKeyset.cursor(query.getSorts(), entities.get(entities.size() - 1));
+            return new ColumnPage<>(this, result, query, query.next(cursor));
+        }
+        return new ColumnPage<>(this, result, query);
     }
 
     @Override
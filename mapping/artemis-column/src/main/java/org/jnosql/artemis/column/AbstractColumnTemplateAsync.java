@@ -21,6 +21,7 @@ import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
@@ -28,11 +29,15 @@ import org.jnosql.diana.api.column.ColumnObserverParser;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.api.column.ColumnQueryParserAsync;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
+import org.jnosql.diana.api.flow.Publisher;
+import org.jnosql.diana.api.flow.Publishers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
@@ -48,6 +53,8 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     };
     private static final ColumnQueryParserAsync PARSER = ColumnQueryParserAsync.getParser();
 
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     protected abstract ColumnEntityConverter getConverter();
 
     protected abstract ColumnFamilyManagerAsync getManager();
@@ -56,6 +63,16 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
 
     protected abstract Converters getConverters();
 
+    /**
+     * The {@link Executor} where the {@link CompletionStage} operations convert the result to entities,
+     * by default the conversion runs on the thread that completes the database operation.
+     *
+     * @return the {@link Executor} to the entity conversion
+     */
+    protected Executor getExecutor() {
+        return DIRECT_EXECUTOR;
+    }
+
     private ColumnObserverParser observer;
 
 
@@ -141,15 +158,7 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
         requireNonNull(id, "id is required");
         requireNonNull(callback, "callBack is required");
 
-        ClassMapping classMapping = getClassMappings().get(entityClass);
-        FieldMapping idField = classMapping.getId()
-                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
-
-        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
-
-        ColumnQuery query = ColumnQueryBuilder.select().from(classMapping.getName())
-                .where(idField.getName()).eq(value).build();
-
+        ColumnQuery query = getSelectQuery(entityClass, id);
         singleResult(query, callback);
     }
 
@@ -225,6 +234,94 @@ public abstract class AbstractColumnTemplateAsync implements ColumnTemplateAsync
     }
 
 
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().insertAsync(getConverter().toColumn(entity))
+                .thenApplyAsync(c -> (T) getConverter().toEntity(entity.getClass(), c), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return getManager().insertAsync(getConverter().toColumn(entity), ttl)
+                .thenApplyAsync(c -> (T) getConverter().toEntity(entity.getClass(), c), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().updateAsync(getConverter().toColumn(entity))
+                .thenApplyAsync(c -> (T) getConverter().toEntity(entity.getClass(), c), getExecutor());
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().deleteAsync(query);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> deleteAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return getManager().deleteAsync(getDeleteQuery(entityClass, id));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> selectAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().selectAsync(query).thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public <T> Publisher<T> selectPublisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.map(getManager().selectPublisher(query), c -> (T) getConverter().toEntity(c));
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return singleResultAsync(getSelectQuery(entityClass, id));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> queryAsync(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.<List<ColumnEntity>>of(c -> PARSER.query(query, getManager(), c, getObserver()))
+                .thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public CompletionStage<Long> countAsync(String columnFamily) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return getManager().countAsync(columnFamily);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> countAsync(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        ClassMapping classMapping = getClassMappings().get(entityClass);
+        return getManager().countAsync(classMapping.getName());
+    }
+
+    private <T> List<T> toEntities(List<ColumnEntity> entities) {
+        return entities.stream().map(c -> (T) getConverter().toEntity(c)).collect(toList());
+    }
+
+    private <T, K> ColumnQuery getSelectQuery(Class<T> entityClass, K id) {
+        ClassMapping classMapping = getClassMappings().get(entityClass);
+        FieldMapping idField = classMapping.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        return ColumnQueryBuilder.select().from(classMapping.getName())
+                .where(idField.getName()).eq(value).build();
+    }
+
     private <T, K> ColumnDeleteQuery getDeleteQuery(Class<T> entityClass, K id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
         FieldMapping idField = classMapping.getId()
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
+import org.jnosql.artemis.reflection.FieldType;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
+
+/**
+ * The conversion between an entity and its columns compiled once to a {@link ClassMapping}: each field is a slot
+ * with its {@link ColumnFieldConverter} already resolved, so mapping an entity takes a single hash lookup
+ * to each column received.
+ */
+final class ColumnEntityCodec {
+
+    private final ClassMapping mapping;
+
+    private final Slot[] slots;
+
+    private final Map<String, Slot> slotsByName;
+
+    private final Slot[] elementSlots;
+
+    private ColumnEntityCodec(ClassMapping mapping, Slot[] slots, Map<String, Slot> slotsByName,
+                                Slot[] elementSlots) {
+        this.mapping = mapping;
+        this.slots = slots;
+        this.slotsByName = slotsByName;
+        this.elementSlots = elementSlots;
+    }
+
+    <T> T newInstance() {
+        return mapping.newInstance();
+    }
+
+    ColumnEntity toColumn(Object instance, AbstractColumnEntityConverter converter) {
+        ColumnEntity entity = ColumnEntity.of(mapping.getName());
+        for (Slot slot : slots) {
+            Object value = slot.field.read(instance);
+            if (value != null) {
+                slot.converter.toColumn(value, entity, converter);
+            }
+        }
+        return entity;
+    }
+
+    <T> T toEntity(List<Column> columns, T instance, AbstractColumnEntityConverter converter) {
+        boolean[] converted = new boolean[slots.length];
+        for (Column column : columns) {
+            Slot slot = slotsByName.get(column.getName());
+            if (slot != null && !converted[slot.index]) {
+                converted[slot.index] = true;
+                slot.converter.toEntity(instance, columns, column, converter);
+            }
+        }
+        for (Slot slot : elementSlots) {
+            if (!converted[slot.index]) {
+                slot.converter.toEntity(instance, columns, null, converter);
+            }
+        }
+        return instance;
+    }
+
+    static ColumnEntityCodec of(ClassMapping mapping, ColumnFieldConverterFactory factory, Converters converters) {
+        List<FieldMapping> fields = mapping.getFields();
+        Slot[] slots = new Slot[fields.size()];
+        Map<String, Slot> slotsByName = new HashMap<>();
+        List<Slot> elementSlots = new ArrayList<>();
+        for (int index = 0; index < slots.length; index++) {
+            FieldMapping field = fields.get(index);
+            Slot slot = new Slot(index, field, factory.get(field, converters));
+            slots[index] = slot;
+            FieldType type = field.getType();
+            if (EMBEDDED.equals(type)) {
+                elementSlots.add(slot);
+                continue;
+            }
+            if (SUBENTITY.equals(type)) {
+                elementSlots.add(slot);
+            }
+            slotsByName.put(field.getName(), slot);
+        }
+        return new ColumnEntityCodec(mapping, slots, slotsByName, elementSlots.toArray(new Slot[0]));
+    }
+
+    private static final class Slot {
+
+        private final int index;
+
+        private final FieldMapping field;
+
+        private final ColumnFieldConverter converter;
+
+        private Slot(int index, FieldMapping field, ColumnFieldConverter converter) {
+            this.index = index;
+            this.field = field;
+            this.converter = converter;
+        }
+    }
+}
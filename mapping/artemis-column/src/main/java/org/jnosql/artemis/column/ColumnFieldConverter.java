@@ -14,13 +14,34 @@
  */
 package org.jnosql.artemis.column;
 
-import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
 
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * The conversion of a single field, already bound to its {@link org.jnosql.artemis.reflection.FieldMapping}.
+ */
 interface ColumnFieldConverter {
-    <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
-                     AbstractColumnEntityConverter converter);
+
+    /**
+     * Writes the field into the entity instance
+     *
+     * @param instance  the entity instance
+     * @param columns all the columns of the entity
+     * @param column  the column with the field name, null when there is not one
+     * @param converter the converter
+     * @param <T>       the entity type
+     */
+    <T> void toEntity(T instance, List<Column> columns, Column column,
+                      AbstractColumnEntityConverter converter);
+
+    /**
+     * Adds the field value to the entity as columns
+     *
+     * @param value     the field value, not null
+     * @param entity    the entity
+     * @param converter the converter
+     */
+    void toColumn(Object value, ColumnEntity entity, AbstractColumnEntityConverter converter);
 }
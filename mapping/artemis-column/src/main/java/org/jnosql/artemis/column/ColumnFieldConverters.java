@@ -15,20 +15,20 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -38,21 +38,19 @@ class ColumnFieldConverters {
 
     static class ColumnFieldConverterFactory {
 
-        private final EmbeddedFieldConverter embeddedFieldConverter = new EmbeddedFieldConverter();
-        private final DefaultConverter defaultConverter = new DefaultConverter();
-        private final CollectionEmbeddableConverter embeddableConverter = new CollectionEmbeddableConverter();
-        private final SubEntityConverter subEntityConverter = new SubEntityConverter();
-
-        ColumnFieldConverter get(FieldMapping field) {
+        ColumnFieldConverter get(FieldMapping field, Converters converters) {
             if (EMBEDDED.equals(field.getType())) {
-                return embeddedFieldConverter;
+                return new EmbeddedFieldConverter(field);
             } else if (SUBENTITY.equals(field.getType())) {
-                return subEntityConverter;
+                return new SubEntityConverter(field);
             } else if (isCollectionEmbeddable(field)) {
-                return embeddableConverter;
-            } else {
-                return defaultConverter;
+                return new CollectionEmbeddableConverter((GenericFieldMapping) field);
             }
+            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
+            if (optionalConverter.isPresent()) {
+                return new AttributeFieldConverter(field, converters.get(optionalConverter.get()));
+            }
+            return new DefaultConverter(field);
         }
 
         private boolean isCollectionEmbeddable(FieldMapping field) {
@@ -60,16 +58,23 @@ class ColumnFieldConverters {
         }
     }
 
-
     private static class SubEntityConverter implements ColumnFieldConverter {
 
+        private final FieldMapping field;
+
+        private final Class<?> type;
+
+        SubEntityConverter(FieldMapping field) {
+            this.field = field;
+            this.type = field.getNativeField().getType();
+        }
+
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
-                                AbstractColumnEntityConverter converter) {
+        public <T> void toEntity(T instance, List<Column> columns, Column column,
+                                 AbstractColumnEntityConverter converter) {
 
-            if (column.isPresent()) {
-                Column subColumn = column.get();
-                Object value = subColumn.get();
+            if (column != null) {
+                Object value = column.get();
                 if (value instanceof Map) {
                     Map map = (Map) value;
                     List<Column> embeddedColumns = new ArrayList<>();
@@ -77,76 +82,126 @@ class ColumnFieldConverters {
                     for (Map.Entry entry : (Set<Map.Entry>) map.entrySet()) {
                         embeddedColumns.add(Column.of(entry.getKey().toString(), entry.getValue()));
                     }
-                    field.write(instance, converter.toEntity(field.getNativeField().getType(), embeddedColumns));
+                    field.write(instance, converter.toEntity(type, embeddedColumns));
 
                 } else {
-                    field.write(instance, converter.toEntity(field.getNativeField().getType(),
-                            subColumn.get(new TypeReference<List<Column>>() {
+                    field.write(instance, converter.toEntity(type,
+                            column.get(new TypeReference<List<Column>>() {
                             })));
                 }
 
             } else {
-                field.write(instance, converter.toEntity(field.getNativeField().getType(), columns));
+                field.write(instance, converter.toEntity(type, columns));
             }
         }
+
+        @Override
+        public void toColumn(Object value, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            entity.add(Column.of(field.getName(), converter.toColumn(value).getColumns()));
+        }
     }
 
     private static class EmbeddedFieldConverter implements ColumnFieldConverter {
 
+        private final FieldMapping field;
 
-        @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
-                                FieldMapping field, AbstractColumnEntityConverter converter) {
+        private final Class<?> type;
 
+        EmbeddedFieldConverter(FieldMapping field) {
+            this.field = field;
+            this.type = field.getNativeField().getType();
+        }
 
-            Field nativeField = field.getNativeField();
-            Object subEntity = converter.toEntity(nativeField.getType(), columns);
-            field.write(instance, subEntity);
+        @Override
+        public <T> void toEntity(T instance, List<Column> columns, Column column,
+                                 AbstractColumnEntityConverter converter) {
+            field.write(instance, converter.toEntity(type, columns));
+        }
 
+        @Override
+        public void toColumn(Object value, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            converter.toColumn(value).getColumns().forEach(entity::add);
         }
     }
 
-
     private static class DefaultConverter implements ColumnFieldConverter {
 
+        private final FieldMapping field;
+
+        DefaultConverter(FieldMapping field) {
+            this.field = field;
+        }
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column,
-                                FieldMapping field, AbstractColumnEntityConverter converter) {
-            Value value = column.get().getValue();
-            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
-            if (optionalConverter.isPresent()) {
+        public <T> void toEntity(T instance, List<Column> columns, Column column,
+                                 AbstractColumnEntityConverter converter) {
+            field.write(instance, field.getValue(column.getValue()));
+        }
 
-                AttributeConverter attributeConverter = converter.getConverters().get(optionalConverter.get());
-                Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                field.write(instance, field.getValue(Value.of(attributeConverted)));
-            } else {
-                field.write(instance, field.getValue(value));
-            }
+        @Override
+        public void toColumn(Object value, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            entity.add(Column.of(field.getName(), value));
         }
     }
 
+    private static class AttributeFieldConverter implements ColumnFieldConverter {
 
-    private static class CollectionEmbeddableConverter implements ColumnFieldConverter {
+        private final FieldMapping field;
+
+        private final AttributeConverter attributeConverter;
+
+        AttributeFieldConverter(FieldMapping field, AttributeConverter attributeConverter) {
+            this.field = field;
+            this.attributeConverter = attributeConverter;
+        }
 
         @Override
-        public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldMapping field,
-                                AbstractColumnEntityConverter converter) {
+        public <T> void toEntity(T instance, List<Column> columns, Column column,
+                                 AbstractColumnEntityConverter converter) {
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(column.get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
+        }
 
-            column.ifPresent(convertColumn(instance, field, converter));
+        @Override
+        public void toColumn(Object value, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            entity.add(Column.of(field.getName(), attributeConverter.convertToDatabaseColumn(value)));
         }
+    }
 
-        private <T> Consumer<Column> convertColumn(T instance, FieldMapping field, AbstractColumnEntityConverter converter) {
-            return column -> {
-                GenericFieldMapping genericField = (GenericFieldMapping) field;
-                Collection collection = genericField.getCollectionInstance();
-                List<List<Column>> embeddable = (List<List<Column>>) column.get();
-                for (List<Column> columnList : embeddable) {
-                    Object element = converter.toEntity(genericField.getElementType(), columnList);
-                    collection.add(element);
-                }
-                field.write(instance, collection);
-            };
+    private static class CollectionEmbeddableConverter implements ColumnFieldConverter {
+
+        private final GenericFieldMapping field;
+
+        private final Class<?> elementType;
+
+        CollectionEmbeddableConverter(GenericFieldMapping field) {
+            this.field = field;
+            this.elementType = field.getElementType();
+        }
+
+        @Override
+        public <T> void toEntity(T instance, List<Column> columns, Column column,
+                                 AbstractColumnEntityConverter converter) {
+            if (column == null) {
+                return;
+            }
+            Collection collection = field.getCollectionInstance();
+            List<List<Column>> embeddable = (List<List<Column>>) column.get();
+            for (List<Column> columnList : embeddable) {
+                Object element = converter.toEntity(elementType, columnList);
+                collection.add(element);
+            }
+            field.write(instance, collection);
+        }
+
+        @Override
+        public void toColumn(Object value, ColumnEntity entity, AbstractColumnEntityConverter converter) {
+            List<List<Column>> columns = new ArrayList<>();
+            for (Object element : (Iterable) value) {
+                columns.add(converter.toColumn(element).getColumns());
+            }
+            entity.add(Column.of(field.getName(), columns));
         }
     }
+
 }
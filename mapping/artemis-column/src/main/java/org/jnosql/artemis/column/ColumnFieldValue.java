@@ -22,7 +22,11 @@ import java.util.List;
 
 /**
  * The specialist {@link FieldValue} to column
+ *
+ * @deprecated the {@link AbstractColumnEntityConverter} writes the fields through its per-class codec,
+ * this type is only kept for subclasses that still call {@link AbstractColumnEntityConverter#to(org.jnosql.artemis.reflection.FieldMapping, Object)}
  */
+@Deprecated
 public interface ColumnFieldValue extends FieldValue {
 
 
@@ -0,0 +1,95 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilitarian class to the keyset pagination of {@link ColumnQueryPagination}, it creates the range condition
+ * that seeks the elements after the cursor and reads the cursor from the last entity of a page.
+ */
+final class ColumnKeyset {
+
+    private ColumnKeyset() {
+    }
+
+    /**
+     * Creates the condition to the elements after the cursor, to the sorts a, b and the cursor x, y it is
+     * {@code a > x or (a = x and b > y)}, the descending sorts use the lesser than instead.
+     *
+     * @param sorts  the sorts
+     * @param cursor the sort values of the last element
+     * @return the range condition
+     * @throws IllegalArgumentException when the cursor does not have a non-null value to each sort
+     */
+    static ColumnCondition condition(List<Sort> sorts, List<Object> cursor) {
+        if (sorts.size() != cursor.size() || cursor.contains(null)) {
+            throw new IllegalArgumentException("The cursor " + cursor + " must have a non-null value to each sort "
+                    + sorts);
+        }
+        List<ColumnCondition> seeks = new ArrayList<>(sorts.size());
+        for (int index = 0; index < sorts.size(); index++) {
+            ColumnCondition[] conditions = new ColumnCondition[index + 1];
+            for (int previous = 0; previous < index; previous++) {
+                conditions[previous] = ColumnCondition.eq(toColumn(sorts.get(previous), cursor.get(previous)));
+            }
+            Sort sort = sorts.get(index);
+            Column column = toColumn(sort, cursor.get(index));
+            conditions[index] = Sort.SortType.DESC.equals(sort.getType()) ? ColumnCondition.lt(column) :
+                    ColumnCondition.gt(column);
+            seeks.add(conditions.length == 1 ? conditions[0] : ColumnCondition.and(conditions));
+        }
+        if (seeks.size() == 1) {
+            return seeks.get(0);
+        }
+        return ColumnCondition.or(seeks.toArray(new ColumnCondition[0]));
+    }
+
+    /**
+     * Reads the sort values of the entity.
+     *
+     * @param sorts  the sorts
+     * @param entity the last entity of a page
+     * @return the cursor
+     * @throws IllegalStateException when the entity does not have a sort field or its value is null
+     */
+    static List<Object> cursor(List<Sort> sorts, ColumnEntity entity) {
+        List<Object> cursor = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            Column column = entity.find(sort.getName())
+                    .orElseThrow(() -> new IllegalStateException("The keyset pagination requires the sort field "
+                            + sort.getName() + " at the entity " + entity.getName()));
+            Object value = column.get();
+            if (value == null) {
+                throw new IllegalStateException("The keyset pagination requires a value to the sort field "
+                        + sort.getName() + " at the entity " + entity.getName());
+            }
+            cursor.add(value);
+        }
+        return cursor;
+    }
+
+    private static Column toColumn(Sort sort, Object value) {
+        return Column.of(sort.getName(), value);
+    }
+}
@@ -37,11 +37,19 @@ final class ColumnPage<T> implements Page<T> {
 
     private final ColumnQueryPagination query;
 
+    private final ColumnQueryPagination next;
+
 
     ColumnPage(ColumnTemplate template, List<T> entities, ColumnQueryPagination query) {
+        this(template, entities, query, null);
+    }
+
+    ColumnPage(ColumnTemplate template, List<T> entities, ColumnQueryPagination query,
+                 ColumnQueryPagination next) {
         this.template = template;
         this.entities = entities;
         this.query = query;
+        this.next = next;
     }
 
     @Override
@@ -51,7 +59,10 @@ final class ColumnPage<T> implements Page<T> {
 
     @Override
     public Page<T> next() {
-        return template.select(query.next());
+        if (next == null) {
+            return template.select(query.next());
+        }
+        return template.select(next);
     }
 
     @Override
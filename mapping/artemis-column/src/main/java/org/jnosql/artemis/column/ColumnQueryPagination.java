@@ -16,10 +16,12 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.diana.api.column.ColumnQuery;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -32,9 +34,22 @@ public interface ColumnQueryPagination extends ColumnQuery {
      * Returns the {@link ColumnQueryPagination} requesting the next {@link ColumnQueryPagination}.
      *
      * @return the next {@link ColumnQueryPagination}
+     * @throws IllegalArgumentException when the pagination is a {@link CursoredPagination},
+     *                                  its next page requires the {@link ColumnQueryPagination#next(List)}
      */
     ColumnQueryPagination next();
 
+    /**
+     * Returns the {@link ColumnQueryPagination} requesting the page after the element with the given sort values,
+     * it is the next step of the keyset pagination.
+     *
+     * @param cursor the sort values of the last element of the current page
+     * @return the next {@link ColumnQueryPagination}
+     * @throws NullPointerException          when cursor is null
+     * @throws UnsupportedOperationException when the pagination is not a {@link CursoredPagination}
+     */
+    ColumnQueryPagination next(List<Object> cursor);
+
     /**
      * Returns the {@link Pagination} of the current {@link Page}
      *
@@ -49,11 +64,16 @@ public interface ColumnQueryPagination extends ColumnQuery {
      * @param query      the query
      * @param pagination the pagination
      * @return a {@link ColumnQueryPagination} instance
-     * @throws NullPointerException when there is null parameter
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the pagination is a {@link CursoredPagination} and the query does
+     *                                  not have sort
      */
     static ColumnQueryPagination of(ColumnQuery query, Pagination pagination) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(pagination, "pagination is required");
+        if (pagination instanceof CursoredPagination && query.getSorts().isEmpty()) {
+            throw new IllegalArgumentException("The keyset pagination requires at least one sort at the query");
+        }
         return new DefaultColumnQueryPagination(query, pagination);
     }
 }
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -136,6 +137,17 @@ public interface ColumnTemplate {
      */
     <T> List<T> select(ColumnQuery query);
 
+    /**
+     * Finds entities from query as a {@link Stream}, the entities are converted lazily while the stream
+     * is consumed, so the whole result does not need to be in memory.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    <T> Stream<T> stream(ColumnQuery query);
+
     /**
      * Finds entities from query using pagination
      *
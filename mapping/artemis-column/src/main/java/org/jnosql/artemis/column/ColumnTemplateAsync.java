@@ -16,14 +16,18 @@ package org.jnosql.artemis.column;
 
 
 import org.jnosql.artemis.PreparedStatementAsync;
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.flow.Publisher;
+import org.jnosql.diana.api.flow.Publishers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -314,4 +318,241 @@ public interface ColumnTemplateAsync {
         select(query, singleCallBack);
 
     }
+
+    /**
+     * Saves an entity asynchronously, by default it adapts {@link ColumnTemplateAsync#insert(Object, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return a {@link CompletionStage} with the saved entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to insert asynchronous
+     * @throws NullPointerException                            when entity is null
+     */
+    default <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStages.of(callBack -> insert(entity, callBack));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, by default it adapts
+     * {@link ColumnTemplateAsync#insert(Object, Duration, Consumer)} to a {@link CompletionStage}.
+     *
+     * @param entity entity to be saved
+     * @param ttl    time to live
+     * @param <T>    the instance type
+     * @return a {@link CompletionStage} with the saved entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to insert asynchronous
+     * @throws NullPointerException                            when either entity or ttl are null
+     */
+    default <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletionStages.of(callBack -> insert(entity, ttl, callBack));
+    }
+
+    /**
+     * Saves entities asynchronously, the returned {@link CompletionStage} completes when all of them are saved.
+     *
+     * @param entities entities to be saved
+     * @param <T>      the instance type
+     * @return a {@link CompletionStage} with the saved entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to insert asynchronous
+     * @throws NullPointerException                            when entities is null
+     */
+    default <T> CompletionStage<List<T>> insertAsync(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> this.<T>insertAsync(e)));
+    }
+
+    /**
+     * Saves entities asynchronously with time to live, the returned {@link CompletionStage} completes when all
+     * of them are saved.
+     *
+     * @param entities entities to be saved
+     * @param ttl      time to live
+     * @param <T>      the instance type
+     * @return a {@link CompletionStage} with the saved entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to insert asynchronous
+     * @throws NullPointerException                            when either entities or ttl are null
+     */
+    default <T> CompletionStage<List<T>> insertAsync(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> this.<T>insertAsync(e, ttl)));
+    }
+
+    /**
+     * Updates an entity asynchronously, by default it adapts {@link ColumnTemplateAsync#update(Object, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param entity entity to be updated
+     * @param <T>    the instance type
+     * @return a {@link CompletionStage} with the updated entity
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to update asynchronous
+     * @throws NullPointerException                            when entity is null
+     */
+    default <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return CompletionStages.of(callBack -> update(entity, callBack));
+    }
+
+    /**
+     * Updates entities asynchronously, the returned {@link CompletionStage} completes when all of them are updated.
+     *
+     * @param entities entities to be updated
+     * @param <T>      the instance type
+     * @return a {@link CompletionStage} with the updated entities, in the same order
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to update asynchronous
+     * @throws NullPointerException                            when entities is null
+     */
+    default <T> CompletionStage<List<T>> updateAsync(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return CompletionStages.allOf(StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> this.<T>updateAsync(e)));
+    }
+
+    /**
+     * Deletes an entity asynchronously, by default it adapts {@link ColumnTemplateAsync#delete(ColumnDeleteQuery, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param query query to delete an entity
+     * @return a {@link CompletionStage} completed when the entities are deleted
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to delete asynchronous
+     * @throws NullPointerException                            when query is null
+     */
+    default CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> delete(query, callBack));
+    }
+
+    /**
+     * Deletes by Id asynchronously.
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <K>         the id type
+     * @return a {@link CompletionStage} completed when the entity is deleted
+     * @throws NullPointerException                   when either the entityClass or id are null
+     * @throws org.jnosql.artemis.IdNotFoundException when the entityClass does not have the Id annotation
+     */
+    default <T, K> CompletionStage<Void> deleteAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStages.of(callBack -> delete(entityClass, id, callBack));
+    }
+
+    /**
+     * Finds entities from query asynchronously, by default it adapts {@link ColumnTemplateAsync#select(ColumnQuery, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return a {@link CompletionStage} with the result of the query
+     * @throws org.jnosql.diana.api.ExecuteAsyncQueryException when there is a async error
+     * @throws UnsupportedOperationException                   when the database does not have support to select asynchronous
+     * @throws NullPointerException                            when query is null
+     */
+    default <T> CompletionStage<List<T>> selectAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> select(query, callBack));
+    }
+
+    /**
+     * Finds entities from query as a {@link Publisher}, the entities are published according to the demand
+     * of the subscriber. By default it is the buffering adapter of {@link ColumnTemplateAsync#select(ColumnQuery, Consumer)}.
+     *
+     * @param query query to select entities
+     * @param <T>   the instance type
+     * @return a {@link Publisher} of the result of the query
+     * @throws UnsupportedOperationException when the database does not have support to select asynchronous
+     * @throws NullPointerException          when query is null
+     */
+    default <T> Publisher<T> selectPublisher(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.of(callBack -> select(query, callBack));
+    }
+
+    /**
+     * Executes a query to an unique result asynchronously
+     *
+     * @param query the query
+     * @param <T>   the instance type
+     * @return a {@link CompletionStage} with the entity, it completes exceptionally with
+     * {@link NonUniqueResultException} when it returns more than one result
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<Optional<T>> singleResultAsync(ColumnQuery query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.singleResult(selectAsync(query),
+                "The query returns more than one entity, query: " + query);
+    }
+
+    /**
+     * Finds by Id asynchronously.
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <K>         the id type
+     * @return a {@link CompletionStage} with the entity
+     * @throws NullPointerException                   when either the entityClass or id are null
+     * @throws org.jnosql.artemis.IdNotFoundException when the entityClass does not have the Id annotation
+     */
+    default <T, K> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return CompletionStages.of(callBack -> find(entityClass, id, callBack));
+    }
+
+    /**
+     * Executes a query asynchronously, by default it adapts {@link ColumnTemplateAsync#query(String, Consumer)}
+     * to a {@link CompletionStage}.
+     *
+     * @param query the query
+     * @param <T>   the instance type
+     * @return a {@link CompletionStage} with the result of the query
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<List<T>> queryAsync(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.of(callBack -> query(query, callBack));
+    }
+
+    /**
+     * Returns the number of elements from column family asynchronously
+     *
+     * @param columnFamily the column family
+     * @return a {@link CompletionStage} with the number of elements
+     * @throws NullPointerException          when columnFamily is null
+     * @throws UnsupportedOperationException when the database dot not have support
+     */
+    default CompletionStage<Long> countAsync(String columnFamily) {
+        requireNonNull(columnFamily, "columnFamily is required");
+        return CompletionStages.of(callBack -> count(columnFamily, callBack));
+    }
+
+    /**
+     * Returns the number of elements from the entity asynchronously
+     *
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return a {@link CompletionStage} with the number of elements
+     * @throws NullPointerException          when entityClass is null
+     * @throws UnsupportedOperationException when the database dot not have support
+     */
+    default <T> CompletionStage<Long> countAsync(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return CompletionStages.of(callBack -> count(entityClass, callBack));
+    }
 }
@@ -17,6 +17,8 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
+import java.util.concurrent.Executor;
+
 /**
  * The producer of {@link ColumnTemplate}
  */
@@ -32,4 +34,16 @@ public interface ColumnTemplateAsyncProducer {
      */
     <T extends ColumnTemplateAsync> T get(ColumnFamilyManagerAsync columnFamilyManager);
 
+    /**
+     * creates a {@link ColumnTemplateAsync} whose {@link java.util.concurrent.CompletionStage} operations convert
+     * the entities on the given {@link Executor}
+     *
+     * @param <T>      the ColumnTemplateAsync instance
+     * @param columnFamilyManager the columnFamilyManager
+     * @param executor the executor to the entity conversion
+     * @return a new instance
+     * @throws NullPointerException when either columnFamilyManager or executor are null
+     */
+    <T extends ColumnTemplateAsync> T get(ColumnFamilyManagerAsync columnFamilyManager, Executor executor);
+
 }
@@ -17,6 +17,8 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -33,6 +35,17 @@ import java.util.function.UnaryOperator;
  */
 public interface ColumnWorkflow {
 
+    /**
+     * The system property that defines the maximum number of entities sent to the database at once
+     * by {@link ColumnWorkflow#flowBatch(Iterable, Function)}
+     */
+    String MAX_BATCH_SIZE = "artemis.batch.maxSize";
+
+    /**
+     * The default maximum number of entities sent to the database at once
+     */
+    int DEFAULT_MAX_BATCH_SIZE = 1_000;
+
     /**
      * Executes the workflow to do an interaction on a database column family.
      *
@@ -45,4 +58,19 @@ public interface ColumnWorkflow {
      */
     <T> T flow(T entity, UnaryOperator<ColumnEntity> action);
 
+    /**
+     * Executes the workflow to a group of entities. The events are fired to each entity, however, the entities
+     * are split into chunks of at most {@link ColumnWorkflow#MAX_BATCH_SIZE} and the alteration is executed once
+     * per chunk. The action must return the entities in the same order that it received them.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database
+     * @param <T>      the entity type
+     * @return after the workflow the the entities response
+     * @throws NullPointerException when there is null parameter
+     * @see ColumnTemplate#insert(Iterable) ColumnTemplate#insert(Iterable, java.time.Duration)
+     * ColumnTemplate#update(Iterable)
+     */
+    <T> List<T> flowBatch(Iterable<T> entities, Function<List<ColumnEntity>, Iterable<ColumnEntity>> action);
+
 }
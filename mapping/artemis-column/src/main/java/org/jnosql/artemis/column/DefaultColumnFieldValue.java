@@ -16,11 +16,13 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.column.ColumnFieldConverters.ColumnFieldConverterFactory;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.FieldType;
 import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,8 +33,11 @@ import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
+@Deprecated
 final class DefaultColumnFieldValue implements ColumnFieldValue {
 
+    private static final ColumnFieldConverterFactory FACTORY = new ColumnFieldConverterFactory();
+
     private final FieldValue fieldValue;
 
     private DefaultColumnFieldValue(FieldValue fieldValue) {
@@ -56,6 +61,12 @@ final class DefaultColumnFieldValue implements ColumnFieldValue {
 
     public List<Column> toColumn(ColumnEntityConverter converter, Converters converters) {
 
+        if (converter instanceof AbstractColumnEntityConverter) {
+            ColumnEntity entity = ColumnEntity.of(getName());
+            FACTORY.get(getField(), converters).toColumn(getValue(), entity, (AbstractColumnEntityConverter) converter);
+            return entity.getColumns();
+        }
+
         if (EMBEDDED.equals(getType())) {
             return converter.toColumn(getValue()).getColumns();
         } else if (SUBENTITY.equals(getType())) {
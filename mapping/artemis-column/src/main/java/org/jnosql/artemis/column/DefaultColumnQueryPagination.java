@@ -16,6 +16,7 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.ColumnCondition;
@@ -31,9 +32,12 @@ final class DefaultColumnQueryPagination implements ColumnQueryPagination {
 
     private final Pagination pagination;
 
+    private final ColumnCondition condition;
+
     DefaultColumnQueryPagination(ColumnQuery query, Pagination pagination) {
         this.query = query;
         this.pagination = pagination;
+        this.condition = getCondition(query, pagination);
     }
 
     @Override
@@ -53,7 +57,7 @@ final class DefaultColumnQueryPagination implements ColumnQueryPagination {
 
     @Override
     public Optional<ColumnCondition> getCondition() {
-        return query.getCondition();
+        return Optional.ofNullable(condition);
     }
 
     @Override
@@ -68,14 +72,40 @@ final class DefaultColumnQueryPagination implements ColumnQueryPagination {
 
     @Override
     public ColumnQueryPagination next() {
+        if (pagination instanceof CursoredPagination) {
+            throw new IllegalArgumentException("The keyset pagination requires the cursor of the last element " +
+                    "of the current page, use the next method with the cursor instead");
+        }
         return new DefaultColumnQueryPagination(query, pagination.next());
     }
 
+    @Override
+    public ColumnQueryPagination next(List<Object> cursor) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        if (pagination instanceof CursoredPagination) {
+            return new DefaultColumnQueryPagination(query, ((CursoredPagination) pagination).next(cursor));
+        }
+        throw new UnsupportedOperationException("The next page from a cursor requires the keyset pagination");
+    }
+
     @Override
     public Pagination getPagination() {
         return pagination.unmodifiable();
     }
 
+    private static ColumnCondition getCondition(ColumnQuery query, Pagination pagination) {
+        ColumnCondition condition = query.getCondition().orElse(null);
+        if (!(pagination instanceof CursoredPagination)) {
+            return condition;
+        }
+        List<Object> cursor = ((CursoredPagination) pagination).getCursor();
+        if (cursor.isEmpty()) {
+            return condition;
+        }
+        ColumnCondition seek = ColumnKeyset.condition(query.getSorts(), cursor);
+        return condition == null ? seek : ColumnCondition.and(condition, seek);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
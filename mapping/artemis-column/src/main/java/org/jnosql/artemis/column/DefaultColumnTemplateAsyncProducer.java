@@ -23,6 +23,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link ColumnTemplateAsyncProducer}
@@ -30,6 +31,8 @@ import java.util.Objects;
 @ApplicationScoped
 class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer {
 
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     @Inject
     private ColumnEntityConverter converter;
 
@@ -41,8 +44,14 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
 
     @Override
     public ColumnTemplateAsync get(ColumnFamilyManagerAsync columnFamilyManager) {
+        return get(columnFamilyManager, DIRECT_EXECUTOR);
+    }
+
+    @Override
+    public ColumnTemplateAsync get(ColumnFamilyManagerAsync columnFamilyManager, Executor executor) {
         Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
-        return new ProducerColumnTemplateAsync(converter, columnFamilyManager, classMappings, converters);
+        Objects.requireNonNull(executor, "executor is required");
+        return new ProducerColumnTemplateAsync(converter, columnFamilyManager, classMappings, converters, executor);
     }
 
     @Vetoed
@@ -56,12 +65,15 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
 
         private Converters converters;
 
+        private Executor executor;
+
         ProducerColumnTemplateAsync(ColumnEntityConverter converter, ColumnFamilyManagerAsync columnFamilyManager
-        , ClassMappings classMappings, Converters converters) {
+        , ClassMappings classMappings, Converters converters, Executor executor) {
             this.converter = converter;
             this.columnFamilyManager = columnFamilyManager;
             this.classMappings = classMappings;
             this.converters = converters;
+            this.executor = executor;
         }
 
         ProducerColumnTemplateAsync() {
@@ -86,5 +98,10 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected Executor getExecutor() {
+            return executor;
+        }
     }
 }
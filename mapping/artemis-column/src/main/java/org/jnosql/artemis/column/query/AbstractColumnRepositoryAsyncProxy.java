@@ -22,6 +22,7 @@ import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.flow.Publisher;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -50,6 +51,9 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> extends BaseColumnRe
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 ColumnQuery query = getQuery(method, args);
+                if (Publisher.class.equals(method.getReturnType())) {
+                    return getTemplate().selectPublisher(query);
+                }
                 return executeQuery(getCallback(args), query);
             case FIND_ALL:
                 return executeQuery(getCallback(args), select().from(getClassMapping().getName()).build());
@@ -32,6 +32,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 
@@ -89,9 +90,11 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
                 .withClassSource(typeClass)
                 .withMethodSource(method)
                 .withList(() -> getTemplate().select(query))
+                .withStream(() -> getTemplate().stream(query))
                 .withSingleResult(() -> getTemplate().singleResult(query))
                 .withPagination(DynamicReturn.findPagination(args))
                 .withListPagination(listPagination(query))
+                .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(getSingleResult(query))
                 .withPage(getPage(query))
                 .build();
@@ -116,4 +119,11 @@ public abstract class AbstractColumnRepositoryProxy<T, K> extends  BaseColumnRep
         };
     }
 
+    private Function<Pagination, Stream<T>> streamPagination(ColumnQuery query) {
+        return p -> {
+            ColumnQuery queryPagination = ColumnQueryPagination.of(query, p);
+            return getTemplate().stream(queryPagination);
+        };
+    }
+
 }
\ No newline at end of file
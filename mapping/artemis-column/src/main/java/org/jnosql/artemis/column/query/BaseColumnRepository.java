@@ -49,8 +49,7 @@ abstract class BaseColumnRepository {
 
 
     protected ColumnQuery getQuery(Method method, Object[] args) {
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
+        SelectQuery selectQuery = getSelectQuery(method);
         SelectQueryConverter converter = SelectQueryConverter.get();
         ColumnQueryParams queryParams = converter.apply(selectQuery, getParser());
         ColumnQuery query = queryParams.getQuery();
@@ -60,8 +59,7 @@ abstract class BaseColumnRepository {
     }
 
     protected ColumnDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodFactory deleteMethodFactory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
+        DeleteQuery deleteQuery = getDeleteQuery(method);
         DeleteQueryConverter converter = DeleteQueryConverter.get();
         ColumnDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
         ColumnDeleteQuery query = queryParams.getQuery();
@@ -83,6 +81,28 @@ abstract class BaseColumnRepository {
     }
 
 
+    /**
+     * Returns the {@link SelectQuery} from the method name; the {@link SelectMethodFactory}
+     * parses each method name once and reuses the result in the next calls.
+     *
+     * @param method the repository method
+     * @return the {@link SelectQuery} from the method
+     */
+    protected SelectQuery getSelectQuery(Method method) {
+        return SelectMethodFactory.get().apply(method, getClassMapping().getName());
+    }
+
+    /**
+     * Returns the {@link DeleteQuery} from the method name; the {@link DeleteMethodFactory}
+     * parses each method name once and reuses the result in the next calls.
+     *
+     * @param method the repository method
+     * @return the {@link DeleteQuery} from the method
+     */
+    protected DeleteQuery getDeleteQuery(Method method) {
+        return DeleteMethodFactory.get().apply(method, getClassMapping().getName());
+    }
+
     protected ColumnObserverParser getParser() {
         if (parser == null) {
             this.parser = new RepositoryColumnObserverParser(getClassMapping());
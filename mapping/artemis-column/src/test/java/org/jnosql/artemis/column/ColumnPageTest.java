@@ -17,10 +17,12 @@ package org.jnosql.artemis.column;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Page;
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnQuery;
@@ -216,10 +218,39 @@ class ColumnPageTest {
         assertEquals(5L, people.stream().map(Person::getId).findFirst().orElse(-0L));
     }
 
+    @Test
+    public void shouldCreateKeysetPagination() {
+        CursoredPagination pagination = Pagination.cursor(1);
+        ColumnQueryPagination query = ColumnQueryPagination.of(select().from("person").orderBy("_id").asc().build(),
+                pagination);
+        ColumnQueryPagination secondQuery = query.next(singletonList(0L));
+        ColumnQueryPagination thirdQuery = secondQuery.next(singletonList(1L));
+        when(managerMock.select(query)).thenReturn(singletonList(createEntity(0)));
+        when(managerMock.select(secondQuery)).thenReturn(singletonList(createEntity(1)));
+
+        Page<Person> page = subject.select(query);
+        assertEquals(0L, page.get().map(Person::getId).findFirst().orElse(-0L));
+
+        Page<Person> nextPage = page.next();
+        assertEquals(pagination.next(singletonList(0L)), nextPage.getPagination());
+        assertEquals(1L, nextPage.get().map(Person::getId).findFirst().orElse(-0L));
+        assertEquals(0L, secondQuery.getSkip());
+        assertEquals(ColumnCondition.gt(Column.of("_id", 0L)), secondQuery.getCondition().get());
+
+        nextPage.next();
+        verify(managerMock).select(thirdQuery);
+    }
+
     private Page<Person> createPage(Pagination pagination) {
         ColumnQueryPagination query = ColumnQueryPagination.of(select().from("person").build(), pagination);
         return subject.select(query);
     }
 
-
-}
\ No newline at end of file
+    private ColumnEntity createEntity(int index) {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(Column.of("age", index));
+        entity.add(Column.of("name", "Ada " + index));
+        entity.add(Column.of("_id", (long) index));
+        return entity;
+    }
+}
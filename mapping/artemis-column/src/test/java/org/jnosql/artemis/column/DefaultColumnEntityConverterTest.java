@@ -29,6 +29,8 @@ import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.column.Column;
@@ -56,6 +58,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -425,6 +428,52 @@ public class DefaultColumnEntityConverterTest {
         Assertions.assertEquals(contents, entity.find("contents").get().get());
     }
 
+    @Test
+    public void shouldIgnoreColumnsNotMapped() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(Column.of("_id", 12L));
+        entity.add(Column.of("name", "Otavio"));
+        entity.add(Column.of("nickname", "otaviojava"));
+        entity.add(Column.of("age", 10));
+
+        Person person = converter.toEntity(entity);
+        assertEquals(12L, person.getId());
+        assertEquals("Otavio", person.getName());
+        assertEquals(10, person.getAge());
+        assertNull(person.getPhones());
+    }
+
+    @Test
+    public void shouldUseTheFirstColumnWhenTheNameIsRepeated() {
+        List<Column> columns = Arrays.asList(Column.of("_id", 12L), Column.of("name", "Otavio"),
+                Column.of("name", "Poliana"));
+
+        Person person = converter.toEntity(Person.class, columns);
+        assertEquals("Otavio", person.getName());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void shouldKeepTheDeprecatedFieldValue() {
+        Worker worker = new Worker();
+        Job job = new Job();
+        job.setCity("Sao Paulo");
+        job.setDescription("Java Developer");
+        worker.setName("Bob");
+        worker.setSalary(new Money("BRL", BigDecimal.TEN));
+        worker.setJob(job);
+
+        ClassMapping mapping = converter.getClassMappings().get(Worker.class);
+        List<Column> columns = new ArrayList<>();
+        for (FieldMapping field : mapping.getFields()) {
+            ColumnFieldValue value = converter.to(field, worker);
+            columns.addAll(value.toColumn(converter, converter.getConverters()));
+        }
+
+        ColumnEntity entity = converter.toColumn(worker);
+        assertThat(columns, containsInAnyOrder(entity.getColumns().toArray()));
+    }
+
     private Object getValue(Optional<Column> column) {
         return column.map(Column::getValue).map(Value::get).orElse(null);
     }
@@ -16,14 +16,22 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Pagination;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DefaultColumnQueryPaginationTest {
 
@@ -84,6 +92,48 @@ class DefaultColumnQueryPaginationTest {
     }
 
 
+    @Test
+    public void shouldReturnErrorWhenKeysetPaginationHasNoSort() {
+        assertThrows(IllegalArgumentException.class, () ->
+                ColumnQueryPagination.of(select().from("column").build(), Pagination.cursor(2)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNextFromCursorIsNotKeyset() {
+        ColumnQueryPagination queryPagination = ColumnQueryPagination.of(select().from("column").build(),
+                Pagination.page(1).size(2));
+        assertThrows(UnsupportedOperationException.class, () -> queryPagination.next(Collections.singletonList(1)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNextHasNoCursor() {
+        ColumnQueryPagination queryPagination = ColumnQueryPagination.of(select().from("column").orderBy("_id").asc()
+                .build(), Pagination.cursor(2));
+        assertThrows(IllegalArgumentException.class, queryPagination::next);
+        assertThrows(IllegalArgumentException.class, () -> queryPagination.next(Collections.singletonList(null)));
+    }
+
+    @Test
+    public void shouldNextFromCursor() {
+        ColumnQuery query = select().from("column").where("name").eq("Ada")
+                .orderBy("age").desc().orderBy("_id").asc().build();
+        CursoredPagination pagination = Pagination.cursor(2);
+        ColumnQueryPagination queryPagination = ColumnQueryPagination.of(query, pagination);
+        isQueryEquals(query, pagination, queryPagination);
+
+        ColumnQueryPagination next = queryPagination.next(Arrays.asList(20, 10L));
+        assertEquals(pagination.next(Arrays.asList(20, 10L)), next.getPagination());
+        assertEquals(0L, next.getSkip());
+        assertEquals(2L, next.getLimit());
+
+        ColumnCondition seek = ColumnCondition.or(ColumnCondition.lt(Column.of("age", 20)),
+                ColumnCondition.and(ColumnCondition.eq(Column.of("age", 20)), ColumnCondition.gt(Column.of("_id", 10L))));
+        ColumnCondition condition = next.getCondition().get();
+        assertEquals(Condition.AND, condition.getCondition());
+        assertEquals(ColumnCondition.and(query.getCondition().get(), seek), condition);
+    }
+
+
     private void isQueryEquals(ColumnQuery query, Pagination pagination, ColumnQueryPagination queryPagination) {
         assertEquals(query.getColumnFamily(), queryPagination.getColumnFamily());
         assertEquals(query.getColumns(), queryPagination.getColumns());
@@ -15,6 +15,8 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -22,7 +24,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @ExtendWith(CDIExtension.class)
@@ -45,4 +51,27 @@ public class DefaultColumnTemplateAsyncProducerTest {
         assertNotNull(columnRepository);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReturnErrorWhenExecutorIsNull() {
+        ColumnFamilyManagerAsync manager = Mockito.mock(ColumnFamilyManagerAsync.class);
+        Assertions.assertThrows(NullPointerException.class, () -> producer.get(manager, null));
+    }
+
+    @Test
+    public void shouldConvertOnTheExecutor() {
+        ColumnFamilyManagerAsync manager = Mockito.mock(ColumnFamilyManagerAsync.class);
+        Mockito.when(manager.insertAsync(Mockito.any(ColumnEntity.class)))
+                .thenAnswer(i -> CompletableFuture.completedFuture(i.getArgument(0)));
+        AtomicInteger conversions = new AtomicInteger();
+        Executor executor = command -> {
+            conversions.incrementAndGet();
+            command.run();
+        };
+
+        ColumnTemplateAsync template = producer.get(manager, executor);
+        Person person = Person.builder().withName("Ada").withId(1L).build();
+        Person result = template.insertAsync(person).toCompletableFuture().join();
+        assertEquals("Ada", result.getName());
+        assertEquals(1, conversions.get());
+    }
+}
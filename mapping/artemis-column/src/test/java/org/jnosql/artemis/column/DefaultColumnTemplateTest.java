@@ -172,11 +172,12 @@ public class DefaultColumnTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class), Mockito.eq(duration)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class), any(Duration.class));
     }
 
     @Test
@@ -185,11 +186,12 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(ColumnEntity.class));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, Mockito.never()).insert(any(ColumnEntity.class));
     }
 
     @Test
@@ -198,11 +200,12 @@ public class DefaultColumnTemplateTest {
         columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(ColumnEntity.class)))
-                .thenReturn(columnEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(Arrays.asList(columnEntity, columnEntity));
 
         subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(ColumnEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(any(ColumnEntity.class));
     }
 
     @Test
@@ -220,6 +223,25 @@ public class DefaultColumnTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    public void shouldStream() {
+        ColumnEntity columnEntity = ColumnEntity.of("Person");
+        columnEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .stream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(columnEntity));
+
+        ColumnQuery query = select().from("person").build();
+
+        Stream<Person> people = subject.stream(query);
+        verify(managerMock).stream(query);
+        verify(managerMock, Mockito.never()).select(query);
+        List<Person> result = people.collect(Collectors.toList());
+        assertEquals(1, result.size());
+        assertEquals("Name", result.get(0).getName());
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         ColumnEntity columnEntity = ColumnEntity.of("Person");
@@ -30,6 +30,7 @@ import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.flow.Publisher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -185,6 +186,22 @@ public class ColumnRepositoryAsyncProxyTest {
         assertEquals(callback, consumerCaptor.getValue());
     }
 
+    @Test
+    public void shouldReturnPublisherOnFindByAge() {
+        Publisher<Person> publisher = subscriber -> {
+        };
+        when(template.<Person>selectPublisher(any(ColumnQuery.class))).thenReturn(publisher);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        assertEquals(publisher, personRepository.findByAge(10));
+        verify(template).selectPublisher(captor.capture());
+        ColumnQuery query = captor.getValue();
+        ColumnCondition condition = query.getCondition().get();
+        assertEquals("Person", query.getColumnFamily());
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Column.of("age", 10), condition.getColumn());
+    }
+
     @Test
     public void shouldFindByNameOrderByAgeDesc() {
         Consumer<List<Person>> callback = v -> {
@@ -273,6 +290,8 @@ public class ColumnRepositoryAsyncProxyTest {
 
         void findByNameOrderByAgeDesc(String name, Consumer<List<Person>> callBack);
 
+        Publisher<Person> findByAge(Integer age);
+
         @Query("select * from Person")
         void findByQuery();
 
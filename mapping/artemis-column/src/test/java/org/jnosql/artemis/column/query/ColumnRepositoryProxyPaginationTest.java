@@ -182,14 +182,14 @@ public class ColumnRepositoryProxyPaginationTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(any(ColumnQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Pagination pagination = getPagination();
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20, pagination);
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
         ColumnQuery query = captor.getValue();
         assertEquals("Person", query.getColumnFamily());
@@ -199,6 +199,29 @@ public class ColumnRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldBindNewValuesWhenMethodIsCalledAgain() {
+        when(template.select(any(ColumnQuery.class)))
+                .thenReturn(Collections.emptyList());
+
+        personRepository.findByNameAndAge("Ada", 20);
+        personRepository.findByNameAndAge("Poliana", 30);
+
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(template, times(2)).select(captor.capture());
+        List<ColumnQuery> queries = captor.getAllValues();
+        List<ColumnCondition> first = queries.get(0).getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        List<ColumnCondition> second = queries.get(1).getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        assertEquals(Column.of("name", "Ada"), first.get(0).getColumn());
+        assertEquals(Column.of("age", 20), first.get(1).getColumn());
+        assertEquals(Column.of("name", "Poliana"), second.get(0).getColumn());
+        assertEquals(Column.of("age", 30), second.get(1).getColumn());
+    }
+
     @Test
     public void shouldFindByAgeANDName() {
         Person ada = Person.builder()
@@ -219,12 +242,12 @@ public class ColumnRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(any(ColumnQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(any(ColumnQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
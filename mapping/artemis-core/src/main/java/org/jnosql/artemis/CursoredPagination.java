@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis;
+
+import java.util.List;
+
+/**
+ * A {@link Pagination} that seeks the next page from the sort values of the last element of the current page,
+ * the keyset pagination, instead of skipping the elements of the previous pages. A query with this pagination
+ * requires at least one sort, and the last sort should be unique, e.g. the id, to not skip elements with the
+ * same sort values across pages.
+ * The keyset pagination is supported by the document and column templates and repositories, the graph ones reject it
+ * with {@link IllegalArgumentException}.
+ */
+public interface CursoredPagination extends Pagination {
+
+    /**
+     * Returns the sort values of the last element of the previous page in the same order of the sorts of the query,
+     * it is empty at the first page.
+     *
+     * @return the cursor
+     */
+    List<Object> getCursor();
+
+    /**
+     * The keyset pagination does not skip elements, the position comes from the cursor.
+     *
+     * @return zero
+     */
+    @Override
+    long getSkip();
+
+    /**
+     * The next page requires the cursor of the current page, use the {@link CursoredPagination#next(List)} instead.
+     *
+     * @throws IllegalArgumentException always, the keyset pagination does not have a next page without a cursor
+     */
+    @Override
+    CursoredPagination next();
+
+    /**
+     * Returns the {@link CursoredPagination} requesting the page after the element with the given sort values.
+     *
+     * @param cursor the sort values of the last element of the current page
+     * @return the next pagination
+     * @throws NullPointerException          when cursor is null
+     * @throws UnsupportedOperationException when the pagination is read-only
+     */
+    CursoredPagination next(List<Object> cursor);
+
+    @Override
+    CursoredPagination unmodifiable();
+}
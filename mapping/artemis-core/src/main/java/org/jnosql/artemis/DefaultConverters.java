@@ -15,16 +15,24 @@
 package org.jnosql.artemis;
 
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * The Default implementation to {@link Converters}
+ * The Default implementation to {@link Converters}. The converter is resolved once to each class:
+ * a normal scoped bean keeps its client proxy, and a {@link Dependent} bean, as a dependent object of this
+ * application scoped bean, is created once and destroyed with it.
  */
 @ApplicationScoped
 class DefaultConverters implements Converters {
@@ -35,10 +43,27 @@ class DefaultConverters implements Converters {
     @Inject
     private InstanceProducer instanceProducer;
 
+    private final Map<Class<?>, AttributeConverter> converters = new ConcurrentHashMap<>();
+
+    private final List<CreationalContext<?>> dependents = new ArrayList<>();
+
     @Override
     public AttributeConverter get(Class<? extends AttributeConverter> converterClass) {
         Objects.requireNonNull(converterClass, "The converterClass is required");
-        return getInstance(converterClass);
+        AttributeConverter converter = converters.get(converterClass);
+        if (converter == null) {
+            converter = converters.computeIfAbsent(converterClass, c -> (AttributeConverter) getInstance(c));
+        }
+        return converter;
+    }
+
+    @PreDestroy
+    void destroy() {
+        synchronized (dependents) {
+            dependents.forEach(CreationalContext::release);
+            dependents.clear();
+        }
+        converters.clear();
     }
 
     private <T> T getInstance(Class<T> clazz) {
@@ -46,6 +71,11 @@ class DefaultConverters implements Converters {
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
             CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
+            if (!beanManager.isNormalScope(bean.getScope())) {
+                synchronized (dependents) {
+                    dependents.add(ctx);
+                }
+            }
             return (T) beanManager.getReference(bean, clazz, ctx);
         } else {
             return instanceProducer.create(clazz);
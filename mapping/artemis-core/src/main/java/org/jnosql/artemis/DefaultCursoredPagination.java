@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The default implementation of {@link CursoredPagination}
+ */
+final class DefaultCursoredPagination implements CursoredPagination {
+
+    private final long page;
+
+    private final long size;
+
+    private final List<Object> cursor;
+
+    private final boolean readOnly;
+
+    DefaultCursoredPagination(long size) {
+        this(1, size, Collections.emptyList(), false);
+    }
+
+    private DefaultCursoredPagination(long page, long size, List<Object> cursor, boolean readOnly) {
+        this.page = page;
+        this.size = size;
+        this.cursor = cursor;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public long getPageNumber() {
+        return page;
+    }
+
+    @Override
+    public long getPageSize() {
+        return size;
+    }
+
+    @Override
+    public long getLimit() {
+        return size;
+    }
+
+    @Override
+    public long getSkip() {
+        return 0L;
+    }
+
+    @Override
+    public List<Object> getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public CursoredPagination next() {
+        throw new IllegalArgumentException("The keyset pagination requires the cursor of the last element " +
+                "of the current page, use the next method with the cursor instead");
+    }
+
+    @Override
+    public CursoredPagination next(List<Object> cursor) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        if (readOnly) {
+            throw new UnsupportedOperationException("the next method is not authorized when the pagination is read-only.");
+        }
+        return new DefaultCursoredPagination(page + 1, size,
+                Collections.unmodifiableList(new ArrayList<>(cursor)), false);
+    }
+
+    @Override
+    public CursoredPagination unmodifiable() {
+        if (readOnly) {
+            return this;
+        }
+        return new DefaultCursoredPagination(page, size, cursor, true);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DefaultCursoredPagination that = (DefaultCursoredPagination) o;
+        return page == that.page &&
+                size == that.size &&
+                Objects.equals(cursor, that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(page, size, cursor);
+    }
+
+    @Override
+    public String toString() {
+        return "page " + page + " size " + size + " cursor " + cursor;
+    }
+}
@@ -17,7 +17,10 @@
 package org.jnosql.artemis;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -59,4 +62,24 @@ public interface Page<T> extends Supplier<Stream<T>> {
      */
     <C extends Collection<T>> C getContent(Supplier<C> collectionFactory);
 
+    /**
+     * Returns an {@link Iterator} over this page and the following ones that requests the next pages on the
+     * executor while the current page is consumed, it is an opt-in to the batch process that walks through
+     * all the pages. It requests at most lookAhead pages in advance and ends at the first empty page or
+     * after a page smaller than the page size.
+     *
+     * @param executor  the executor that requests the next pages
+     * @param lookAhead the maximum number of pages requested in advance
+     * @return an {@link Iterator} of pages starting from this one
+     * @throws NullPointerException     when executor is null
+     * @throws IllegalArgumentException when lookAhead is either zero or negative
+     */
+    default Iterator<Page<T>> prefetch(Executor executor, int lookAhead) {
+        Objects.requireNonNull(executor, "executor is required");
+        if (lookAhead < 1) {
+            throw new IllegalArgumentException("The look-ahead cannot be zero or negative");
+        }
+        return new PrefetchPageIterator<>(this, executor, lookAhead);
+    }
+
 }
@@ -76,4 +76,18 @@ public interface Pagination {
         }
         return new PaginationBuilder(page);
     }
+
+    /**
+     * Creates the first page of a keyset pagination, see {@link CursoredPagination}.
+     *
+     * @param size the size of pagination
+     * @return a new {@link CursoredPagination} instance
+     * @throws IllegalArgumentException when size is either zero or negative
+     */
+    static CursoredPagination cursor(long size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("A pagination size cannot be zero or negative");
+        }
+        return new DefaultCursoredPagination(size);
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Iterator} over a {@link Page} and the following ones that requests the next pages on an
+ * {@link Executor} while the current one is consumed. It keeps at most the look-ahead number of pages
+ * requested in advance and ends at the first empty page or after a page smaller than the page size.
+ *
+ * @param <T> the entity type
+ */
+final class PrefetchPageIterator<T> implements Iterator<Page<T>> {
+
+    private final Executor executor;
+
+    private final int lookAhead;
+
+    private final Deque<CompletableFuture<Page<T>>> pages = new ArrayDeque<>();
+
+    PrefetchPageIterator(Page<T> page, Executor executor, int lookAhead) {
+        this.executor = executor;
+        this.lookAhead = lookAhead;
+        this.pages.add(CompletableFuture.completedFuture(page));
+        fill();
+    }
+
+    @Override
+    public boolean hasNext() {
+        Page<T> page = join(pages.peekFirst());
+        return page != null && !page.getContent().isEmpty();
+    }
+
+    @Override
+    public Page<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no next page");
+        }
+        Page<T> page = join(pages.pollFirst());
+        fill();
+        return page;
+    }
+
+    private void fill() {
+        while (pages.size() <= lookAhead) {
+            pages.addLast(pages.peekLast().thenApplyAsync(this::nextPage, executor));
+        }
+    }
+
+    private Page<T> nextPage(Page<T> page) {
+        if (page == null || isLast(page)) {
+            return null;
+        }
+        return page.next();
+    }
+
+    private boolean isLast(Page<T> page) {
+        return page.getContent().size() < page.getPagination().getPageSize();
+    }
+
+    private Page<T> join(CompletableFuture<Page<T>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.reflection.ClassMappings;
+import org.jnosql.artemis.reflection.RepositoryReflectionUtils;
+import org.jnosql.query.DeleteQuerySupplier;
+import org.jnosql.query.InsertQuerySupplier;
+import org.jnosql.query.SelectQuerySupplier;
+import org.jnosql.query.UpdateQuerySupplier;
+
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parses the queries of a repository interface before its first invocation: the method-name queries,
+ * findBy and deleteBy, and the {@link org.jnosql.artemis.Query} annotation. The CDI extensions use it when the
+ * container starts, so the parse cost is paid at the bootstrap and the result is kept at the query caches.
+ * By default an invalid query is logged; when the {@link RepositoryQueryCompiler#FAIL_FAST} system property is
+ * true, it is added as a deployment problem and the container does not start.
+ */
+public final class RepositoryQueryCompiler {
+
+    /**
+     * The system property that enables the fail-fast mode
+     */
+    public static final String FAIL_FAST = "artemis.repository.failFast";
+
+    private static final Logger LOGGER = Logger.getLogger(RepositoryQueryCompiler.class.getName());
+
+    private static final int COMMAND_LENGTH = 6;
+
+    private final BiFunction<Method, String, ?> selectMethod;
+
+    private final BiFunction<Method, String, ?> deleteMethod;
+
+    private final Consumer<String> queryParser;
+
+    /**
+     * Creates a RepositoryQueryCompiler instance
+     *
+     * @param selectMethod the parser to the findBy methods
+     * @param deleteMethod the parser to the deleteBy methods
+     * @param queryParser  the parser to the {@link org.jnosql.artemis.Query} value
+     * @throws NullPointerException when there is null parameter
+     */
+    public RepositoryQueryCompiler(BiFunction<Method, String, ?> selectMethod,
+                                   BiFunction<Method, String, ?> deleteMethod,
+                                   Consumer<String> queryParser) {
+        this.selectMethod = Objects.requireNonNull(selectMethod, "selectMethod is required");
+        this.deleteMethod = Objects.requireNonNull(deleteMethod, "deleteMethod is required");
+        this.queryParser = Objects.requireNonNull(queryParser, "queryParser is required");
+    }
+
+    /**
+     * Parses all the query methods from the repository
+     *
+     * @param repositoryType the repository interface
+     * @param entity         the entity name
+     * @return the errors found, an empty list when all the queries are valid
+     * @throws NullPointerException when there is null parameter
+     */
+    public List<DynamicQueryException> compile(Class<?> repositoryType, String entity) {
+        Objects.requireNonNull(repositoryType, "repositoryType is required");
+        Objects.requireNonNull(entity, "entity is required");
+
+        List<DynamicQueryException> errors = new ArrayList<>();
+        for (Method method : repositoryType.getMethods()) {
+            try {
+                compile(method, entity);
+            } catch (RuntimeException exception) {
+                errors.add(new DynamicQueryException(String.format("There is an invalid query at the method %s " +
+                        "from the repository %s", method.getName(), repositoryType.getName()), exception));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Parses all the query methods from the repositories, the errors are either logged or added as
+     * deployment problems when the fail-fast mode is enabled.
+     *
+     * @param repositories the repositories interfaces
+     * @param beanManager  the bean manager
+     * @param validation   the event that receives the deployment problems
+     * @throws NullPointerException when there is null parameter
+     */
+    public void compile(Collection<Class<?>> repositories, BeanManager beanManager,
+                        AfterDeploymentValidation validation) {
+        Objects.requireNonNull(repositories, "repositories is required");
+        Objects.requireNonNull(beanManager, "beanManager is required");
+        Objects.requireNonNull(validation, "validation is required");
+        if (repositories.isEmpty()) {
+            return;
+        }
+
+        boolean failFast = isFailFast();
+        ClassMappings classMappings = getClassMappings(beanManager);
+        for (Class<?> repository : repositories) {
+            Optional<Class<?>> entityClass = getEntity(repository);
+            if (!entityClass.isPresent()) {
+                LOGGER.fine("Ignoring the generic repository " + repository.getName());
+                continue;
+            }
+            List<DynamicQueryException> errors = new ArrayList<>();
+            try {
+                String entity = classMappings.get(entityClass.get()).getName();
+                errors.addAll(compile(repository, entity));
+            } catch (RuntimeException exception) {
+                errors.add(new DynamicQueryException("There is an error to load the entity from the repository "
+                        + repository.getName(), exception));
+            }
+            for (DynamicQueryException error : errors) {
+                if (failFast) {
+                    validation.addDeploymentProblem(error);
+                } else {
+                    LOGGER.log(Level.WARNING, error.getMessage(), error);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the fail-fast mode is enabled from the {@link RepositoryQueryCompiler#FAIL_FAST} system property
+     *
+     * @return true if the fail-fast mode is enabled
+     */
+    public static boolean isFailFast() {
+        return Boolean.valueOf(System.getProperty(FAIL_FAST));
+    }
+
+    /**
+     * Parses a query from the {@link org.jnosql.artemis.Query} annotation using the query suppliers
+     * to select, delete, insert and update.
+     *
+     * @param query the query
+     * @throws NullPointerException     when the query is null
+     * @throws IllegalArgumentException when the command is not recognized
+     */
+    public static void parse(String query) {
+        Objects.requireNonNull(query, "query is required");
+        String command = query.trim();
+        if (command.length() < COMMAND_LENGTH) {
+            throw new IllegalArgumentException(String.format("The query %s is invalid", query));
+        }
+        switch (command.substring(0, COMMAND_LENGTH)) {
+            case "select":
+                SelectQuerySupplier.getSupplier().apply(query);
+                return;
+            case "delete":
+                DeleteQuerySupplier.getSupplier().apply(query);
+                return;
+            case "insert":
+                InsertQuerySupplier.getSupplier().apply(query);
+                return;
+            case "update":
+                UpdateQuerySupplier.getSupplier().apply(query);
+                return;
+            default:
+                throw new IllegalArgumentException(String.format("The command was not recognized at the query %s ",
+                        query));
+        }
+    }
+
+    private void compile(Method method, String entity) {
+        switch (RepositoryType.of(method)) {
+            case FIND_BY:
+                selectMethod.apply(method, entity);
+                return;
+            case DELETE_BY:
+                deleteMethod.apply(method, entity);
+                return;
+            case JNOSQL_QUERY:
+                queryParser.accept(RepositoryReflectionUtils.INSTANCE.getQuery(method));
+                return;
+            default:
+        }
+    }
+
+    private static Optional<Class<?>> getEntity(Class<?> repository) {
+        for (Type type : repository.getGenericInterfaces()) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                Type rawType = parameterizedType.getRawType();
+                Type entity = parameterizedType.getActualTypeArguments()[0];
+                if ((Repository.class.equals(rawType) || RepositoryAsync.class.equals(rawType))
+                        && entity instanceof Class) {
+                    return Optional.of((Class<?>) entity);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static ClassMappings getClassMappings(BeanManager beanManager) {
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(ClassMappings.class));
+        return (ClassMappings) beanManager.getReference(bean, ClassMappings.class,
+                beanManager.createCreationalContext(bean));
+    }
+}
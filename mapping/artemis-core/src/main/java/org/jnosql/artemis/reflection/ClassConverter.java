@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Convert;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -23,6 +24,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -63,10 +65,12 @@ class ClassConverter {
     public ClassMapping create(Class<?> entityClass) {
 
         long start = System.currentTimeMillis();
-        String entityName = reflections.getEntityName(entityClass);
+        Optional<GeneratedClassMapping> generated = GeneratedClassMappings.INSTANCE.get(entityClass);
+        String entityName = generated.map(GeneratedClassMapping::getName)
+                .orElseGet(() -> reflections.getEntityName(entityClass));
 
-        List<FieldMapping> fields = reflections.getFields(entityClass)
-                .stream().map(this::to).collect(toList());
+        List<FieldMapping> fields = getFields(entityClass, generated)
+                .stream().map(f -> to(f, generated)).collect(toList());
 
         List<String> fieldsName = fields.stream().map(FieldMapping::getName).collect(toList());
 
@@ -77,7 +81,8 @@ class ClassConverter {
                 .collect(collectingAndThen(toMap(FieldMapping::getName,
                         Function.identity()), Collections::unmodifiableMap));
 
-        InstanceSupplier instanceSupplier = instanceSupplierFactory.apply(reflections.makeAccessible(entityClass));
+        InstanceSupplier instanceSupplier = generated.flatMap(GeneratedClassMapping::getInstanceSupplier)
+                .orElseGet(() -> instanceSupplierFactory.apply(reflections.makeAccessible(entityClass)));
 
         ClassMapping mapping = DefaultClassMapping.builder().withName(entityName)
                 .withClassInstance(entityClass)
@@ -93,6 +98,26 @@ class ClassConverter {
         return mapping;
     }
 
+    private List<Field> getFields(Class<?> entityClass, Optional<GeneratedClassMapping> generated) {
+        if (!generated.isPresent()) {
+            return reflections.getFields(entityClass);
+        }
+        return generated.get().getFieldsName().stream()
+                .map(name -> getField(entityClass, name))
+                .collect(toList());
+    }
+
+    private Field getField(Class<?> entityClass, String name) {
+        for (Class<?> type = entityClass; nonNull(type); type = type.getSuperclass()) {
+            Field field = reflections.getField(name, type);
+            if (nonNull(field)) {
+                return field;
+            }
+        }
+        throw new ClassInformationNotFoundException(String.format("The field %s was not found at the class %s",
+                name, entityClass.getName()));
+    }
+
     private Map<String, NativeMapping> getNativeFieldGroupByJavaField(List<FieldMapping> fields,
                                                                       String javaField, String nativeField) {
 
@@ -150,9 +175,10 @@ class ClassConverter {
                               FieldMapping field, String javaField, String nativeField,
                               Class<?> entityClass) {
 
+        Optional<GeneratedClassMapping> generated = GeneratedClassMappings.INSTANCE.get(entityClass);
         Map<String, NativeMapping> entityMap = getNativeFieldGroupByJavaField(
-                reflections.getFields(entityClass)
-                        .stream().map(this::to).collect(toList()),
+                getFields(entityClass, generated)
+                        .stream().map(f -> to(f, generated)).collect(toList()),
                 appendPreparePrefix(javaField, field.getFieldName()), nativeField);
 
         String nativeElement = entityMap.values().stream().map(NativeMapping::getNativeField)
@@ -175,28 +201,35 @@ class ClassConverter {
     }
 
 
-    private FieldMapping to(Field field) {
-        FieldType fieldType = FieldType.of(field);
+    private FieldMapping to(Field field, Optional<GeneratedClassMapping> generated) {
+        String name = field.getName();
+        FieldType fieldType = generated.map(g -> g.getFieldType(name)).orElseGet(() -> FieldType.of(field));
         reflections.makeAccessible(field);
-        Convert convert = field.getAnnotation(Convert.class);
-        boolean id = reflections.isIdField(field);
-        String columnName = id ? reflections.getIdName(field) : reflections.getColumnName(field);
+        Optional<Class<? extends AttributeConverter>> converter = generated.isPresent() ?
+                generated.get().getConverter(name) :
+                Optional.ofNullable(field.getAnnotation(Convert.class)).map(Convert::value);
+        boolean id = generated.map(g -> g.isId(name)).orElseGet(() -> reflections.isIdField(field));
+        String columnName = generated.map(g -> g.getColumnName(name))
+                .orElseGet(() -> id ? reflections.getIdName(field) : reflections.getColumnName(field));
 
         FieldMappingBuilder builder = FieldMapping.builder().withName(columnName)
                 .withField(field).withType(fieldType).withId(id)
-                .withReader(readerFactory.apply(field))
-                .withWriter(writerFactory.apply(field));
+                .withReader(generated.flatMap(g -> g.getReader(field.getName()))
+                        .orElseGet(() -> readerFactory.apply(field)))
+                .withWriter(generated.flatMap(g -> g.getWriter(field.getName()))
+                        .orElseGet(() -> writerFactory.apply(field)));
 
-        if (nonNull(convert)) {
-            builder.withConverter(convert.value());
-        }
+        converter.ifPresent(builder::withConverter);
         switch (fieldType) {
             case COLLECTION:
             case MAP:
                 builder.withTypeSupplier(field::getGenericType);
                 return builder.buildGeneric();
             case EMBEDDED:
-                return builder.withEntityName(reflections.getEntityName(field.getType())).buildEmedded();
+                String entityName = GeneratedClassMappings.INSTANCE.get(field.getType())
+                        .map(GeneratedClassMapping::getName)
+                        .orElseGet(() -> reflections.getEntityName(field.getType()));
+                return builder.withEntityName(entityName).buildEmedded();
             default:
                 return builder.buildDefault();
 
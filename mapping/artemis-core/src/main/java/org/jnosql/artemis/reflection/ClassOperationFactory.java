@@ -26,8 +26,10 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private static final String DISABLE_COMPILER = "artemis.reclection.disableCompiler";
 
-    private static final String LOG_MESSAGE = "It will use the compiler optimizations to access the class instead" +
-            " of reflections. To disable it set artemis.reclection.disableCompiler as true.";
+    private static final String ENABLE_JAVA_COMPILER = "artemis.reflection.javaCompiler";
+
+    private static final String LOG_MESSAGE = "It will use reflections to access the class instead" +
+            " of method handles. To enable it set artemis.reclection.disableCompiler as false.";
 
     private static final Logger LOGGER = Logger.getLogger(ClassOperationFactory.class.getName());
 
@@ -35,10 +37,7 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
 
     private final ClassOperation reflection = new ReflectionClassOperation(reflections);
 
-    private final JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory
-            .class.getClassLoader());
-
-    private final ClassOperation compiler = new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+    private final ClassOperation methodHandle = new MethodHandleClassOperation(reflection);
 
 
     public Reflections getReflections() {
@@ -65,7 +64,13 @@ enum ClassOperationFactory implements Supplier<ClassOperation> {
                 LOGGER.fine(LOG_MESSAGE);
                 return reflection;
             }
-            return compiler;
+            if (Boolean.valueOf(System.getProperty(ENABLE_JAVA_COMPILER))) {
+                LOGGER.fine("It will use the Java compiler to access the class");
+                JavaCompilerFacade compilerFacade = new JavaCompilerFacade(ClassOperationFactory
+                        .class.getClassLoader());
+                return new JavaCompilerClassOperation(reflection, reflections, compilerFacade);
+            }
+            return methodHandle;
         }
 
 
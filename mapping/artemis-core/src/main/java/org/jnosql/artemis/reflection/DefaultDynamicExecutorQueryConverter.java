@@ -60,7 +60,7 @@ final class DefaultDynamicExecutorQueryConverter implements DynamicExecutorQuery
 
     @Override
     public <T> Stream<T> toStream(DynamicReturn<T> dynamic) {
-        return dynamic.list().stream();
+        return dynamic.stream();
     }
 
     @Override
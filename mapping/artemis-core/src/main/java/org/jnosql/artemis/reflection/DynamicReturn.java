@@ -134,27 +134,36 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
 
     private final Supplier<List<T>> list;
 
+    private final Supplier<Stream<T>> stream;
+
     private final Pagination pagination;
 
     private final Function<Pagination, Optional<T>> singleResultPagination;
 
     private final Function<Pagination, List<T>> listPagination;
 
+    private final Function<Pagination, Stream<T>> streamPagination;
+
     private final Function<Pagination, Page<T>> page;
 
     private DynamicReturn(Class<T> classSource, Method methodSource,
                           Supplier<Optional<T>> singleResult,
-                          Supplier<List<T>> list, Pagination pagination,
+                          Supplier<List<T>> list,
+                          Supplier<Stream<T>> stream,
+                          Pagination pagination,
                           Function<Pagination, Optional<T>> singleResultPagination,
                           Function<Pagination, List<T>> listPagination,
+                          Function<Pagination, Stream<T>> streamPagination,
                           Function<Pagination, Page<T>> page) {
         this.classSource = classSource;
         this.methodSource = methodSource;
         this.singleResult = singleResult;
         this.list = list;
+        this.stream = stream;
         this.pagination = pagination;
         this.singleResultPagination = singleResultPagination;
         this.listPagination = listPagination;
+        this.streamPagination = streamPagination;
         this.page = page;
     }
 
@@ -194,6 +203,18 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
         return list.get();
     }
 
+    /**
+     * Returns the result as {@link Stream}, when there is not a stream supplier it uses the list result
+     *
+     * @return the result as {@link Stream}
+     */
+    Stream<T> stream() {
+        if (stream == null) {
+            return list.get().stream();
+        }
+        return stream.get();
+    }
+
     /**
      * @return the pagination
      */
@@ -215,6 +236,16 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
         return listPagination.apply(pagination);
     }
 
+    /**
+     * @return a stream result using pagination, when there is not a stream function it uses the list result
+     */
+    Stream<T> streamPagination() {
+        if (streamPagination == null) {
+            return listPagination.apply(pagination).stream();
+        }
+        return streamPagination.apply(pagination);
+    }
+
     /**
      * @return the page
      */
@@ -252,12 +283,16 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
 
         private Supplier<List<T>> list;
 
+        private Supplier<Stream<T>> stream;
+
         private Pagination pagination;
 
         private Function<Pagination, Optional<T>> singleResultPagination;
 
         private Function<Pagination, List<T>> listPagination;
 
+        private Function<Pagination, Stream<T>> streamPagination;
+
         private Function<Pagination, Page<T>> page;
 
         private DefaultDynamicReturnBuilder() {
@@ -299,6 +334,15 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
             return this;
         }
 
+        /**
+         * @param stream the stream, it is optional and when it is not defined the list is used instead
+         * @return the builder instance
+         */
+        public DefaultDynamicReturnBuilder withStream(Supplier<Stream<T>> stream) {
+            this.stream = stream;
+            return this;
+        }
+
         /**
          * @param pagination the pagination
          * @return the builder instance
@@ -326,6 +370,16 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
             return this;
         }
 
+        /**
+         * @param streamPagination the stream pagination, it is optional and when it is not defined
+         *                         the list pagination is used instead
+         * @return the builder instance
+         */
+        public DefaultDynamicReturnBuilder withStreamPagination(Function<Pagination, Stream<T>> streamPagination) {
+            this.streamPagination = streamPagination;
+            return this;
+        }
+
         /**
          * @param page the page
          * @return the builder instance
@@ -353,8 +407,8 @@ public final class DynamicReturn<T> implements MethodDynamicExecutable {
                 requireNonNull(page, "page is required when pagination is not null");
             }
 
-            return new DynamicReturn(classSource, methodSource, singleResult, list,
-                    pagination, singleResultPagination, listPagination, page);
+            return new DynamicReturn(classSource, methodSource, singleResult, list, stream,
+                    pagination, singleResultPagination, listPagination, streamPagination, page);
         }
     }
 
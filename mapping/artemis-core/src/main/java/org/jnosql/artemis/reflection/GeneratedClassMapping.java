@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The meta-info and accessors of an entity created at compile time by the artemis-processor annotation processor.
+ * The implementations are loaded from {@link java.util.ServiceLoader} and the {@link ClassMapping} is built from
+ * them before the fallback to reflection: neither the fields nor their annotations are scanned and the generated
+ * accessors replace the ones from {@link ClassOperation}.
+ */
+public interface GeneratedClassMapping {
+
+    /**
+     * @return The class
+     */
+    Class<?> getClassInstance();
+
+    /**
+     * @return the Entity name
+     */
+    String getName();
+
+    /**
+     * Returns the Java fields name in the mapping order, the fields from a
+     * {@link org.jnosql.artemis.MappedSuperclass} come first
+     *
+     * @return the fields name
+     */
+    List<String> getFieldsName();
+
+    /**
+     * @return the {@link InstanceSupplier} otherwise {@link Optional#empty()} when the constructor is not accessible
+     */
+    Optional<InstanceSupplier> getInstanceSupplier();
+
+    /**
+     * Returns the reader to the Java field
+     *
+     * @param field the Java field name
+     * @return the {@link FieldReader} otherwise {@link Optional#empty()} when the field is not accessible
+     */
+    Optional<FieldReader> getReader(String field);
+
+    /**
+     * Returns the writer to the Java field
+     *
+     * @param field the Java field name
+     * @return the {@link FieldWriter} otherwise {@link Optional#empty()} when the field is not accessible
+     */
+    Optional<FieldWriter> getWriter(String field);
+
+    /**
+     * Returns the column name to the Java field, from either {@link org.jnosql.artemis.Column#value()}
+     * or {@link org.jnosql.artemis.Id#value()}, otherwise the Java field name
+     *
+     * @param field the Java field name
+     * @return the column name
+     */
+    String getColumnName(String field);
+
+    /**
+     * @param field the Java field name
+     * @return true when the field is annotated with {@link org.jnosql.artemis.Id}
+     */
+    boolean isId(String field);
+
+    /**
+     * Returns the {@link org.jnosql.artemis.Convert#value()} of the Java field
+     *
+     * @param field the Java field name
+     * @return the converter otherwise {@link Optional#empty()} when the field does not have a converter
+     */
+    Optional<Class<? extends AttributeConverter>> getConverter(String field);
+
+    /**
+     * Returns the {@link FieldType} of the Java field, as {@link FieldType#of(java.lang.reflect.Field)} does
+     *
+     * @param field the Java field name
+     * @return the field type
+     */
+    FieldType getFieldType(String field);
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link GeneratedClassMapping} found at {@link ServiceLoader} grouped by the entity class.
+ */
+enum GeneratedClassMappings {
+
+    INSTANCE;
+
+    private final Map<Class<?>, GeneratedClassMapping> mappings = new ConcurrentHashMap<>();
+
+    GeneratedClassMappings() {
+        Logger logger = Logger.getLogger(GeneratedClassMappings.class.getName());
+        Iterator<GeneratedClassMapping> iterator = ServiceLoader.load(GeneratedClassMapping.class).iterator();
+        while (iterator.hasNext()) {
+            try {
+                GeneratedClassMapping mapping = iterator.next();
+                mappings.put(mapping.getClassInstance(), mapping);
+            } catch (ServiceConfigurationError error) {
+                logger.log(Level.WARNING, "Ignoring a generated class mapping, it will use reflection", error);
+            }
+        }
+        logger.fine(String.format("Found %d generated class mappings", mappings.size()));
+    }
+
+    /**
+     * Returns the generated mapping to the class
+     *
+     * @param entityClass the entity class
+     * @return the mapping otherwise {@link Optional#empty()}
+     */
+    Optional<GeneratedClassMapping> get(Class<?> entityClass) {
+        return Optional.ofNullable(mappings.get(entityClass));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * A {@link ClassOperation} that uses {@link java.lang.invoke.LambdaMetafactory} and
+ * {@link java.lang.invoke.MethodHandle} to read, write and create instances. It does not require a Java compiler
+ * at runtime and links the accessors in memory, so the class mapping does not pay a compilation per accessor.
+ * This is the default implementation, it might also be declared explicitly through the
+ * {@link java.util.ServiceLoader} of {@link ClassOperation}.
+ */
+public final class MethodHandleClassOperation implements ClassOperation {
+
+    private final InstanceSupplierFactory instanceSupplierFactory;
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    private final FieldReaderFactory fieldReaderFactory;
+
+    /**
+     * Creates an instance that uses reflection as fallback
+     */
+    public MethodHandleClassOperation() {
+        this(new ReflectionClassOperation(new DefaultReflections()));
+    }
+
+    MethodHandleClassOperation(ClassOperation fallback) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.instanceSupplierFactory = new MethodHandleInstanceSupplierFactory(lookup,
+                fallback.getInstanceSupplierFactory());
+        this.fieldWriterFactory = new MethodHandleFieldWriterFactory(lookup, fallback.getFieldWriterFactory());
+        this.fieldReaderFactory = new MethodHandleFieldReaderFactory(lookup, fallback.getFieldReaderFactory());
+    }
+
+    @Override
+    public InstanceSupplierFactory getInstanceSupplierFactory() {
+        return instanceSupplierFactory;
+    }
+
+    @Override
+    public FieldWriterFactory getFieldWriterFactory() {
+        return fieldWriterFactory;
+    }
+
+    @Override
+    public FieldReaderFactory getFieldReaderFactory() {
+        return fieldReaderFactory;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldReaderFactory} implementation that links the getter accessor with {@link LambdaMetafactory},
+ * so the {@link FieldReader} calls the getter directly. When there is not a public getter it reads the field from a
+ * {@link MethodHandle}, otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleFieldReaderFactory implements FieldReaderFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldReaderFactory.class.getName());
+
+    private static final String METHOD_NAME = "read";
+
+    private static final String[] PREFIXES = {"get", "is"};
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(FieldReader.class);
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup;
+
+    private final FieldReaderFactory fallback;
+
+    MethodHandleFieldReaderFactory(MethodHandles.Lookup lookup, FieldReaderFactory fallback) {
+        this.lookup = lookup;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldReader apply(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        try {
+            Optional<Method> readMethod = getReadMethod(declaringClass, field);
+            if (readMethod.isPresent()) {
+                return link(readMethod.get());
+            }
+            field.setAccessible(true);
+            MethodHandle getter = lookup.unreflectGetter(field).asType(READER_TYPE);
+            return bean -> read(getter, bean);
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINE, "It cannot create a method handle to the field: " + field.getName()
+                    + " within class " + declaringClass.getName() + " using the fallback with reflection", exception);
+            return fallback.apply(field);
+        }
+    }
+
+    private FieldReader link(Method method) throws Throwable {
+        MethodHandle getter = lookup.unreflect(method);
+        MethodType instantiatedType = MethodType.methodType(method.getReturnType(), method.getDeclaringClass())
+                .wrap();
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, METHOD_NAME, FACTORY_TYPE, READER_TYPE,
+                getter, instantiatedType);
+        return (FieldReader) callSite.getTarget().invokeExact();
+    }
+
+    private static Object read(MethodHandle getter, Object bean) {
+        try {
+            return getter.invokeExact(bean);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            throw new ArtemisException("There is an error to read the field value", exception);
+        }
+    }
+
+    private Optional<Method> getReadMethod(Class<?> declaringClass, Field field) {
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            return Optional.empty();
+        }
+        String property = capitalize(field.getName());
+        for (String prefix : PREFIXES) {
+            try {
+                Method readMethod = declaringClass.getMethod(prefix + property);
+                if (readMethod.getReturnType().equals(field.getType())
+                        && Modifier.isPublic(readMethod.getDeclaringClass().getModifiers())) {
+                    return Optional.of(readMethod);
+                }
+            } catch (NoSuchMethodException e) {
+                LOGGER.finest("There is not the method " + prefix + property + " within class "
+                        + declaringClass.getName());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
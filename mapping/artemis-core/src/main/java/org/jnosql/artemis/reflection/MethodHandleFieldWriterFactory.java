@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link FieldWriterFactory} implementation that links the setter accessor with {@link LambdaMetafactory},
+ * so the {@link FieldWriter} calls the setter directly. When there is not a public setter it writes the field from a
+ * {@link MethodHandle}, otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleFieldWriterFactory implements FieldWriterFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleFieldWriterFactory.class.getName());
+
+    private static final String METHOD_NAME = "write";
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(FieldWriter.class);
+
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup;
+
+    private final FieldWriterFactory fallback;
+
+    MethodHandleFieldWriterFactory(MethodHandles.Lookup lookup, FieldWriterFactory fallback) {
+        this.lookup = lookup;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldWriter apply(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        try {
+            Optional<Method> writeMethod = getWriteMethod(declaringClass, field);
+            if (writeMethod.isPresent()) {
+                return link(writeMethod.get());
+            }
+            field.setAccessible(true);
+            MethodHandle setter = lookup.unreflectSetter(field).asType(WRITER_TYPE);
+            return (bean, value) -> write(setter, bean, value);
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINE, "It cannot create a method handle to the field: " + field.getName()
+                    + " within class " + declaringClass.getName() + " using the fallback with reflection", exception);
+            return fallback.apply(field);
+        }
+    }
+
+    private FieldWriter link(Method method) throws Throwable {
+        MethodHandle setter = lookup.unreflect(method);
+        Class<?> type = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+        MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(), type);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, METHOD_NAME, FACTORY_TYPE, WRITER_TYPE,
+                setter, instantiatedType);
+        return (FieldWriter) callSite.getTarget().invokeExact();
+    }
+
+    private static void write(MethodHandle setter, Object bean, Object value) {
+        try {
+            setter.invokeExact(bean, value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            throw new ArtemisException("There is an error to write the field value", exception);
+        }
+    }
+
+    private Optional<Method> getWriteMethod(Class<?> declaringClass, Field field) {
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            return Optional.empty();
+        }
+        String name = field.getName();
+        String methodName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        try {
+            Method writeMethod = declaringClass.getMethod(methodName, field.getType());
+            if (Modifier.isPublic(writeMethod.getDeclaringClass().getModifiers())) {
+                return Optional.of(writeMethod);
+            }
+        } catch (NoSuchMethodException e) {
+            LOGGER.finest("There is not the method " + methodName + " within class " + declaringClass.getName());
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.ArtemisException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link InstanceSupplierFactory} implementation that links a public constructor with {@link LambdaMetafactory},
+ * a non public one is called from a {@link MethodHandle}, otherwise it will use a fallback by reflection.
+ */
+final class MethodHandleInstanceSupplierFactory implements InstanceSupplierFactory {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleInstanceSupplierFactory.class.getName());
+
+    private static final String METHOD_NAME = "get";
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(InstanceSupplier.class);
+
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+
+    private final MethodHandles.Lookup lookup;
+
+    private final InstanceSupplierFactory fallback;
+
+    MethodHandleInstanceSupplierFactory(MethodHandles.Lookup lookup, InstanceSupplierFactory fallback) {
+        this.lookup = lookup;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public InstanceSupplier apply(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        try {
+            if (Modifier.isPublic(constructor.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers())) {
+                return link(constructor);
+            }
+            constructor.setAccessible(true);
+            MethodHandle handle = lookup.unreflectConstructor(constructor).asType(SUPPLIER_TYPE);
+            return () -> newInstance(handle);
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINE, "It cannot create a method handle to the constructor of the class "
+                    + declaringClass.getName() + " using the fallback with reflection", exception);
+            return fallback.apply(constructor);
+        }
+    }
+
+    private InstanceSupplier link(Constructor<?> constructor) throws Throwable {
+        MethodHandle handle = lookup.unreflectConstructor(constructor);
+        MethodType instantiatedType = MethodType.methodType(constructor.getDeclaringClass());
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, METHOD_NAME, FACTORY_TYPE, SUPPLIER_TYPE,
+                handle, instantiatedType);
+        return (InstanceSupplier) callSite.getTarget().invokeExact();
+    }
+
+    private static Object newInstance(MethodHandle handle) {
+        try {
+            return handle.invokeExact();
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            throw new ArtemisException("There is an error to create a new instance", exception);
+        }
+    }
+}
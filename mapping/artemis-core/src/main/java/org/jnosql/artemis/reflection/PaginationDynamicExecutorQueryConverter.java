@@ -58,7 +58,7 @@ final class PaginationDynamicExecutorQueryConverter implements DynamicExecutorQu
 
     @Override
     public <T> Stream<T> toStream(DynamicReturn<T> dynamic) {
-        return dynamic.listPagination().stream();
+        return dynamic.streamPagination();
     }
 
     @Override
@@ -23,9 +23,9 @@ import org.jnosql.diana.api.Value;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 
@@ -33,6 +33,8 @@ public final class ConverterUtil {
 
     private static final Logger LOGGER = Logger.getLogger(ConverterUtil.class.getName());
 
+    private static final Map<Class<?>, Type> DATABASE_TYPES = new ConcurrentHashMap<>();
+
     private ConverterUtil() {
 
     }
@@ -65,17 +67,18 @@ public final class ConverterUtil {
      */
     public static Object getValue(Object value, Converters converters, FieldMapping field) {
         Field nativeField = field.getNativeField();
+        Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
+        if (converter.isPresent()) {
+            Class<? extends AttributeConverter> converterClass = converter.get();
+            if (isNative(value, converterClass)) {
+                return value;
+            }
+            return converters.get(converterClass).convertToDatabaseColumn(value);
+        }
         if (!nativeField.getType().equals(value.getClass())) {
-            return field.getConverter()
-                    .map(converters::get)
-                    .map(useConverter(value))
-                    .orElseGet(getSupplier(value, nativeField));
+            return getSupplier(value, nativeField).get();
         }
-
-        return field.getConverter()
-                .map(converters::get)
-                .map(useConverter(value))
-                .orElse(value);
+        return value;
     }
 
     private static Supplier<Object> getSupplier(Object value, Field nativeField) {
@@ -94,25 +97,17 @@ public final class ConverterUtil {
         };
     }
 
-    private static Function<AttributeConverter, Object> useConverter(Object value) {
-        return a -> {
-            if (isNative(value).test(a)) {
-                return value;
-            }
-            return a.convertToDatabaseColumn(value);
-        };
+    private static boolean isNative(Object value, Class<? extends AttributeConverter> converterClass) {
+        return DATABASE_TYPES.computeIfAbsent(converterClass, ConverterUtil::getDatabaseType).equals(value.getClass());
     }
 
-    private static Predicate<AttributeConverter> isNative(Object value) {
-        return a -> getGenericInterface(a).getActualTypeArguments()[1].equals(value.getClass());
-    }
-
-
-    private static ParameterizedType getGenericInterface(AttributeConverter a) {
-        for (Type genericInterface : a.getClass().getGenericInterfaces()) {
-            if (ParameterizedType.class.isAssignableFrom(genericInterface.getClass()) &&
-                    ((ParameterizedType) genericInterface).getRawType().equals(AttributeConverter.class)) {
-                return (ParameterizedType) genericInterface;
+    private static Type getDatabaseType(Class<?> converterClass) {
+        for (Class<?> type = converterClass; type != null; type = type.getSuperclass()) {
+            for (Type genericInterface : type.getGenericInterfaces()) {
+                if (ParameterizedType.class.isAssignableFrom(genericInterface.getClass()) &&
+                        ((ParameterizedType) genericInterface).getRawType().equals(AttributeConverter.class)) {
+                    return ((ParameterizedType) genericInterface).getActualTypeArguments()[1];
+                }
             }
         }
         throw new IllegalArgumentException("It does not found AttributeConverter implementation to this converter");
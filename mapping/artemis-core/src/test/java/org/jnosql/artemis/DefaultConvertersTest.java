@@ -47,4 +47,11 @@ class DefaultConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldResolveTheConverterOnce() {
+        AttributeConverter attributeConverter = converters.get(MyConverter.class);
+        Assertions.assertSame(attributeConverter, converters.get(MyConverter.class));
+        Assertions.assertSame(converters.get(VetedConverter.class), converters.get(VetedConverter.class));
+    }
+
+}
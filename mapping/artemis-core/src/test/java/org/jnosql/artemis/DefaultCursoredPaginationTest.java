@@ -0,0 +1,80 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultCursoredPaginationTest {
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsZero() {
+        assertThrows(IllegalArgumentException.class, () -> Pagination.cursor(0));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSizeIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> Pagination.cursor(-1));
+    }
+
+    @Test
+    public void shouldCreateCursoredPaginationInstance() {
+        CursoredPagination pagination = Pagination.cursor(2);
+        assertEquals(1, pagination.getPageNumber());
+        assertEquals(2L, pagination.getPageSize());
+        assertEquals(2L, pagination.getLimit());
+        assertEquals(0L, pagination.getSkip());
+        assertTrue(pagination.getCursor().isEmpty());
+    }
+
+    @Test
+    public void shouldNextFromCursor() {
+        CursoredPagination pagination = Pagination.cursor(2);
+        CursoredPagination secondPage = pagination.next(Arrays.asList("Ada", 10L));
+        assertEquals(2, secondPage.getPageNumber());
+        assertEquals(2L, secondPage.getLimit());
+        assertEquals(0L, secondPage.getSkip());
+        assertEquals(Arrays.asList("Ada", 10L), secondPage.getCursor());
+
+        CursoredPagination thirdPage = secondPage.next(Collections.singletonList("Poliana"));
+        assertEquals(3, thirdPage.getPageNumber());
+        assertEquals(0L, thirdPage.getSkip());
+        assertEquals(Collections.singletonList("Poliana"), thirdPage.getCursor());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNextHasNoCursor() {
+        CursoredPagination pagination = Pagination.cursor(2);
+        assertThrows(IllegalArgumentException.class, pagination::next);
+        assertThrows(NullPointerException.class, () -> pagination.next(null));
+    }
+
+    @Test
+    public void shouldReturnUnmodifiable() {
+        CursoredPagination pagination = Pagination.cursor(2).next(Collections.singletonList(1));
+        CursoredPagination unmodifiable = pagination.unmodifiable();
+        assertEquals(pagination, unmodifiable);
+        assertEquals(unmodifiable, unmodifiable.unmodifiable());
+        assertThrows(UnsupportedOperationException.class, () -> unmodifiable.next(Collections.singletonList(2)));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.jnosql.artemis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefetchPageIteratorTest {
+
+    private ExecutorService executor;
+
+    private AtomicInteger requests;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        requests = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        Page<Integer> page = new ListPage(range(10), Pagination.page(1).size(2));
+        assertThrows(NullPointerException.class, () -> page.prefetch(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> page.prefetch(executor, 0));
+    }
+
+    @Test
+    public void shouldIterateAllPages() {
+        Iterator<Page<Integer>> pages = new ListPage(range(7), Pagination.page(1).size(2)).prefetch(executor, 2);
+        List<List<Integer>> contents = new ArrayList<>();
+        pages.forEachRemaining(p -> contents.add(p.getContent()));
+
+        assertEquals(4, contents.size());
+        assertEquals(range(7), contents.stream().flatMap(List::stream).collect(Collectors.toList()));
+        assertEquals(3, requests.get());
+        assertThrows(NoSuchElementException.class, pages::next);
+    }
+
+    @Test
+    public void shouldStopAtEmptyPage() {
+        Iterator<Page<Integer>> pages = new ListPage(range(4), Pagination.page(1).size(2)).prefetch(executor, 1);
+        assertTrue(pages.hasNext());
+        assertEquals(range(2), pages.next().getContent());
+        assertEquals(IntStream.range(2, 4).boxed().collect(Collectors.toList()), pages.next().getContent());
+        assertFalse(pages.hasNext());
+    }
+
+    @Test
+    public void shouldNotRequestMoreThanLookAhead() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Iterator<Page<Integer>> pages = new ListPage(range(20), Pagination.page(1).size(2)).prefetch(tasks::add, 3);
+        runAll(tasks);
+        assertEquals(3, requests.get());
+
+        pages.next();
+        runAll(tasks);
+        assertEquals(4, requests.get());
+
+        pages.next();
+        pages.next();
+        runAll(tasks);
+        assertEquals(6, requests.get());
+    }
+
+    @Test
+    public void shouldPropagateError() {
+        Page<Integer> page = new ListPage(range(10), Pagination.page(1).size(2)) {
+            @Override
+            public Page<Integer> next() {
+                throw new IllegalStateException("error");
+            }
+        };
+        Iterator<Page<Integer>> pages = page.prefetch(executor, 1);
+        pages.next();
+        assertThrows(IllegalStateException.class, pages::hasNext);
+    }
+
+    private void runAll(Queue<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private class ListPage implements Page<Integer> {
+
+        private final List<Integer> elements;
+
+        private final Pagination pagination;
+
+        ListPage(List<Integer> elements, Pagination pagination) {
+            this.elements = elements;
+            this.pagination = pagination;
+        }
+
+        @Override
+        public Pagination getPagination() {
+            return pagination;
+        }
+
+        @Override
+        public Page<Integer> next() {
+            requests.incrementAndGet();
+            return new ListPage(elements, pagination.next());
+        }
+
+        @Override
+        public List<Integer> getContent() {
+            int from = (int) Math.min(pagination.getSkip(), elements.size());
+            int to = (int) Math.min(pagination.getSkip() + pagination.getLimit(), elements.size());
+            return elements.subList(from, to);
+        }
+
+        @Override
+        public <C extends Collection<Integer>> C getContent(Supplier<C> collectionFactory) {
+            return get().collect(Collectors.toCollection(collectionFactory));
+        }
+
+        @Override
+        public Stream<Integer> get() {
+            return getContent().stream();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Query;
+import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositoryQueryCompilerTest {
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> new RepositoryQueryCompiler(null,
+                (m, e) -> m, q -> {
+        }));
+        RepositoryQueryCompiler compiler = new RepositoryQueryCompiler((m, e) -> m, (m, e) -> m, q -> {
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> compiler.compile(null, "Person"));
+        Assertions.assertThrows(NullPointerException.class, () -> compiler.compile(PersonRepository.class, null));
+    }
+
+    @Test
+    public void shouldCompileQueryMethods() {
+        List<String> selects = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        RepositoryQueryCompiler compiler = new RepositoryQueryCompiler(
+                (m, e) -> selects.add(e + ':' + m.getName()),
+                (m, e) -> deletes.add(e + ':' + m.getName()),
+                queries::add);
+
+        List<DynamicQueryException> errors = compiler.compile(PersonRepository.class, "Person");
+        assertTrue(errors.isEmpty());
+        assertThat(selects, containsInAnyOrder("Person:findByName", "Person:findByAgeOrderByName"));
+        assertThat(deletes, containsInAnyOrder("Person:deleteByName"));
+        assertThat(queries, containsInAnyOrder("select * from Person"));
+    }
+
+    @Test
+    public void shouldReturnErrors() {
+        RepositoryQueryCompiler compiler = new RepositoryQueryCompiler(
+                (m, e) -> {
+                    throw new IllegalStateException("invalid method " + m.getName());
+                },
+                (m, e) -> m, q -> {
+        });
+
+        List<DynamicQueryException> errors = compiler.compile(PersonRepository.class, "Person");
+        assertEquals(2, errors.size());
+        errors.forEach(e -> assertTrue(e.getCause() instanceof IllegalStateException));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenQueryCommandIsInvalid() {
+        Assertions.assertThrows(NullPointerException.class, () -> RepositoryQueryCompiler.parse(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RepositoryQueryCompiler.parse("get"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RepositoryQueryCompiler.parse("remove 10"));
+    }
+
+    interface PersonRepository extends Repository<Person, Long> {
+
+        List<Person> findByName(String name);
+
+        List<Person> findByAgeOrderByName(Integer age);
+
+        void deleteByName(String name);
+
+        @Query("select * from Person")
+        List<Person> query();
+
+        List<Person> unknown();
+    }
+}
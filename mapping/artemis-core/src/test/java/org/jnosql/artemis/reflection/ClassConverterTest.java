@@ -21,6 +21,7 @@ import org.jnosql.artemis.model.Director;
 import org.jnosql.artemis.model.Machine;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.User;
+import org.jnosql.artemis.model.Vehicle;
 import org.jnosql.artemis.model.Worker;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -75,6 +76,24 @@ public class ClassConverterTest {
 
     }
 
+    @Test
+    public void shouldCreateClassMappingFromGeneratedClassMapping() {
+        int columns = VehicleGeneratedClassMapping.COLUMNS.get();
+        ClassMapping classMapping = classConverter.create(Vehicle.class);
+        assertEquals(columns + 2, VehicleGeneratedClassMapping.COLUMNS.get());
+        assertTrue(classMapping.getId().isPresent());
+        assertEquals("vehicles", classMapping.getName());
+        assertEquals(Vehicle.class, classMapping.getClassInstance());
+        assertThat(classMapping.getFieldsName(), containsInAnyOrder("_id", "model"));
+
+        Vehicle vehicle = classMapping.newInstance();
+        FieldMapping model = classMapping.getFieldMapping("model").get();
+        model.write(vehicle, "Beetle");
+        int reads = VehicleGeneratedClassMapping.READS.get();
+        assertEquals("Beetle", model.read(vehicle));
+        assertEquals(reads + 1, VehicleGeneratedClassMapping.READS.get());
+    }
+
     @Test
     public void shouldReturnFalseWhenThereIsNotKey() {
         ClassMapping classMapping = classConverter.create(Worker.class);
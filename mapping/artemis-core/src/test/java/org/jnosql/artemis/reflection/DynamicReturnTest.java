@@ -248,6 +248,26 @@ class DynamicReturnTest {
         Assertions.assertEquals(new Person("Ada"), persons.iterator().next());
     }
 
+    @Test
+    public void shouldReturnStreamFromStreamSupplier() {
+
+        Method method = getMethod(PersonRepository.class, "getStream");
+        Supplier<List<?>> list = () -> {
+            throw new IllegalStateException("the list should not be used");
+        };
+        Supplier<Optional<?>> singlResult = DynamicReturn.toSingleResult(method).apply(list);
+        Supplier<Stream<?>> stream = () -> Stream.of(new Person("Ada"));
+        DynamicReturn<?> dynamicReturn = DynamicReturn.builder()
+                .withClassSource(Person.class)
+                .withMethodSource(method).withList(list)
+                .withStream(stream)
+                .withSingleResult(singlResult).build();
+        Object execute = dynamicReturn.execute();
+        assertTrue(execute instanceof Stream);
+        Stream<Person> persons = (Stream) execute;
+        Assertions.assertEquals(new Person("Ada"), persons.iterator().next());
+    }
+
     @Test
     public void shouldReturnSortedSet() {
 
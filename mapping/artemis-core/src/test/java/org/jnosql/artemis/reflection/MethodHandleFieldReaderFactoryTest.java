@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Person;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+class MethodHandleFieldReaderFactoryTest {
+
+    private final Reflections reflections = new DefaultReflections();
+
+    private FieldReaderFactory fallback = new ReflectionFieldReaderFactory(reflections);
+
+    private FieldReaderFactory factory = new MethodHandleFieldReaderFactory(MethodHandles.lookup(), fallback);
+
+
+    @Test
+    public void shouldCreateFieldReader() {
+        Foo foo = new Foo();
+        foo.setBar("bar");
+        FieldReader fieldReader = factory.apply(Foo.class.getDeclaredFields()[0]);
+        Assertions.assertNotNull(fieldReader);
+        Object value = fieldReader.read(foo);
+        Assertions.assertEquals("bar", value);
+    }
+
+    @Test
+    public void shouldReadPrimitiveFromGetter() throws NoSuchFieldException {
+        Person person = Person.builder().withAge(10).build();
+        FieldReader fieldReader = factory.apply(Person.class.getDeclaredField("age"));
+        Assertions.assertEquals(10, fieldReader.read(person));
+    }
+
+    @Test
+    public void shouldReadFieldWhenThereIsNotGetter() {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredFields()[1];
+        FieldReader fieldReader = factory.apply(field);
+        Assertions.assertNotNull(fieldReader);
+        Object value = fieldReader.read(foo);
+        Assertions.assertEquals("bar2", value);
+    }
+
+    @Test
+    public void shouldReadFieldWhenGetterIsNotPublic() {
+        Foo foo = new Foo();
+        Field field = Foo.class.getDeclaredFields()[2];
+        FieldReader fieldReader = factory.apply(field);
+        Assertions.assertNotNull(fieldReader);
+        Object value = fieldReader.read(foo);
+        Assertions.assertEquals("bar3", value);
+    }
+
+}
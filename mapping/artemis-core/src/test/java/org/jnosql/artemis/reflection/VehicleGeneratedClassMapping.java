@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.model.Vehicle;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The same class the annotation processor creates to the {@link Vehicle} entity,
+ * it counts the reads and the column lookups to check the generated accessors and meta-info are used.
+ */
+public final class VehicleGeneratedClassMapping implements GeneratedClassMapping {
+
+    static final AtomicInteger READS = new AtomicInteger();
+
+    static final AtomicInteger COLUMNS = new AtomicInteger();
+
+    private final Map<String, FieldReader> readers = new HashMap<>();
+
+    private final Map<String, FieldWriter> writers = new HashMap<>();
+
+    public VehicleGeneratedClassMapping() {
+        readers.put("id", bean -> {
+            READS.incrementAndGet();
+            return ((Vehicle) bean).getId();
+        });
+        readers.put("model", bean -> {
+            READS.incrementAndGet();
+            return ((Vehicle) bean).getModel();
+        });
+        writers.put("id", (bean, value) -> ((Vehicle) bean).setId((String) value));
+        writers.put("model", (bean, value) -> ((Vehicle) bean).setModel((String) value));
+    }
+
+    @Override
+    public Class<?> getClassInstance() {
+        return Vehicle.class;
+    }
+
+    @Override
+    public String getName() {
+        return "vehicles";
+    }
+
+    @Override
+    public List<String> getFieldsName() {
+        return Arrays.asList("id", "model");
+    }
+
+    @Override
+    public Optional<InstanceSupplier> getInstanceSupplier() {
+        return Optional.of(Vehicle::new);
+    }
+
+    @Override
+    public Optional<FieldReader> getReader(String field) {
+        return Optional.ofNullable(readers.get(field));
+    }
+
+    @Override
+    public Optional<FieldWriter> getWriter(String field) {
+        return Optional.ofNullable(writers.get(field));
+    }
+
+    @Override
+    public String getColumnName(String field) {
+        COLUMNS.incrementAndGet();
+        return "id".equals(field) ? "_id" : field;
+    }
+
+    @Override
+    public boolean isId(String field) {
+        return "id".equals(field);
+    }
+
+    @Override
+    public Optional<Class<? extends AttributeConverter>> getConverter(String field) {
+        return Optional.empty();
+    }
+
+    @Override
+    public FieldType getFieldType(String field) {
+        return FieldType.DEFAULT;
+    }
+}
@@ -16,6 +16,9 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -40,6 +43,68 @@ public abstract class AbsctractDocumentWorkflow implements DocumentWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> flowBatch(Iterable<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        int maxBatchSize = getMaxBatchSize();
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            chunk.add(Objects.requireNonNull(entity, "entity is required"));
+            if (chunk.size() == maxBatchSize) {
+                result.addAll(flowChunk(chunk, action));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(flowChunk(chunk, action));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum number of entities sent to the database at once, by default it reads the
+     * {@link DocumentWorkflow#MAX_BATCH_SIZE} system property.
+     *
+     * @return the maximum batch size
+     */
+    protected int getMaxBatchSize() {
+        int maxBatchSize = Integer.getInteger(MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("The max batch size must be greater than zero: " + maxBatchSize);
+        }
+        return maxBatchSize;
+    }
+
+    private <T> List<T> flowChunk(List<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        List<DocumentEntity> sources = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            getDocumentEventPersistManager().firePreEntity(entity);
+            getDocumentEventPersistManager().firePreDocumentEntity(entity);
+            DocumentEntity source = getConverter().toDocument(entity);
+            getDocumentEventPersistManager().firePreDocument(source);
+            sources.add(source);
+        }
+
+        Iterator<DocumentEntity> results = action.apply(sources).iterator();
+        List<T> result = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            if (!results.hasNext()) {
+                throw new IllegalStateException(String.format("The database returned less entities than the %d sent",
+                        entities.size()));
+            }
+            DocumentEntity saved = results.next();
+            getDocumentEventPersistManager().firePostDocument(saved);
+            T instance = getConverter().toEntity(entity, saved);
+            getDocumentEventPersistManager().firePostEntity(instance);
+            getDocumentEventPersistManager().firePostDocumentEntity(instance);
+            result.add(instance);
+        }
+        return result;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
@@ -19,22 +19,15 @@ import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverte
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
-import org.jnosql.artemis.reflection.FieldType;
-import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
-import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
 /**
  * Template method to {@link DocumentEntityConverter}
@@ -47,19 +40,13 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final Map<Class<?>, DocumentEntityCodec> codecs = new ConcurrentHashMap<>();
+
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
-        ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        DocumentEntity entity = DocumentEntity.of(mapping.getName());
-        mapping.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toDocument(this, getConverters()))
-                .flatMap(List::stream)
-                .forEach(entity::add);
-        return entity;
+        return getCodec(entityInstance.getClass()).toDocument(entityInstance, this);
 
     }
 
@@ -75,14 +62,13 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
     public <T> T toEntity(T entityInstance, DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
         requireNonNull(entityInstance, "entityInstance is required");
-        ClassMapping mapping = getClassMappings().get(entityInstance.getClass());
-        return convertEntity(entity.getDocuments(), mapping, entityInstance);
+        return getCodec(entityInstance.getClass()).toEntity(entity.getDocuments(), entityInstance, this);
     }
 
     protected <T> T toEntity(Class<T> entityClass, List<Document> documents) {
-        ClassMapping mapping = getClassMappings().get(entityClass);
-        T instance = mapping.newInstance();
-        return convertEntity(documents, mapping, instance);
+        DocumentEntityCodec codec = getCodec(entityClass);
+        T instance = codec.newInstance();
+        return codec.toEntity(documents, instance, this);
     }
 
 
@@ -91,41 +77,42 @@ public abstract class AbstractDocumentEntityConverter implements DocumentEntityC
     public <T> T toEntity(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
         ClassMapping mapping = getClassMappings().findByName(entity.getName());
-        T instance = mapping.newInstance();
-        return convertEntity(entity.getDocuments(), mapping, instance);
+        DocumentEntityCodec codec = getCodec(mapping.getClassInstance());
+        T instance = codec.newInstance();
+        return codec.toEntity(entity.getDocuments(), instance, this);
     }
 
-    private <T> T convertEntity(List<Document> documents, ClassMapping mapping, T instance) {
-        final Map<String, FieldMapping> fieldsGroupByName = mapping.getFieldsGroupByName();
-        final List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            FieldType type = fieldsGroupByName.get(k).getType();
-            return EMBEDDED.equals(type) || SUBENTITY.equals(type);
-        };
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
-
-        return instance;
+    /**
+     * @deprecated the fields are written through the per-class codec, see {@link #toDocument(Object)}
+     */
+    @Deprecated
+    protected DocumentFieldValue to(FieldMapping field, Object entityInstance) {
+        Object value = field.read(entityInstance);
+        return DefaultDocumentFieldValue.of(value, field);
     }
 
+    /**
+     * @deprecated the fields are read through the per-class codec, see {@link #toEntity(Class, List)}
+     */
+    @Deprecated
     protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldMapping> fieldsGroupByName) {
         return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
+            Document document = documents.stream().filter(c -> c.getName().equals(k)).findFirst().orElse(null);
 
             FieldMapping field = fieldsGroupByName.get(k);
-            DocumentFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, documents, document, field, this);
+            DocumentFieldConverter fieldConverter = converterFactory.get(field, getConverters());
+            fieldConverter.toEntity(instance, documents, document, this);
         };
     }
 
-
-    private DocumentFieldValue to(FieldMapping field, Object entityInstance) {
-        Object value = field.read(entityInstance);
-        return DefaultDocumentFieldValue.of(value, field);
+    private DocumentEntityCodec getCodec(Class<?> entityClass) {
+        DocumentEntityCodec codec = codecs.get(entityClass);
+        if (codec == null) {
+            ClassMapping mapping = getClassMappings().get(entityClass);
+            codec = codecs.computeIfAbsent(entityClass,
+                    c -> DocumentEntityCodec.of(mapping, converterFactory, getConverters()));
+        }
+        return codec;
     }
 
-
 }
@@ -16,6 +16,7 @@ package org.jnosql.artemis.document;
 
 
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.PreparedStatement;
@@ -38,6 +39,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -99,6 +101,25 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         return getWorkflow().flow(entity, update);
     }
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return getWorkflow().flowBatch(entities, e -> getManager().insert(e));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return getWorkflow().flowBatch(entities, e -> getManager().insert(e, ttl));
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return getWorkflow().flowBatch(entities, e -> getManager().update(e));
+    }
+
 
     @Override
     public void delete(DocumentDeleteQuery query) {
@@ -112,10 +133,27 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         return executeQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        getPersistManager().firePreQuery(query);
+        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        return getManager().stream(query).map(function);
+    }
+
     @Override
     public <T> Page<T> select(DocumentQueryPagination query) {
-        List<T> entities = executeQuery(query);
-        return new DocumentPage<>(this, entities, query);
+        requireNonNull(query, "query is required");
+        getPersistManager().firePreQuery(query);
+        List<DocumentEntity> entities = getManager().select(query);
+        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
+        List<T> result = entities.stream().map(function).collect(toList());
+        if (query.getPagination() instanceof CursoredPagination) {
+            List<Object> cursor = entities.isEmpty() ? ((CursoredPagination) query.getPagination()).getCursor() :
+                    DocumentKeyset.cursor(query.getSorts(), entities.get(entities.size() - 1));
+            return new DocumentPage<>(this, result, query, query.next(cursor));
+        }
+        return new DocumentPage<>(this, result, query);
     }
 
     @Override
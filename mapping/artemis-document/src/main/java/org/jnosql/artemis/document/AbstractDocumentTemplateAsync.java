@@ -22,6 +22,7 @@ import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.util.ConverterUtil;
+import org.jnosql.diana.api.CompletionStages;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
@@ -29,11 +30,15 @@ import org.jnosql.diana.api.document.DocumentObserverParser;
 import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.DocumentQueryParserAsync;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
+import org.jnosql.diana.api.flow.Publisher;
+import org.jnosql.diana.api.flow.Publishers;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
@@ -51,6 +56,8 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     private static final DocumentQueryParserAsync PARSER = DocumentQueryParserAsync.getParser();
 
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     protected abstract DocumentEntityConverter getConverter();
 
     protected abstract DocumentCollectionManagerAsync getManager();
@@ -59,6 +66,16 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     protected abstract Converters getConverters();
 
+    /**
+     * The {@link Executor} where the {@link CompletionStage} operations convert the result to entities,
+     * by default the conversion runs on the thread that completes the database operation.
+     *
+     * @return the {@link Executor} to the entity conversion
+     */
+    protected Executor getExecutor() {
+        return DIRECT_EXECUTOR;
+    }
+
     private DocumentObserverParser observer;
 
 
@@ -145,14 +162,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(id, "id is required");
         requireNonNull(callBack, "callBack is required");
 
-        ClassMapping classMapping = getClassMappings().get(entityClass);
-        FieldMapping idField = classMapping.getId()
-                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
-
-        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
-        DocumentQuery query = DocumentQueryBuilder.select().from(classMapping.getName())
-                .where(idField.getName()).eq(value).build();
-
+        DocumentQuery query = getSelectQuery(entityClass, id);
         singleResult(query, callBack);
     }
 
@@ -224,6 +234,94 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         getManager().count(classMapping.getName(), callback);
     }
 
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().insertAsync(getConverter().toDocument(entity))
+                .thenApplyAsync(c -> (T) getConverter().toEntity(entity.getClass(), c), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return getManager().insertAsync(getConverter().toDocument(entity), ttl)
+                .thenApplyAsync(c -> (T) getConverter().toEntity(entity.getClass(), c), getExecutor());
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return getManager().updateAsync(getConverter().toDocument(entity))
+                .thenApplyAsync(c -> (T) getConverter().toEntity(entity.getClass(), c), getExecutor());
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(DocumentDeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().deleteAsync(query);
+    }
+
+    @Override
+    public <T, K> CompletionStage<Void> deleteAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return getManager().deleteAsync(getDeleteQuery(entityClass, id));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> selectAsync(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return getManager().selectAsync(query).thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public <T> Publisher<T> selectPublisher(DocumentQuery query) {
+        requireNonNull(query, "query is required");
+        return Publishers.map(getManager().selectPublisher(query), c -> (T) getConverter().toEntity(c));
+    }
+
+    @Override
+    public <T, K> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, K id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return singleResultAsync(getSelectQuery(entityClass, id));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> queryAsync(String query) {
+        requireNonNull(query, "query is required");
+        return CompletionStages.<List<DocumentEntity>>of(c -> PARSER.query(query, getManager(), c, getObserver()))
+                .thenApplyAsync(this::toEntities, getExecutor());
+    }
+
+    @Override
+    public CompletionStage<Long> countAsync(String documentCollection) {
+        requireNonNull(documentCollection, "documentCollection is required");
+        return getManager().countAsync(documentCollection);
+    }
+
+    @Override
+    public <T> CompletionStage<Long> countAsync(Class<T> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        ClassMapping classMapping = getClassMappings().get(entityClass);
+        return getManager().countAsync(classMapping.getName());
+    }
+
+    private <T> List<T> toEntities(List<DocumentEntity> entities) {
+        return entities.stream().map(c -> (T) getConverter().toEntity(c)).collect(toList());
+    }
+
+    private <T, K> DocumentQuery getSelectQuery(Class<T> entityClass, K id) {
+        ClassMapping classMapping = getClassMappings().get(entityClass);
+        FieldMapping idField = classMapping.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Object value = ConverterUtil.getValue(id, classMapping, idField.getFieldName(), getConverters());
+        return DocumentQueryBuilder.select().from(classMapping.getName())
+                .where(idField.getName()).eq(value).build();
+    }
+
     private <T, K> DocumentDeleteQuery getDeleteQuery(Class<T> entityClass, K id) {
         ClassMapping classMapping = getClassMappings().get(entityClass);
         FieldMapping idField = classMapping.getId()
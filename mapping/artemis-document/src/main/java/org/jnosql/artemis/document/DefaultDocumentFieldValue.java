@@ -16,11 +16,13 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.document.DocumentFieldConverters.DocumentFieldConverterFactory;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.FieldType;
 import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,8 +33,11 @@ import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 import static org.jnosql.artemis.reflection.FieldType.SUBENTITY;
 
+@Deprecated
 final class DefaultDocumentFieldValue implements DocumentFieldValue {
 
+    private static final DocumentFieldConverterFactory FACTORY = new DocumentFieldConverterFactory();
+
     private final FieldValue fieldValue;
 
     private DefaultDocumentFieldValue(FieldValue fieldValue) {
@@ -51,6 +56,11 @@ final class DefaultDocumentFieldValue implements DocumentFieldValue {
 
 
     public List<Document> toDocument(DocumentEntityConverter converter, Converters converters) {
+        if (converter instanceof AbstractDocumentEntityConverter) {
+            DocumentEntity entity = DocumentEntity.of(getName());
+            FACTORY.get(getField(), converters).toDocument(getValue(), entity, (AbstractDocumentEntityConverter) converter);
+            return entity.getDocuments();
+        }
         if (EMBEDDED.equals(getType())) {
             return converter.toDocument(getValue()).getDocuments();
         }  else if (SUBENTITY.equals(getType())) {
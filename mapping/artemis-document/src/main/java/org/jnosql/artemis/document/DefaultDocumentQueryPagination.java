@@ -16,6 +16,7 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.document.DocumentCondition;
@@ -31,9 +32,12 @@ final class DefaultDocumentQueryPagination implements DocumentQueryPagination {
 
     private final Pagination pagination;
 
+    private final DocumentCondition condition;
+
     DefaultDocumentQueryPagination(DocumentQuery query, Pagination pagination) {
         this.query = query;
         this.pagination = pagination;
+        this.condition = getCondition(query, pagination);
     }
 
     @Override
@@ -53,7 +57,7 @@ final class DefaultDocumentQueryPagination implements DocumentQueryPagination {
 
     @Override
     public Optional<DocumentCondition> getCondition() {
-        return query.getCondition();
+        return Optional.ofNullable(condition);
     }
 
     @Override
@@ -68,14 +72,40 @@ final class DefaultDocumentQueryPagination implements DocumentQueryPagination {
 
     @Override
     public DocumentQueryPagination next() {
+        if (pagination instanceof CursoredPagination) {
+            throw new IllegalArgumentException("The keyset pagination requires the cursor of the last element " +
+                    "of the current page, use the next method with the cursor instead");
+        }
         return new DefaultDocumentQueryPagination(query, pagination.next());
     }
 
+    @Override
+    public DocumentQueryPagination next(List<Object> cursor) {
+        Objects.requireNonNull(cursor, "cursor is required");
+        if (pagination instanceof CursoredPagination) {
+            return new DefaultDocumentQueryPagination(query, ((CursoredPagination) pagination).next(cursor));
+        }
+        throw new UnsupportedOperationException("The next page from a cursor requires the keyset pagination");
+    }
+
     @Override
     public Pagination getPagination() {
         return pagination.unmodifiable();
     }
 
+    private static DocumentCondition getCondition(DocumentQuery query, Pagination pagination) {
+        DocumentCondition condition = query.getCondition().orElse(null);
+        if (!(pagination instanceof CursoredPagination)) {
+            return condition;
+        }
+        List<Object> cursor = ((CursoredPagination) pagination).getCursor();
+        if (cursor.isEmpty()) {
+            return condition;
+        }
+        DocumentCondition seek = DocumentKeyset.condition(query.getSorts(), cursor);
+        return condition == null ? seek : DocumentCondition.and(condition, seek);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -23,6 +23,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link DocumentTemplateAsyncProducer}
@@ -31,6 +32,8 @@ import java.util.Objects;
 class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProducer {
 
 
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     @Inject
     private DocumentEntityConverter converter;
 
@@ -42,8 +45,14 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
 
     @Override
     public DocumentTemplateAsync get(DocumentCollectionManagerAsync collectionManager) {
+        return get(collectionManager, DIRECT_EXECUTOR);
+    }
+
+    @Override
+    public DocumentTemplateAsync get(DocumentCollectionManagerAsync collectionManager, Executor executor) {
         Objects.requireNonNull(collectionManager, "collectionManager is required");
-        return new ProducerAbstractDocumentTemplateAsync(converter, collectionManager, classMappings, converters);
+        Objects.requireNonNull(executor, "executor is required");
+        return new ProducerAbstractDocumentTemplateAsync(converter, collectionManager, classMappings, converters, executor);
     }
 
     @Vetoed
@@ -57,14 +66,17 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
 
         private Converters converters;
 
+        private Executor executor;
+
         ProducerAbstractDocumentTemplateAsync(DocumentEntityConverter converter,
                                               DocumentCollectionManagerAsync manager,
                                               ClassMappings classMappings,
-                                              Converters converters) {
+                                              Converters converters, Executor executor) {
             this.converter = converter;
             this.manager = manager;
             this.classMappings = classMappings;
             this.converters = converters;
+            this.executor = executor;
         }
 
         ProducerAbstractDocumentTemplateAsync() {
@@ -89,5 +101,10 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
         protected Converters getConverters() {
             return converters;
         }
+
+        @Override
+        protected Executor getExecutor() {
+            return executor;
+        }
     }
 }
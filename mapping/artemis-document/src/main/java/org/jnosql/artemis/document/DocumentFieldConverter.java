@@ -14,14 +14,34 @@
  */
 package org.jnosql.artemis.document;
 
-import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
 
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * The conversion of a single field, already bound to its {@link org.jnosql.artemis.reflection.FieldMapping}.
+ */
 interface DocumentFieldConverter {
 
-    <T> void convert(T instance, List<Document> documents, Optional<Document> document, FieldMapping field,
-                     AbstractDocumentEntityConverter converter);
+    /**
+     * Writes the field into the entity instance
+     *
+     * @param instance  the entity instance
+     * @param documents all the documents of the entity
+     * @param document  the document with the field name, null when there is not one
+     * @param converter the converter
+     * @param <T>       the entity type
+     */
+    <T> void toEntity(T instance, List<Document> documents, Document document,
+                      AbstractDocumentEntityConverter converter);
+
+    /**
+     * Adds the field value to the entity as documents
+     *
+     * @param value     the field value, not null
+     * @param entity    the entity
+     * @param converter the converter
+     */
+    void toDocument(Object value, DocumentEntity entity, AbstractDocumentEntityConverter converter);
 }
@@ -15,20 +15,20 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.artemis.reflection.GenericFieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
 
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
@@ -38,21 +38,19 @@ class DocumentFieldConverters {
 
     static class DocumentFieldConverterFactory {
 
-        private final EmbeddedFieldConverter embeddedFieldConverter = new EmbeddedFieldConverter();
-        private final DefaultConverter defaultConverter = new DefaultConverter();
-        private final CollectionEmbeddableConverter embeddableConverter = new CollectionEmbeddableConverter();
-        private final SubEntityConverter subEntityConverter = new SubEntityConverter();
-
-        DocumentFieldConverter get(FieldMapping field) {
+        DocumentFieldConverter get(FieldMapping field, Converters converters) {
             if (EMBEDDED.equals(field.getType())) {
-                return embeddedFieldConverter;
+                return new EmbeddedFieldConverter(field);
             } else if (SUBENTITY.equals(field.getType())) {
-                return subEntityConverter;
+                return new SubEntityConverter(field);
             } else if (isCollectionEmbeddable(field)) {
-                return embeddableConverter;
-            } else {
-                return defaultConverter;
+                return new CollectionEmbeddableConverter((GenericFieldMapping) field);
             }
+            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
+            if (optionalConverter.isPresent()) {
+                return new AttributeFieldConverter(field, converters.get(optionalConverter.get()));
+            }
+            return new DefaultConverter(field);
         }
 
         private boolean isCollectionEmbeddable(FieldMapping field) {
@@ -62,13 +60,21 @@ class DocumentFieldConverters {
 
     private static class SubEntityConverter implements DocumentFieldConverter {
 
+        private final FieldMapping field;
+
+        private final Class<?> type;
+
+        SubEntityConverter(FieldMapping field) {
+            this.field = field;
+            this.type = field.getNativeField().getType();
+        }
+
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldMapping field, AbstractDocumentEntityConverter converter) {
+        public <T> void toEntity(T instance, List<Document> documents, Document document,
+                                 AbstractDocumentEntityConverter converter) {
 
-            if (document.isPresent()) {
-                Document sudDocument = document.get();
-                Object value = sudDocument.get();
+            if (document != null) {
+                Object value = document.get();
                 if (value instanceof Map) {
                     Map map = (Map) value;
                     List<Document> embeddedDocument = new ArrayList<>();
@@ -76,73 +82,126 @@ class DocumentFieldConverters {
                     for (Map.Entry entry : (Set<Map.Entry>) map.entrySet()) {
                         embeddedDocument.add(Document.of(entry.getKey().toString(), entry.getValue()));
                     }
-                    field.write(instance, converter.toEntity(field.getNativeField().getType(), embeddedDocument));
+                    field.write(instance, converter.toEntity(type, embeddedDocument));
 
                 } else {
-                    field.write(instance, converter.toEntity(field.getNativeField().getType(),
-                            sudDocument.get(new TypeReference<List<Document>>() {
+                    field.write(instance, converter.toEntity(type,
+                            document.get(new TypeReference<List<Document>>() {
                             })));
                 }
 
             } else {
-                field.write(instance, converter.toEntity(field.getNativeField().getType(), documents));
+                field.write(instance, converter.toEntity(type, documents));
             }
         }
+
+        @Override
+        public void toDocument(Object value, DocumentEntity entity, AbstractDocumentEntityConverter converter) {
+            entity.add(Document.of(field.getName(), converter.toDocument(value).getDocuments()));
+        }
     }
 
     private static class EmbeddedFieldConverter implements DocumentFieldConverter {
 
+        private final FieldMapping field;
 
-        @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldMapping field, AbstractDocumentEntityConverter converter) {
+        private final Class<?> type;
 
-            Field nativeField = field.getNativeField();
-            Object subEntity = converter.toEntity(nativeField.getType(), documents);
-            field.write(instance, subEntity);
+        EmbeddedFieldConverter(FieldMapping field) {
+            this.field = field;
+            this.type = field.getNativeField().getType();
+        }
 
+        @Override
+        public <T> void toEntity(T instance, List<Document> documents, Document document,
+                                 AbstractDocumentEntityConverter converter) {
+            field.write(instance, converter.toEntity(type, documents));
+        }
+
+        @Override
+        public void toDocument(Object value, DocumentEntity entity, AbstractDocumentEntityConverter converter) {
+            converter.toDocument(value).getDocuments().forEach(entity::add);
         }
     }
 
     private static class DefaultConverter implements DocumentFieldConverter {
 
+        private final FieldMapping field;
+
+        DefaultConverter(FieldMapping field) {
+            this.field = field;
+        }
+
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldMapping field, AbstractDocumentEntityConverter converter) {
-            Value value = document.get().getValue();
+        public <T> void toEntity(T instance, List<Document> documents, Document document,
+                                 AbstractDocumentEntityConverter converter) {
+            field.write(instance, field.getValue(document.getValue()));
+        }
 
-            Optional<Class<? extends AttributeConverter>> optionalConverter = field.getConverter();
-            if (optionalConverter.isPresent()) {
-                AttributeConverter attributeConverter = converter.getConverters().get(optionalConverter.get());
-                Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                field.write(instance, field.getValue(Value.of(attributeConverted)));
-            } else {
-                field.write(instance, field.getValue(value));
-            }
+        @Override
+        public void toDocument(Object value, DocumentEntity entity, AbstractDocumentEntityConverter converter) {
+            entity.add(Document.of(field.getName(), value));
         }
     }
 
-    private static class CollectionEmbeddableConverter implements DocumentFieldConverter {
+    private static class AttributeFieldConverter implements DocumentFieldConverter {
+
+        private final FieldMapping field;
+
+        private final AttributeConverter attributeConverter;
+
+        AttributeFieldConverter(FieldMapping field, AttributeConverter attributeConverter) {
+            this.field = field;
+            this.attributeConverter = attributeConverter;
+        }
 
         @Override
-        public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
-                                FieldMapping field, AbstractDocumentEntityConverter converter) {
-            document.ifPresent(convertDocument(instance, field, converter));
-        }
-
-        private <T> Consumer<Document> convertDocument(T instance, FieldMapping field, AbstractDocumentEntityConverter converter) {
-            return document -> {
-                GenericFieldMapping genericField = (GenericFieldMapping) field;
-                Collection collection = genericField.getCollectionInstance();
-                List<List<Document>> embeddable = (List<List<Document>>) document.get();
-                for (List<Document> documentList : embeddable) {
-                    Object element = converter.toEntity(genericField.getElementType(), documentList);
-                    collection.add(element);
-                }
-                field.write(instance, collection);
-            };
+        public <T> void toEntity(T instance, List<Document> documents, Document document,
+                                 AbstractDocumentEntityConverter converter) {
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(document.get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
+        }
+
+        @Override
+        public void toDocument(Object value, DocumentEntity entity, AbstractDocumentEntityConverter converter) {
+            entity.add(Document.of(field.getName(), attributeConverter.convertToDatabaseColumn(value)));
         }
     }
 
+    private static class CollectionEmbeddableConverter implements DocumentFieldConverter {
+
+        private final GenericFieldMapping field;
+
+        private final Class<?> elementType;
+
+        CollectionEmbeddableConverter(GenericFieldMapping field) {
+            this.field = field;
+            this.elementType = field.getElementType();
+        }
+
+        @Override
+        public <T> void toEntity(T instance, List<Document> documents, Document document,
+                                 AbstractDocumentEntityConverter converter) {
+            if (document == null) {
+                return;
+            }
+            Collection collection = field.getCollectionInstance();
+            List<List<Document>> embeddable = (List<List<Document>>) document.get();
+            for (List<Document> documentList : embeddable) {
+                Object element = converter.toEntity(elementType, documentList);
+                collection.add(element);
+            }
+            field.write(instance, collection);
+        }
+
+        @Override
+        public void toDocument(Object value, DocumentEntity entity, AbstractDocumentEntityConverter converter) {
+            List<List<Document>> documents = new ArrayList<>();
+            for (Object element : (Iterable) value) {
+                documents.add(converter.toDocument(element).getDocuments());
+            }
+            entity.add(Document.of(field.getName(), documents));
+        }
+    }
 
 }
@@ -22,7 +22,11 @@ import java.util.List;
 
 /**
  * The specialist {@link FieldValue} to document
+ *
+ * @deprecated the {@link AbstractDocumentEntityConverter} writes the fields through its per-class codec,
+ * this type is only kept for subclasses that still call {@link AbstractDocumentEntityConverter#to(org.jnosql.artemis.reflection.FieldMapping, Object)}
  */
+@Deprecated
 public interface DocumentFieldValue extends FieldValue {
 
     List<Document> toDocument(DocumentEntityConverter converter, Converters converters);
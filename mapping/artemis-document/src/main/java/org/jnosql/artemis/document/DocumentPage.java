@@ -37,11 +37,19 @@ final class DocumentPage<T> implements Page<T> {
 
     private final DocumentQueryPagination query;
 
+    private final DocumentQueryPagination next;
+
 
     DocumentPage(DocumentTemplate template, List<T> entities, DocumentQueryPagination query) {
+        this(template, entities, query, null);
+    }
+
+    DocumentPage(DocumentTemplate template, List<T> entities, DocumentQueryPagination query,
+                 DocumentQueryPagination next) {
         this.template = template;
         this.entities = entities;
         this.query = query;
+        this.next = next;
     }
 
     @Override
@@ -51,7 +59,10 @@ final class DocumentPage<T> implements Page<T> {
 
     @Override
     public Page<T> next() {
-        return template.select(query.next());
+        if (next == null) {
+            return template.select(query.next());
+        }
+        return template.select(next);
     }
 
     @Override
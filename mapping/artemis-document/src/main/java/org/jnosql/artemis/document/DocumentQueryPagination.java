@@ -16,10 +16,12 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.diana.api.document.DocumentQuery;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -31,9 +33,22 @@ public interface DocumentQueryPagination extends DocumentQuery {
      * Returns the {@link DocumentQueryPagination} requesting the next {@link DocumentQueryPagination}.
      *
      * @return the next {@link DocumentQueryPagination}
+     * @throws IllegalArgumentException when the pagination is a {@link CursoredPagination},
+     *                                  its next page requires the {@link DocumentQueryPagination#next(List)}
      */
     DocumentQueryPagination next();
 
+    /**
+     * Returns the {@link DocumentQueryPagination} requesting the page after the element with the given sort values,
+     * it is the next step of the keyset pagination.
+     *
+     * @param cursor the sort values of the last element of the current page
+     * @return the next {@link DocumentQueryPagination}
+     * @throws NullPointerException          when cursor is null
+     * @throws UnsupportedOperationException when the pagination is not a {@link CursoredPagination}
+     */
+    DocumentQueryPagination next(List<Object> cursor);
+
     /**
      * Returns the {@link Pagination} of the current {@link Page}
      *
@@ -48,11 +63,16 @@ public interface DocumentQueryPagination extends DocumentQuery {
      * @param query      the query
      * @param pagination the pagination
      * @return a {@link DocumentQueryPagination} instance
-     * @throws NullPointerException when there is null parameter
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the pagination is a {@link CursoredPagination} and the query does
+     *                                  not have sort
      */
     static DocumentQueryPagination of(DocumentQuery query, Pagination pagination) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(pagination, "pagination is required");
+        if (pagination instanceof CursoredPagination && query.getSorts().isEmpty()) {
+            throw new IllegalArgumentException("The keyset pagination requires at least one sort at the query");
+        }
         return new DefaultDocumentQueryPagination(query, pagination);
     }
 }
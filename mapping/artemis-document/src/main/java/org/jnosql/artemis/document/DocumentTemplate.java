@@ -25,6 +25,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -132,6 +133,17 @@ public interface DocumentTemplate {
      */
     <T> List<T> select(DocumentQuery query);
 
+    /**
+     * Finds entities from query as a {@link Stream}, the entities are converted lazily while the stream
+     * is consumed, so the whole result does not need to be in memory.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    <T> Stream<T> stream(DocumentQuery query);
+
     /**
      * Finds entities from query using pagination
      *
@@ -17,6 +17,8 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
+import java.util.concurrent.Executor;
+
 
 /**
  * The producer of {@link DocumentTemplateAsync}
@@ -33,4 +35,16 @@ public interface DocumentTemplateAsyncProducer {
      */
     <T extends DocumentTemplateAsync> T get(DocumentCollectionManagerAsync collectionManager);
 
+    /**
+     * creates a {@link DocumentTemplateAsync} whose {@link java.util.concurrent.CompletionStage} operations convert
+     * the entities on the given {@link Executor}
+     *
+     * @param <T>      the DocumentTemplateAsync instance
+     * @param collectionManager the collectionManager
+     * @param executor the executor to the entity conversion
+     * @return a new instance
+     * @throws NullPointerException when either collectionManager or executor are null
+     */
+    <T extends DocumentTemplateAsync> T get(DocumentCollectionManagerAsync collectionManager, Executor executor);
+
 }
@@ -17,6 +17,8 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 /**
@@ -33,6 +35,17 @@ import java.util.function.UnaryOperator;
  */
 public interface DocumentWorkflow {
 
+    /**
+     * The system property that defines the maximum number of entities sent to the database at once
+     * by {@link DocumentWorkflow#flowBatch(Iterable, Function)}
+     */
+    String MAX_BATCH_SIZE = "artemis.batch.maxSize";
+
+    /**
+     * The default maximum number of entities sent to the database at once
+     */
+    int DEFAULT_MAX_BATCH_SIZE = 1_000;
+
     /**
      * Executes the workflow to do an interaction on a database document collection.
      *
@@ -44,4 +57,19 @@ public interface DocumentWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<DocumentEntity> action);
+
+    /**
+     * Executes the workflow to a group of entities. The events are fired to each entity, however, the entities
+     * are split into chunks of at most {@link DocumentWorkflow#MAX_BATCH_SIZE} and the alteration is executed once
+     * per chunk. The action must return the entities in the same order that it received them.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database
+     * @param <T>      the entity type
+     * @return after the workflow the the entities response
+     * @throws NullPointerException when there is null parameter
+     * @see DocumentTemplate#insert(Iterable) DocumentTemplate#insert(Iterable, java.time.Duration)
+     * DocumentTemplate#update(Iterable)
+     */
+    <T> List<T> flowBatch(Iterable<T> entities, Function<List<DocumentEntity>, Iterable<DocumentEntity>> action);
 }
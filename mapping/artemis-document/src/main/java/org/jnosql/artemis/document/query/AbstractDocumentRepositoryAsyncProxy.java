@@ -22,13 +22,15 @@ import org.jnosql.artemis.query.RepositoryType;
 import org.jnosql.artemis.reflection.DynamicAsyncQueryMethodReturn;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.flow.Publisher;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.function.Consumer;
 
 /**
- * The template method to {@link org.jnosql.artemis.RepositoryAsync} to Document
+ * The template method to {@link org.jnosql.artemis.RepositoryAsync} to Document, the find by methods
+ * either take a callback as last parameter or return a {@link Publisher}
  *
  * @param <T> the class type
  */
@@ -50,6 +52,9 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> extends BaseDocume
                 return method.invoke(getRepository(), args);
             case FIND_BY:
                 DocumentQuery query = getQuery(method, args);
+                if (Publisher.class.equals(method.getReturnType())) {
+                    return getTemplate().selectPublisher(query);
+                }
                 return executeQuery(getCallBack(args), query);
             case DELETE_BY:
                 DocumentDeleteQuery deleteQuery = getDeleteQuery(method, args);
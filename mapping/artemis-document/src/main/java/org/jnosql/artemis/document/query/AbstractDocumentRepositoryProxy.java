@@ -31,6 +31,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 
@@ -86,9 +87,11 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
                 .withClassSource(typeClass)
                 .withMethodSource(method)
                 .withList(() -> getTemplate().select(query))
+                .withStream(() -> getTemplate().stream(query))
                 .withSingleResult(() -> getTemplate().singleResult(query))
                 .withPagination(DynamicReturn.findPagination(args))
                 .withListPagination(listPagination(query))
+                .withStreamPagination(streamPagination(query))
                 .withSingleResultPagination(getSingleResult(query))
                 .withPage(getPage(query))
                 .build();
@@ -112,4 +115,11 @@ public abstract class AbstractDocumentRepositoryProxy<T> extends BaseDocumentRep
             return getTemplate().select(queryPagination);
         };
     }
+
+    private Function<Pagination, Stream<T>> streamPagination(DocumentQuery query) {
+        return p -> {
+            DocumentQuery queryPagination = DocumentQueryPagination.of(query, p);
+            return getTemplate().stream(queryPagination);
+        };
+    }
 }
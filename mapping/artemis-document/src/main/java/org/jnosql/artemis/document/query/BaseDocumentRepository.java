@@ -50,8 +50,7 @@ abstract class BaseDocumentRepository {
 
 
     protected DocumentQuery getQuery(Method method, Object[] args) {
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery selectQuery = selectMethodFactory.apply(method, getClassMapping().getName());
+        SelectQuery selectQuery = getSelectQuery(method);
         SelectQueryConverter converter = SelectQueryConverter.get();
         DocumentQueryParams queryParams = converter.apply(selectQuery, getParser());
         DocumentQuery query = queryParams.getQuery();
@@ -73,8 +72,7 @@ abstract class BaseDocumentRepository {
     }
 
     protected DocumentDeleteQuery getDeleteQuery(Method method, Object[] args) {
-        DeleteMethodFactory deleteMethodFactory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = deleteMethodFactory.apply(method, getClassMapping().getName());
+        DeleteQuery deleteQuery = getDeleteQuery(method);
         DeleteQueryConverter converter = DeleteQueryConverter.get();
         DocumentDeleteQueryParams queryParams = converter.apply(deleteQuery, getParser());
         DocumentDeleteQuery query = queryParams.getQuery();
@@ -84,6 +82,28 @@ abstract class BaseDocumentRepository {
     }
 
 
+    /**
+     * Returns the {@link SelectQuery} from the method name; the {@link SelectMethodFactory}
+     * parses each method name once and reuses the result in the next calls.
+     *
+     * @param method the repository method
+     * @return the {@link SelectQuery} from the method
+     */
+    protected SelectQuery getSelectQuery(Method method) {
+        return SelectMethodFactory.get().apply(method, getClassMapping().getName());
+    }
+
+    /**
+     * Returns the {@link DeleteQuery} from the method name; the {@link DeleteMethodFactory}
+     * parses each method name once and reuses the result in the next calls.
+     *
+     * @param method the repository method
+     * @return the {@link DeleteQuery} from the method
+     */
+    protected DeleteQuery getDeleteQuery(Method method) {
+        return DeleteMethodFactory.get().apply(method, getClassMapping().getName());
+    }
+
     protected DocumentObserverParser getParser() {
         if (parser == null) {
             this.parser = new RepositoryDocumentObserverParser(getClassMapping());
@@ -15,6 +15,8 @@
 package org.jnosql.artemis.document.spi;
 
 
+import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
+import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.ConfigurationUnit;
 import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
@@ -22,6 +24,7 @@ import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.RepositoryAsync;
 import org.jnosql.artemis.document.query.RepositoryAsyncDocumentBean;
 import org.jnosql.artemis.document.query.RepositoryDocumentBean;
+import org.jnosql.artemis.query.RepositoryQueryCompiler;
 import org.jnosql.artemis.util.ConfigurationUnitUtils;
 import org.jnosql.artemis.util.RepositoryUnit;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
@@ -29,6 +32,7 @@ import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.InjectionPoint;
@@ -167,4 +171,14 @@ public class DocumentCollectionProducerExtension implements Extension {
 
     }
 
+    void onAfterDeploymentValidation(@Observes final AfterDeploymentValidation validation,
+                                     final BeanManager beanManager) {
+        LOGGER.info(String.format("Compiling the repositories queries on documents: crud %d and crudAsync %d",
+                crudTypes.size(), crudAsyncTypes.size()));
+        RepositoryQueryCompiler compiler = new RepositoryQueryCompiler(SelectMethodFactory.get(),
+                DeleteMethodFactory.get(), RepositoryQueryCompiler::parse);
+        compiler.compile(crudTypes, beanManager, validation);
+        compiler.compile(crudAsyncTypes, beanManager, validation);
+    }
+
 }
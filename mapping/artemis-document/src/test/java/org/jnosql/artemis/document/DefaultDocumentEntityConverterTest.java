@@ -29,6 +29,8 @@ import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Vendor;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.model.Zipcode;
+import org.jnosql.artemis.reflection.ClassMapping;
+import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
@@ -56,6 +58,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -427,6 +430,52 @@ public class DefaultDocumentEntityConverterTest {
         Assertions.assertEquals(contents, entity.find("contents").get().get());
     }
 
+    @Test
+    public void shouldIgnoreDocumentsNotMapped() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("_id", 12L));
+        entity.add(Document.of("name", "Otavio"));
+        entity.add(Document.of("nickname", "otaviojava"));
+        entity.add(Document.of("age", 10));
+
+        Person person = converter.toEntity(entity);
+        assertEquals(12L, person.getId());
+        assertEquals("Otavio", person.getName());
+        assertEquals(10, person.getAge());
+        assertNull(person.getPhones());
+    }
+
+    @Test
+    public void shouldUseTheFirstDocumentWhenTheNameIsRepeated() {
+        List<Document> documents = Arrays.asList(Document.of("_id", 12L), Document.of("name", "Otavio"),
+                Document.of("name", "Poliana"));
+
+        Person person = converter.toEntity(Person.class, documents);
+        assertEquals("Otavio", person.getName());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void shouldKeepTheDeprecatedFieldValue() {
+        Worker worker = new Worker();
+        Job job = new Job();
+        job.setCity("Sao Paulo");
+        job.setDescription("Java Developer");
+        worker.setName("Bob");
+        worker.setSalary(new Money("BRL", BigDecimal.TEN));
+        worker.setJob(job);
+
+        ClassMapping mapping = converter.getClassMappings().get(Worker.class);
+        List<Document> documents = new ArrayList<>();
+        for (FieldMapping field : mapping.getFields()) {
+            DocumentFieldValue value = converter.to(field, worker);
+            documents.addAll(value.toDocument(converter, converter.getConverters()));
+        }
+
+        DocumentEntity entity = converter.toDocument(worker);
+        assertThat(documents, containsInAnyOrder(entity.getDocuments().toArray()));
+    }
+
     private Object getValue(Optional<Document> document) {
         return document.map(Document::getValue).map(Value::get).orElse(null);
     }
@@ -16,14 +16,22 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Pagination;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentQuery;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DefaultDocumentQueryPaginationTest {
 
@@ -84,6 +92,48 @@ class DefaultDocumentQueryPaginationTest {
     }
 
 
+    @Test
+    public void shouldReturnErrorWhenKeysetPaginationHasNoSort() {
+        assertThrows(IllegalArgumentException.class, () ->
+                DocumentQueryPagination.of(select().from("column").build(), Pagination.cursor(2)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNextFromCursorIsNotKeyset() {
+        DocumentQueryPagination queryPagination = DocumentQueryPagination.of(select().from("column").build(),
+                Pagination.page(1).size(2));
+        assertThrows(UnsupportedOperationException.class, () -> queryPagination.next(Collections.singletonList(1)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenNextHasNoCursor() {
+        DocumentQueryPagination queryPagination = DocumentQueryPagination.of(select().from("column").orderBy("_id").asc()
+                .build(), Pagination.cursor(2));
+        assertThrows(IllegalArgumentException.class, queryPagination::next);
+        assertThrows(IllegalArgumentException.class, () -> queryPagination.next(Collections.singletonList(null)));
+    }
+
+    @Test
+    public void shouldNextFromCursor() {
+        DocumentQuery query = select().from("column").where("name").eq("Ada")
+                .orderBy("age").desc().orderBy("_id").asc().build();
+        CursoredPagination pagination = Pagination.cursor(2);
+        DocumentQueryPagination queryPagination = DocumentQueryPagination.of(query, pagination);
+        isQueryEquals(query, pagination, queryPagination);
+
+        DocumentQueryPagination next = queryPagination.next(Arrays.asList(20, 10L));
+        assertEquals(pagination.next(Arrays.asList(20, 10L)), next.getPagination());
+        assertEquals(0L, next.getSkip());
+        assertEquals(2L, next.getLimit());
+
+        DocumentCondition seek = DocumentCondition.or(DocumentCondition.lt(Document.of("age", 20)),
+                DocumentCondition.and(DocumentCondition.eq(Document.of("age", 20)), DocumentCondition.gt(Document.of("_id", 10L))));
+        DocumentCondition condition = next.getCondition().get();
+        assertEquals(Condition.AND, condition.getCondition());
+        assertEquals(DocumentCondition.and(query.getCondition().get(), seek), condition);
+    }
+
+
     private void isQueryEquals(DocumentQuery query, Pagination pagination, DocumentQueryPagination queryPagination) {
         assertEquals(query.getDocumentCollection(), queryPagination.getDocumentCollection());
         assertEquals(query.getDocuments(), queryPagination.getDocuments());
@@ -15,6 +15,8 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIExtension;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -22,7 +24,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 
@@ -44,4 +50,28 @@ public class DefaultDocumentTemplateAsyncProducerTest {
         DocumentTemplateAsync documentRepository = producer.get(manager);
         assertNotNull(documentRepository);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnErrorWhenExecutorIsNull() {
+        DocumentCollectionManagerAsync manager = Mockito.mock(DocumentCollectionManagerAsync.class);
+        Assertions.assertThrows(NullPointerException.class, () -> producer.get(manager, null));
+    }
+
+    @Test
+    public void shouldConvertOnTheExecutor() {
+        DocumentCollectionManagerAsync manager = Mockito.mock(DocumentCollectionManagerAsync.class);
+        Mockito.when(manager.insertAsync(Mockito.any(DocumentEntity.class)))
+                .thenAnswer(i -> CompletableFuture.completedFuture(i.getArgument(0)));
+        AtomicInteger conversions = new AtomicInteger();
+        Executor executor = command -> {
+            conversions.incrementAndGet();
+            command.run();
+        };
+
+        DocumentTemplateAsync template = producer.get(manager, executor);
+        Person person = Person.builder().withName("Ada").withId(1L).build();
+        Person result = template.insertAsync(person).toCompletableFuture().join();
+        assertEquals("Ada", result.getName());
+        assertEquals(1, conversions.get());
+    }
+}
@@ -27,6 +27,9 @@ import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.flow.Publishers;
+import org.jnosql.diana.api.flow.Subscriber;
+import org.jnosql.diana.api.flow.Subscription;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +41,7 @@ import javax.inject.Inject;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -54,6 +58,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -461,4 +466,76 @@ public class DefaultDocumentTemplateAsyncTest {
         verify(managerMock).count("Person", callback);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldInsertAsync() {
+        when(managerMock.insertAsync(Mockito.any(DocumentEntity.class)))
+                .thenAnswer(i -> CompletableFuture.completedFuture(i.getArgument(0)));
+
+        Person result = subject.insertAsync(this.person).toCompletableFuture().join();
+        assertEquals(person.getName(), result.getName());
+        assertEquals(person.getAge(), result.getAge());
+    }
+
+    @Test
+    public void shouldCompleteWhenAllEntitiesAreInserted() {
+        when(managerMock.insertAsync(Mockito.any(DocumentEntity.class), Mockito.eq(Duration.ofHours(2L))))
+                .thenAnswer(i -> CompletableFuture.completedFuture(i.getArgument(0)));
+
+        List<Person> result = subject.insertAsync(asList(this.person, this.person), Duration.ofHours(2L))
+                .toCompletableFuture().join();
+        assertEquals(2, result.size());
+        assertEquals(person.getName(), result.get(1).getName());
+    }
+
+    @Test
+    public void shouldSelectAsync() {
+        DocumentEntity entity = DocumentEntity.of("Person", asList(documents));
+        when(managerMock.selectAsync(Mockito.any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(singletonList(entity)));
+
+        DocumentQuery query = select().from("Person").build();
+        List<Person> people = subject.<Person>selectAsync(query).toCompletableFuture().join();
+        assertEquals(1, people.size());
+        assertEquals(person.getName(), people.get(0).getName());
+    }
+
+    @Test
+    public void shouldFindAsync() {
+        DocumentEntity entity = DocumentEntity.of("Person", asList(documents));
+        when(managerMock.selectAsync(Mockito.any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(singletonList(entity)));
+
+        Optional<Person> result = subject.findAsync(Person.class, 19L).toCompletableFuture().join();
+        assertEquals(person.getName(), result.map(Person::getName).orElse(null));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).selectAsync(queryCaptor.capture());
+        assertEquals("Person", queryCaptor.getValue().getDocumentCollection());
+    }
+
+    @Test
+    public void shouldSelectPublisher() {
+        DocumentEntity entity = DocumentEntity.of("Person", asList(documents));
+        when(managerMock.selectPublisher(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Publishers.of(callback -> callback.accept(singletonList(entity))));
+
+        Subscriber<Person> subscriber = Mockito.mock(Subscriber.class);
+        Mockito.doAnswer(invocation -> {
+            invocation.<Subscription>getArgument(0).request(Long.MAX_VALUE);
+            return null;
+        }).when(subscriber).onSubscribe(any(Subscription.class));
+
+        DocumentQuery query = select().from("Person").build();
+        subject.<Person>selectPublisher(query).subscribe(subscriber);
+        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
+        verify(subscriber).onNext(captor.capture());
+        verify(subscriber).onComplete();
+        assertEquals(person.getName(), captor.getValue().getName());
+    }
+
+    @Test
+    public void shouldCountAsync() {
+        when(managerMock.countAsync("Person")).thenReturn(CompletableFuture.completedFuture(10L));
+        assertEquals(Long.valueOf(10L), subject.countAsync(Person.class).toCompletableFuture().join());
+    }
+
+}
@@ -178,11 +178,12 @@ public class DefaultDocumentTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class), Mockito.eq(duration)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class), any(Duration.class));
     }
 
     @Test
@@ -191,11 +192,12 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .insert(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .insert(any(Iterable.class)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(DocumentEntity.class));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class));
     }
 
     @Test
@@ -204,11 +206,12 @@ public class DefaultDocumentTemplateTest {
         documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                .update(any(DocumentEntity.class)))
-                .thenReturn(documentEntity);
+                .update(any(Iterable.class)))
+                .thenReturn(Arrays.asList(documentEntity, documentEntity));
 
         subject.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(DocumentEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(any(DocumentEntity.class));
     }
 
 
@@ -228,6 +231,25 @@ public class DefaultDocumentTemplateTest {
     }
 
 
+    @Test
+    public void shouldStream() {
+        DocumentEntity documentEntity = DocumentEntity.of("Person");
+        documentEntity.addAll(Stream.of(documents).collect(Collectors.toList()));
+
+        Mockito.when(managerMock
+                .stream(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(documentEntity));
+
+        DocumentQuery query = select().from("person").build();
+
+        Stream<Person> people = subject.stream(query);
+        verify(managerMock).stream(query);
+        verify(managerMock, Mockito.never()).select(query);
+        List<Person> result = people.collect(Collectors.toList());
+        assertEquals(1, result.size());
+        assertEquals("Name", result.get(0).getName());
+    }
+
     @Test
     public void shouldReturnSingleResult() {
         DocumentEntity documentEntity = DocumentEntity.of("Person");
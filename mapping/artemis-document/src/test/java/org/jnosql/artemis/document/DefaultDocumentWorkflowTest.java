@@ -23,9 +23,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 
@@ -73,4 +81,34 @@ public class DefaultDocumentWorkflowTest {
         verify(converter).toDocument(any(Object.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFollowWorkflowInBatch() {
+        System.setProperty(DocumentWorkflow.MAX_BATCH_SIZE, "2");
+        try {
+            List<Integer> chunks = new ArrayList<>();
+            Person person = Person.builder().withId(1L).withAge().withName("Ada").build();
+            List<Person> result = subject.flowBatch(Arrays.asList(person, person, person), e -> {
+                chunks.add(e.size());
+                return e;
+            });
+
+            assertEquals(3, result.size());
+            assertThat(chunks, contains(2, 1));
+            verify(columnEventPersistManager, times(3)).firePreDocument(any());
+            verify(columnEventPersistManager, times(3)).firePostDocument(any());
+            verify(columnEventPersistManager, times(3)).firePreEntity(any());
+            verify(columnEventPersistManager, times(3)).firePostEntity(any());
+            verify(converter, times(3)).toDocument(any());
+        } finally {
+            System.clearProperty(DocumentWorkflow.MAX_BATCH_SIZE);
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenDatabaseReturnsLessEntities() {
+        Person person = Person.builder().withId(1L).withAge().withName("Ada").build();
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                subject.flowBatch(Arrays.asList(person, person), e -> Collections.emptyList()));
+    }
+
+}
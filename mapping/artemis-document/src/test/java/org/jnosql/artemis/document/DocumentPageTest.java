@@ -17,10 +17,12 @@ package org.jnosql.artemis.document;
 import org.jnosql.artemis.CDIExtension;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Page;
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
@@ -218,9 +220,39 @@ class DocumentPageTest {
         assertEquals(5L, people.stream().map(Person::getId).findFirst().orElse(-0L));
     }
 
+    @Test
+    public void shouldCreateKeysetPagination() {
+        CursoredPagination pagination = Pagination.cursor(1);
+        DocumentQueryPagination query = DocumentQueryPagination.of(select().from("person").orderBy("_id").asc().build(),
+                pagination);
+        DocumentQueryPagination secondQuery = query.next(singletonList(0L));
+        DocumentQueryPagination thirdQuery = secondQuery.next(singletonList(1L));
+        when(managerMock.select(query)).thenReturn(singletonList(createEntity(0)));
+        when(managerMock.select(secondQuery)).thenReturn(singletonList(createEntity(1)));
+
+        Page<Person> page = subject.select(query);
+        assertEquals(0L, page.get().map(Person::getId).findFirst().orElse(-0L));
+
+        Page<Person> nextPage = page.next();
+        assertEquals(pagination.next(singletonList(0L)), nextPage.getPagination());
+        assertEquals(1L, nextPage.get().map(Person::getId).findFirst().orElse(-0L));
+        assertEquals(0L, secondQuery.getSkip());
+        assertEquals(DocumentCondition.gt(Document.of("_id", 0L)), secondQuery.getCondition().get());
+
+        nextPage.next();
+        verify(managerMock).select(thirdQuery);
+    }
+
     private Page<Person> createPage(Pagination pagination) {
         DocumentQueryPagination query = DocumentQueryPagination.of(select().from("person").build(), pagination);
         return subject.select(query);
     }
 
-}
\ No newline at end of file
+    private DocumentEntity createEntity(int index) {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("age", index));
+        entity.add(Document.of("name", "Ada " + index));
+        entity.add(Document.of("_id", (long) index));
+        return entity;
+    }
+}
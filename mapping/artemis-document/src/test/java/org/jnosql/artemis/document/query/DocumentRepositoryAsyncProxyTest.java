@@ -30,6 +30,7 @@ import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.flow.Publisher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -188,6 +189,22 @@ public class DocumentRepositoryAsyncProxyTest {
     }
 
 
+    @Test
+    public void shouldReturnPublisherOnFindByAge() {
+        Publisher<Person> publisher = subscriber -> {
+        };
+        when(template.<Person>selectPublisher(any(DocumentQuery.class))).thenReturn(publisher);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        assertEquals(publisher, personRepository.findByAge(10));
+        verify(template).selectPublisher(captor.capture());
+        DocumentQuery query = captor.getValue();
+        DocumentCondition condition = query.getCondition().get();
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Document.of("age", 10), condition.getDocument());
+    }
+
     @Test
     public void shouldFindByNameOrderByAgeDesc() {
         Consumer<List<Person>> callback = v -> {
@@ -279,6 +296,8 @@ public class DocumentRepositoryAsyncProxyTest {
 
         void findByNameOrderByAgeDesc(String name, Consumer<List<Person>> callBack);
 
+        Publisher<Person> findByAge(Integer age);
+
         @Query("select * from Person")
         void findByQuery();
 
@@ -183,14 +183,14 @@ class DocumentRepositoryProxyPaginationTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(any(DocumentQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(any(DocumentQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Pagination pagination = getPagination();
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20, pagination);
         ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
         DocumentQuery query = captor.getValue();
         assertEquals("Person", query.getDocumentCollection());
@@ -203,6 +203,29 @@ public class DocumentRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldBindNewValuesWhenMethodIsCalledAgain() {
+        when(template.select(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Collections.emptyList());
+
+        personRepository.findByNameAndAge("Ada", 20);
+        personRepository.findByNameAndAge("Poliana", 30);
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template, times(2)).select(captor.capture());
+        List<DocumentQuery> queries = captor.getAllValues();
+        List<DocumentCondition> first = queries.get(0).getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        List<DocumentCondition> second = queries.get(1).getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Document.of("name", "Ada"), first.get(0).getDocument());
+        assertEquals(Document.of("age", 20), first.get(1).getDocument());
+        assertEquals(Document.of("name", "Poliana"), second.get(0).getDocument());
+        assertEquals(Document.of("age", 30), second.get(1).getDocument());
+    }
+
     @Test
     public void shouldFindByAgeANDName() {
         Person ada = Person.builder()
@@ -223,12 +246,12 @@ public class DocumentRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(Mockito.any(DocumentQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
@@ -14,10 +14,14 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.EntityNotFoundException;
@@ -26,15 +30,20 @@ import org.jnosql.artemis.reflection.ClassMappings;
 import org.jnosql.artemis.reflection.FieldMapping;
 import org.jnosql.diana.api.Value;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -115,6 +124,49 @@ abstract class AbstractGraphConverter implements GraphConverter {
         return entity;
     }
 
+    @Override
+    public <T> T toEntity(Class<T> entityClass, Vertex vertex, Set<String> fields) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(vertex, "vertex is required");
+        requireNonNull(fields, "fields is required");
+
+        ClassMapping mapping = getClassMappings().get(entityClass);
+        List<Property> properties = new ArrayList<>(fields.size());
+        boolean hasId = false;
+        for (String field : fields) {
+            FieldMapping fieldMapping = getFieldMapping(mapping, field);
+            if (fieldMapping.isId()) {
+                hasId = true;
+                continue;
+            }
+            VertexProperty<Object> property = vertex.property(fieldMapping.getName());
+            if (property.isPresent()) {
+                properties.add(DefaultProperty.of(fieldMapping.getName(), property.value()));
+            }
+        }
+        T entity = convertEntity(properties, mapping, mapping.newInstance());
+        if (hasId) {
+            feedId(vertex, entity);
+        }
+        return entity;
+    }
+
+    @Override
+    public <T> UnaryOperator<GraphTraversal<Vertex, Vertex>> toHasStep(Class<T> entityClass, String field,
+                                                                        P<?> predicate) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(field, "field is required");
+        requireNonNull(predicate, "predicate is required");
+
+        FieldMapping fieldMapping = getFieldMapping(getClassMappings().get(entityClass), field);
+        P<?> graphPredicate = toGraphPredicate(fieldMapping, predicate);
+        if (fieldMapping.isId()) {
+            return g -> g.has(org.apache.tinkerpop.gremlin.structure.T.id, graphPredicate);
+        }
+        String key = fieldMapping.getName();
+        return g -> g.has(key, graphPredicate);
+    }
+
     @Override
     public <T> T toEntity(T entityInstance, Vertex vertex) {
         requireNonNull(entityInstance, "entityInstance is required");
@@ -132,9 +184,18 @@ abstract class AbstractGraphConverter implements GraphConverter {
     @Override
     public EdgeEntity toEdgeEntity(Edge edge) {
         requireNonNull(edge, "vertex is required");
-        Object out = toEntity(edge.outVertex());
-        Object in = toEntity(edge.inVertex());
-        return EdgeEntity.of(out, edge, in);
+        return DefaultEdgeEntity.lazy(() -> toEntity(edge.outVertex()), edge, () -> toEntity(edge.inVertex()));
+    }
+
+    @Override
+    public List<EdgeEntity> toEdgeEntities(Collection<Edge> edges) {
+        requireNonNull(edges, "edges is required");
+        Map<Object, Object> entities = new ConcurrentHashMap<>();
+        Function<Vertex, Object> endpoint = v -> entities.computeIfAbsent(v.id(), k -> toEntity(v));
+        return edges.stream()
+                .map(e -> DefaultEdgeEntity.lazy(() -> endpoint.apply(e.outVertex()), e,
+                        () -> endpoint.apply(e.inVertex())))
+                .collect(toList());
     }
 
     @Override
@@ -148,6 +209,37 @@ abstract class AbstractGraphConverter implements GraphConverter {
         throw new EntityNotFoundException("Edge does not found in the database with id: " + id);
     }
 
+    private FieldMapping getFieldMapping(ClassMapping mapping, String field) {
+        return mapping.getFieldMapping(field).orElseThrow(() ->
+                new IllegalArgumentException("The field " + field + " does not exist in the entity "
+                        + mapping.getName()));
+    }
+
+    private P<?> toGraphPredicate(FieldMapping fieldMapping, P<?> predicate) {
+        if (fieldMapping.getConverter().isPresent()) {
+            AttributeConverter converter = getConverters().get(fieldMapping.getConverter().get());
+            return convert(predicate.clone(), converter);
+        }
+        return predicate;
+    }
+
+    private P<?> convert(P predicate, AttributeConverter converter) {
+        if (predicate instanceof ConnectiveP) {
+            List<P> predicates = ((ConnectiveP) predicate).getPredicates();
+            predicates.forEach(p -> convert(p, converter));
+            return predicate;
+        }
+        Object value = predicate.getValue();
+        if (value instanceof Collection) {
+            List<Object> values = new ArrayList<>();
+            ((Collection<?>) value).forEach(v -> values.add(converter.convertToDatabaseColumn(v)));
+            predicate.setValue(values);
+        } else {
+            predicate.setValue(converter.convertToDatabaseColumn(value));
+        }
+        return predicate;
+    }
+
     private <T> void feedId(Vertex vertex, T entity) {
         ClassMapping mapping = getClassMappings().get(entity.getClass());
         Optional<FieldMapping> id = mapping.getId();
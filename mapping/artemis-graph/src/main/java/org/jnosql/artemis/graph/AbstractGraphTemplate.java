@@ -41,7 +41,6 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
@@ -285,7 +284,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (vertices.hasNext()) {
             List<Edge> edges = new ArrayList<>();
             vertices.next().edges(direction, labels).forEachRemaining(edges::add);
-            return edges.stream().map(getConverter()::toEdgeEntity).collect(Collectors.toList());
+            return getConverter().toEdgeEntities(edges);
         }
         return Collections.emptyList();
     }
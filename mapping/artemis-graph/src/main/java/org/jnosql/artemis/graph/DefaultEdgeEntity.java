@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -29,18 +30,30 @@ import static java.util.stream.Collectors.toList;
 
 class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
-    private final O outgoing;
+    private final Endpoint<O> outgoing;
 
     private final Edge edge;
 
-    private final I incoming;
+    private final Endpoint<I> incoming;
 
     DefaultEdgeEntity(Edge edge, I incoming, O outgoing) {
+        this(new Endpoint<>(outgoing), edge, new Endpoint<>(incoming));
+    }
+
+    private DefaultEdgeEntity(Endpoint<O> outgoing, Edge edge, Endpoint<I> incoming) {
         this.edge = edge;
         this.incoming = incoming;
         this.outgoing = outgoing;
     }
 
+    /**
+     * Creates an {@link EdgeEntity} whose endpoints are converted on the first access
+     * to {@link EdgeEntity#getOutgoing()} and {@link EdgeEntity#getIncoming()} respectively.
+     */
+    static <O, I> DefaultEdgeEntity<O, I> lazy(Supplier<O> outgoing, Edge edge, Supplier<I> incoming) {
+        return new DefaultEdgeEntity<>(new Endpoint<>(outgoing), edge, new Endpoint<>(incoming));
+    }
+
     @Override
     public Value getId() {
         return Value.of(edge.id());
@@ -53,12 +66,12 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
 
     @Override
     public I getIncoming() {
-        return incoming;
+        return incoming.get();
     }
 
     @Override
     public O getOutgoing() {
-        return outgoing;
+        return outgoing.get();
     }
 
     @Override
@@ -126,20 +139,43 @@ class DefaultEdgeEntity<O, I> implements EdgeEntity {
         }
         DefaultEdgeEntity<?, ?> that = (DefaultEdgeEntity<?, ?>) o;
         return Objects.equals(edge, that.edge) &&
-                Objects.equals(incoming, that.incoming) &&
-                Objects.equals(outgoing, that.outgoing);
+                Objects.equals(getIncoming(), that.getIncoming()) &&
+                Objects.equals(getOutgoing(), that.getOutgoing());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(edge, incoming, outgoing);
+        return Objects.hash(edge, getIncoming(), getOutgoing());
     }
 
     @Override
     public String toString() {
-        return outgoing +
+        return getOutgoing() +
                 "---" + edge.label() +
-                " --->" + incoming;
+                " --->" + getIncoming();
+    }
+
+    private static final class Endpoint<T> {
+
+        private Supplier<T> supplier;
+
+        private T entity;
+
+        Endpoint(T entity) {
+            this.entity = entity;
+        }
+
+        Endpoint(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        synchronized T get() {
+            if (supplier != null) {
+                entity = supplier.get();
+                supplier = null;
+            }
+            return entity;
+        }
     }
 
 }
@@ -136,29 +136,31 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public Optional<EdgeEntity> getSingleResult() {
-        List<EdgeEntity> result = getResultList();
+        List<Edge> result = TraversalStream.next(flow.apply(supplier.get()), 2);
 
         if(result.isEmpty()) {
             return Optional.empty();
         }else if(result.size() == 1) {
-            return Optional.of(result.get(0));
+            return Optional.of(converter.toEdgeEntity(result.get(0)));
         }
         throw new NonUniqueResultException("The Edge traversal query returns more than one result");
     }
 
     @Override
     public List<EdgeEntity> getResultList() {
-        return stream().collect(toList());
+        try (Stream<Edge> edges = TraversalStream.of(flow.apply(supplier.get()))) {
+            return converter.toEdgeEntities(edges.collect(toList()));
+        }
     }
 
     @Override
     public Stream<EdgeEntity> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(converter::toEdgeEntity);
+        return TraversalStream.of(flow.apply(supplier.get())).map(converter::toEdgeEntity);
     }
 
     @Override
     public Stream<EdgeEntity> next(int limit) {
-        return flow.apply(supplier.get()).next(limit).stream().map(converter::toEdgeEntity);
+        return converter.toEdgeEntities(flow.apply(supplier.get()).next(limit)).stream();
     }
 
     @Override
@@ -18,6 +18,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSo
 import org.jnosql.artemis.PreparedStatement;
 import org.jnosql.diana.api.NonUniqueResultException;
 
+import javax.script.CompiledScript;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,8 @@ final class DefaultPreparedStatement implements PreparedStatement {
 
     private final String gremlin;
 
+    private final CompiledScript script;
+
     private final Map<String, Object> params = new HashMap<>();
 
     private final GraphTraversalSource traversalSource;
@@ -38,6 +41,7 @@ final class DefaultPreparedStatement implements PreparedStatement {
     DefaultPreparedStatement(GremlinExecutor executor, String gremlin, GraphTraversalSource traversalSource) {
         this.executor = executor;
         this.gremlin = gremlin;
+        this.script = executor.compile(gremlin);
         this.traversalSource = traversalSource;
     }
 
@@ -52,7 +56,7 @@ final class DefaultPreparedStatement implements PreparedStatement {
 
     @Override
     public <T> List<T> getResultList() {
-        return executor.executeGremlin(traversalSource, gremlin, params);
+        return executor.executeGremlin(traversalSource, script, gremlin, params);
     }
 
     @Override
@@ -19,16 +19,21 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Entity;
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.diana.api.NonUniqueResultException;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -85,6 +90,22 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
         return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(accessor, predicate)), converter);
     }
 
+    @Override
+    public <T> VertexTraversal filter(Class<T> entityClass, Predicate<T> predicate, String... fields) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(predicate, "predicate is required");
+        requireNonNull(fields, "fields is required");
+        Set<String> names = new HashSet<>(Arrays.asList(fields));
+        Predicate<Traverser<Vertex>> p = v -> predicate.test(converter.toEntity(entityClass, v.get(), names));
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.filter(p)), converter);
+    }
+
+    @Override
+    public <T> VertexTraversal has(Class<T> entityClass, String field, P<?> predicate) {
+        UnaryOperator<GraphTraversal<Vertex, Vertex>> step = converter.toHasStep(entityClass, field, predicate);
+        return new DefaultVertexTraversal(supplier, flow.andThen(step), converter);
+    }
+
     @Override
     public VertexTraversal out(String... labels) {
         Stream.of(labels).forEach(l -> requireNonNull(l, "label is required"));
@@ -183,18 +204,18 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> Stream<T> stream() {
-        return flow.apply(supplier.get()).toList().stream()
+        return TraversalStream.of(flow.apply(supplier.get()))
                 .map(converter::toEntity);
     }
 
     @Override
     public <T> Optional<T> getSingleResult() {
-        List<T> result = getResultList();
+        List<Vertex> result = TraversalStream.next(flow.apply(supplier.get()), 2);
 
         if (result.isEmpty()) {
             return Optional.empty();
         } else if (result.size() == 1) {
-            return Optional.of(result.get(0));
+            return Optional.of(converter.toEntity(result.get(0)));
         }
         throw new NonUniqueResultException("The Vertex traversal query returns more than one result");
     }
@@ -202,6 +223,9 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
     @Override
     public <T> Page<T> page(Pagination pagination) {
         requireNonNull(pagination, "pagination is required");
+        if (pagination instanceof CursoredPagination) {
+            throw new IllegalArgumentException("The graph page does not support the keyset pagination");
+        }
         GraphTraversal<?, ?> graphTraversal = supplier.get();
         graphTraversal.skip(pagination.getSkip());
         return GraphPage.of(pagination, converter, graphTraversal);
@@ -209,8 +233,9 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
 
     @Override
     public <T> List<T> getResultList() {
-        Stream<T> stream = stream();
-        return stream.collect(Collectors.toList());
+        try (Stream<T> stream = stream()) {
+            return stream.collect(Collectors.toList());
+        }
     }
 
     @Override
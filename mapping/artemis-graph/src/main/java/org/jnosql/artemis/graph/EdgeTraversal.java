@@ -105,7 +105,8 @@ public interface EdgeTraversal extends EdgeConditionTraversal {
     VertexTraversal bothV();
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the stream is lazy and reads each element from the
+     * traversal on demand, closing the stream closes the traversal.
      *
      * @return the entity result as {@link Stream}
      */
@@ -14,11 +14,16 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 public interface GraphConverter {
 
@@ -53,6 +58,35 @@ public interface GraphConverter {
      */
     <T> T toEntity(Class<T> entityClass, Vertex vertex);
 
+    /**
+     * Converts vertex to an entity reading only the properties of the given fields, the other fields keep
+     * the default value of a new instance
+     *
+     * @param entityClass the entity class
+     * @param vertex      the vertex
+     * @param fields      the Java field names to read
+     * @param <T>         the entity type
+     * @return a entity instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when a field does not exist in the entity
+     */
+    <T> T toEntity(Class<T> entityClass, Vertex vertex, Set<String> fields);
+
+    /**
+     * Converts a predicate to a field of the entity to a has step, the field name becomes the property key,
+     * or the id accessor to the id field, and the predicate values go through the field converter
+     *
+     * @param entityClass the entity class
+     * @param field       the Java field name
+     * @param predicate   the predicate to the field values
+     * @param <T>         the entity type
+     * @return the has step
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the field does not exist in the entity
+     */
+    <T> UnaryOperator<GraphTraversal<Vertex, Vertex>> toHasStep(Class<T> entityClass, String field,
+                                                                 P<?> predicate);
+
     /**
      *List the fields in the entity as property exclude fields annotated with {@link org.jnosql.artemis.Id}
      * @param entity the entity
@@ -75,7 +109,10 @@ public interface GraphConverter {
     <T> T toEntity(T entityInstance, Vertex vertex);
 
     /**
-     * Converts {@link EdgeEntity} from {@link Edge} Thinkerpop
+     * Converts {@link EdgeEntity} from {@link Edge} Thinkerpop.
+     * The outgoing and incoming entities are converted on the first access, they read the vertex properties at
+     * that moment, so when the edge is accessed after the transaction that loaded it, e.g. a {@link Transactional}
+     * method, the properties come from outside of that transaction.
      *
      * @param edge the ThinkerPop edge
      * @return an EdgeEntity instance
@@ -83,6 +120,19 @@ public interface GraphConverter {
      */
     EdgeEntity toEdgeEntity(Edge edge);
 
+    /**
+     * Converts a batch of {@link Edge} into {@link EdgeEntity} sharing an identity map, therefore,
+     * a vertex that appears in several edges is converted once and the same entity instance is returned
+     * by all of them. As in {@link GraphConverter#toEdgeEntity(Edge)}, the endpoints are only converted
+     * when accessed, even outside of the transaction that loaded the edges, and the edges might be accessed
+     * by several threads.
+     *
+     * @param edges the ThinkerPop edges
+     * @return the EdgeEntity instances in the same order of the edges
+     * @throws NullPointerException when edges is null
+     */
+    List<EdgeEntity> toEdgeEntities(Collection<Edge> edges);
+
     /**
      * Converts {@link Edge} from {@link EdgeEntity}
      *
@@ -255,11 +255,13 @@ public interface GraphTemplate {
     <T> Optional<T> singleResult(String gremlin);
 
     /**
-     * Creates a {@link PreparedStatement} from the query
+     * Creates a {@link PreparedStatement} from the query.
+     * The query is compiled when the statement is created, then each execution just uses the bound parameters.
      *
      * @param gremlin the gremlin query
      * @return a {@link PreparedStatement} instance
-     * @throws NullPointerException when the query is null
+     * @throws NullPointerException  when the query is null
+     * @throws GremlinQueryException when the query cannot be compiled
      */
     PreparedStatement prepare(String gremlin);
 
@@ -21,7 +21,7 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.script.Bindings;
-import javax.script.ScriptEngine;
+import javax.script.CompiledScript;
 import javax.script.ScriptException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,7 +33,7 @@ final class GremlinExecutor {
 
     private final GraphConverter converter;
 
-    private static final ScriptEngine ENGINE = new GremlinGroovyScriptEngine();
+    private static final GremlinGroovyScriptEngine ENGINE = new GremlinGroovyScriptEngine();
 
     GremlinExecutor(GraphConverter converter) {
         this.converter = converter;
@@ -44,12 +44,33 @@ final class GremlinExecutor {
     }
 
     <T> List<T> executeGremlin(GraphTraversalSource traversalSource, String gremlin, Map<String, Object> params) {
+        return executeGremlin(traversalSource, compile(gremlin), gremlin, params);
+    }
+
+    /**
+     * Compiles the gremlin script, so an invalid script fails when it is prepared instead of when it runs.
+     * The engine already keeps the generated classes keyed by the script text.
+     *
+     * @param gremlin the gremlin script
+     * @return the compiled script
+     * @throws GremlinQueryException when the script cannot be compiled
+     */
+    CompiledScript compile(String gremlin) {
+        try {
+            return ENGINE.compile(gremlin);
+        } catch (ScriptException e) {
+            throw new GremlinQueryException("There is an error when compiled the gremlin query: " + gremlin, e);
+        }
+    }
+
+    <T> List<T> executeGremlin(GraphTraversalSource traversalSource, CompiledScript script, String gremlin,
+                               Map<String, Object> params) {
         try {
             Bindings bindings = ENGINE.createBindings();
             bindings.put("g", traversalSource);
             params.forEach(bindings::put);
 
-            Object eval = ENGINE.eval(gremlin, bindings);
+            Object eval = script.eval(bindings);
             if (eval instanceof GraphTraversal) {
                 return convertToList(((GraphTraversal) eval).toList());
             }
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utilitarian class to read a {@link Traversal} as a lazy {@link Stream}, each element is only read from the
+ * traversal when the stream requests it, so the operations that short-circuit, e.g. limit or findFirst,
+ * do not read the whole result. Closing the stream closes the traversal, and reading a bounded amount of elements
+ * with {@link #next(Traversal, int)} closes it as well.
+ */
+final class TraversalStream {
+
+    private TraversalStream() {
+    }
+
+    /**
+     * Creates a lazy stream from the traversal
+     *
+     * @param traversal the traversal
+     * @param <E>       the element type
+     * @return a lazy {@link Stream} that closes the traversal when it is closed
+     */
+    static <E> Stream<E> of(Traversal<?, E> traversal) {
+        Spliterator<E> spliterator = Spliterators.spliteratorUnknownSize(traversal, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(() -> close(traversal));
+    }
+
+    /**
+     * Reads at most the amount of elements from the traversal, then closes it.
+     *
+     * @param traversal the traversal
+     * @param amount    the maximum amount of elements
+     * @param <E>       the element type
+     * @return the elements read
+     */
+    static <E> List<E> next(Traversal<?, E> traversal, int amount) {
+        try {
+            return traversal.next(amount);
+        } finally {
+            close(traversal);
+        }
+    }
+
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception exception) {
+            throw new GremlinQueryException("An error when closing the traversal", exception);
+        }
+    }
+}
@@ -27,7 +27,8 @@ public interface ValueMapTraversal {
 
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the stream is lazy and reads each element from the
+     * traversal on demand, closing the stream closes the traversal.
      *
      * @return the entity result as {@link Stream}
      */
@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.jnosql.artemis.Page;
 import org.jnosql.artemis.Pagination;
 
@@ -42,6 +43,51 @@ public interface VertexTraversal extends VertexConditionTraversal {
      */
     <T> VertexTraversal filter(Predicate<T> predicate);
 
+    /**
+     * Does a filter predicate based that converts only the given fields of the entity, instead of the whole vertex,
+     * to evaluate the predicate. Use it with {@link VertexTraversal#hasLabel(Class)} when the Java predicate is
+     * required, otherwise prefer {@link VertexTraversal#has(Class, String, P)} that runs at the graph.
+     *
+     * @param entityClass the entity class
+     * @param predicate   a predicate to apply to each element to determine if it should be included
+     * @param fields      the Java field names the predicate reads
+     * @param <T>         the type
+     * @return a {@link VertexTraversal} with the Vertex predicate
+     * @throws NullPointerException when there is null parameter
+     */
+    <T> VertexTraversal filter(Class<T> entityClass, Predicate<T> predicate, String... fields);
+
+    /**
+     * Adds a condition to a field of the entity, the field name becomes the property key, or the id to the
+     * id field, and the predicate values go through the field converter. It runs as a has step, so the graph
+     * may use its indexes.
+     *
+     * @param entityClass the entity class
+     * @param field       the Java field name
+     * @param predicate   the predicate condition
+     * @param <T>         the type
+     * @return a {@link VertexTraversal} with the new condition
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the field does not exist in the entity
+     */
+    <T> VertexTraversal has(Class<T> entityClass, String field, P<?> predicate);
+
+    /**
+     * Adds a equals condition to a field of the entity, see {@link VertexTraversal#has(Class, String, P)}
+     *
+     * @param entityClass the entity class
+     * @param field       the Java field name
+     * @param value       the value to the condition
+     * @param <T>         the type
+     * @return a {@link VertexTraversal} with the new condition
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the field does not exist in the entity
+     */
+    default <T> VertexTraversal has(Class<T> entityClass, String field, Object value) {
+        requireNonNull(value, "value is required");
+        return has(entityClass, field, P.eq(value));
+    }
+
     /**
      * Map the {@link EdgeTraversal} to its outgoing incident edges given the edge labels.
      *
@@ -147,7 +193,8 @@ public interface VertexTraversal extends VertexConditionTraversal {
     <T> Optional<T> next();
 
     /**
-     * Get all the result in the traversal as Stream
+     * Get all the result in the traversal as Stream, the stream is lazy and reads each element from the
+     * traversal on demand, closing the stream closes the traversal.
      *
      * @param <T> the entity type
      * @return the entity result as {@link Stream}
@@ -169,7 +216,8 @@ public interface VertexTraversal extends VertexConditionTraversal {
      * @param pagination the pagination
      * @param <T>        the entity type
      * @return a {@link Page} instance
-     * @throws NullPointerException when pagination is null
+     * @throws NullPointerException     when pagination is null
+     * @throws IllegalArgumentException when pagination is a {@link org.jnosql.artemis.CursoredPagination}
      */
     <T> Page<T> page(Pagination pagination);
 
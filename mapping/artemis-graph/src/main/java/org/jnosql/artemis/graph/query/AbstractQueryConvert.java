@@ -15,6 +15,7 @@
 package org.jnosql.artemis.graph.query;
 
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -33,54 +34,88 @@ abstract class AbstractQueryConvert {
     protected GraphTraversal<Vertex, Vertex> getPredicate(GraphQueryMethod graphQuery, Condition condition,
                                                         ClassMapping mapping) {
         Operator operator = condition.getOperator();
-        String name = condition.getName();
-        String nativeName = mapping.getColumnField(name);
         switch (operator) {
-            case EQUALS:
-                return __.has(nativeName, P.eq(graphQuery.getValue(name)));
-            case GREATER_THAN:
-                return __.has(nativeName, P.gt(graphQuery.getValue(name)));
-            case GREATER_EQUALS_THAN:
-                return __.has(nativeName, P.gte(graphQuery.getValue(name)));
-            case LESSER_THAN:
-                return __.has(nativeName, P.lt(graphQuery.getValue(name)));
-            case LESSER_EQUALS_THAN:
-                return __.has(nativeName, P.lte(graphQuery.getValue(name)));
-            case BETWEEN:
-                return __.has(nativeName, P.between(graphQuery.getValue(name), graphQuery.getValue(name)));
-            case IN:
-                return __.has(nativeName, P.within(graphQuery.getInValue(name)));
             case NOT:
                 Condition notCondition = ((ConditionValue) condition.getValue()).get().get(0);
                 return __.not(getPredicate(graphQuery, notCondition, mapping));
             case AND:
-                return ((ConditionValue) condition.getValue()).get().stream()
-                        .map(c -> getPredicate(graphQuery, c, mapping)).reduce(GraphTraversal::and)
-                        .orElseThrow(() -> new UnsupportedOperationException("There is an inconsistency at the AND operator"));
+                return __.and(getPredicates(graphQuery, condition, mapping, "AND"));
             case OR:
-                return ((ConditionValue) condition.getValue()).get().stream()
-                        .map(c -> getPredicate(graphQuery, c, mapping)).reduce(GraphTraversal::or)
-                        .orElseThrow(() -> new UnsupportedOperationException("There is an inconsistency at the OR operator"));
+                return __.or(getPredicates(graphQuery, condition, mapping, "OR"));
             default:
-                throw new UnsupportedOperationException("There is not support to the type " + operator + " in graph");
-
+                String name = condition.getName();
+                return __.has(mapping.getColumnField(name), getP(graphQuery, operator, name));
+        }
+    }
 
+    private Traversal<?, ?>[] getPredicates(GraphQueryMethod graphQuery, Condition condition,
+                                            ClassMapping mapping, String operator) {
+        Traversal<?, ?>[] predicates = ((ConditionValue) condition.getValue()).get().stream()
+                .map(c -> getPredicate(graphQuery, c, mapping)).toArray(Traversal[]::new);
+        if (predicates.length == 0) {
+            throw new UnsupportedOperationException("There is an inconsistency at the " + operator + " operator");
         }
+        return predicates;
     }
 
+    /**
+     * Creates the traversal starting with the label of the entity and then the where condition.
+     * The comparison conditions, including the ones within an AND, become flat has steps right after the label,
+     * so the providers can use their indexes; just NOT and OR conditions go through a filter step.
+     */
     protected GraphTraversal<Vertex, Vertex> getGraphTraversal(GraphQueryMethod graphQuery,
                                                                Supplier<Optional<Where>> whereSupplier,
                                                                ClassMapping mapping) {
 
         GraphTraversal<Vertex, Vertex> traversal = graphQuery.getTraversal();
+        traversal.hasLabel(mapping.getName());
         Optional<Where> whereOptional = whereSupplier.get();
 
         if (whereOptional.isPresent()) {
             Where where = whereOptional.get();
 
             Condition condition = where.getCondition();
-            traversal.filter(getPredicate(graphQuery, condition, mapping));
+            appendCondition(graphQuery, condition, mapping, traversal);
         }
         return traversal;
     }
+
+    private void appendCondition(GraphQueryMethod graphQuery, Condition condition, ClassMapping mapping,
+                                 GraphTraversal<Vertex, Vertex> traversal) {
+        Operator operator = condition.getOperator();
+        switch (operator) {
+            case AND:
+                ((ConditionValue) condition.getValue()).get()
+                        .forEach(c -> appendCondition(graphQuery, c, mapping, traversal));
+                return;
+            case NOT:
+            case OR:
+                traversal.filter(getPredicate(graphQuery, condition, mapping));
+                return;
+            default:
+                String name = condition.getName();
+                traversal.has(mapping.getColumnField(name), getP(graphQuery, operator, name));
+        }
+    }
+
+    private P<?> getP(GraphQueryMethod graphQuery, Operator operator, String name) {
+        switch (operator) {
+            case EQUALS:
+                return P.eq(graphQuery.getValue(name));
+            case GREATER_THAN:
+                return P.gt(graphQuery.getValue(name));
+            case GREATER_EQUALS_THAN:
+                return P.gte(graphQuery.getValue(name));
+            case LESSER_THAN:
+                return P.lt(graphQuery.getValue(name));
+            case LESSER_EQUALS_THAN:
+                return P.lte(graphQuery.getValue(name));
+            case BETWEEN:
+                return P.between(graphQuery.getValue(name), graphQuery.getValue(name));
+            case IN:
+                return P.within(graphQuery.getInValue(name));
+            default:
+                throw new UnsupportedOperationException("There is not support to the type " + operator + " in graph");
+        }
+    }
 }
@@ -27,11 +27,9 @@ final class DeleteQueryConverter extends AbstractQueryConvert implements Functio
 
     @Override
     public List<Vertex> apply(GraphQueryMethod graphQuery) {
-        DeleteMethodFactory factory = DeleteMethodFactory.get();
-        DeleteQuery deleteQuery = factory.apply(graphQuery.getMethod(), graphQuery.getEntityName());
+        DeleteQuery deleteQuery = DeleteMethodFactory.get().apply(graphQuery.getMethod(), graphQuery.getEntityName());
         ClassMapping mapping = graphQuery.getMapping();
         GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, deleteQuery::getWhere, mapping);
-        traversal.hasLabel(mapping.getName());
         return traversal.toList();
     }
 }
@@ -17,6 +17,7 @@ package org.jnosql.artemis.graph.query;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
+import org.jnosql.artemis.CursoredPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassMapping;
 import org.jnosql.artemis.reflection.DynamicReturn;
@@ -32,12 +33,10 @@ import static org.apache.tinkerpop.gremlin.process.traversal.Order.desc;
 
 final class SelectQueryConverter extends AbstractQueryConvert implements BiFunction<GraphQueryMethod, Object[], List<Vertex>> {
 
-
     @Override
     public List<Vertex> apply(GraphQueryMethod graphQuery, Object[] params) {
 
-        SelectMethodFactory selectMethodFactory = SelectMethodFactory.get();
-        SelectQuery query = selectMethodFactory.apply(graphQuery.getMethod(), graphQuery.getEntityName());
+        SelectQuery query = SelectMethodFactory.get().apply(graphQuery.getMethod(), graphQuery.getEntityName());
         ClassMapping mapping = graphQuery.getMapping();
 
         GraphTraversal<Vertex, Vertex> traversal = getGraphTraversal(graphQuery, query::getWhere, mapping);
@@ -45,7 +44,6 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
         query.getOrderBy().forEach(getSort(traversal, mapping));
         setSort(params, traversal);
         setPagination(params, traversal, query);
-        traversal.hasLabel(mapping.getName());
         return traversal.toList();
     }
 
@@ -68,24 +66,28 @@ final class SelectQueryConverter extends AbstractQueryConvert implements BiFunct
 
     private static void setPagination(Object[] args, GraphTraversal<Vertex, Vertex> traversal, SelectQuery query) {
         Pagination pagination = DynamicReturn.findPagination(args);
+        if (pagination instanceof CursoredPagination) {
+            throw new IllegalArgumentException("The graph repository does not support the keyset pagination");
+        }
         if (pagination != null) {
-            traversal.skip(pagination.getSkip())
-                    .limit(pagination.getLimit());
+            setRange(traversal, pagination.getSkip(), pagination.getLimit());
             return;
         }
 
         if (query != null) {
-            if (query.getSkip() > 0) {
-                traversal.skip(query.getSkip());
-            }
-
-            if (query.getLimit() > 0) {
-                traversal.next((int) query.getLimit());
-            }
+            setRange(traversal, query.getSkip(), query.getLimit());
         }
 
     }
 
+    private static void setRange(GraphTraversal<Vertex, Vertex> traversal, long skip, long limit) {
+        if (limit > 0) {
+            traversal.range(skip, skip + limit);
+        } else if (skip > 0) {
+            traversal.skip(skip);
+        }
+    }
+
     static void setSort(Object[] args, GraphTraversal<Vertex, Vertex> traversal) {
         List<org.jnosql.diana.api.Sort> sorts = DynamicReturn.findSorts(args);
         if (!sorts.isEmpty()) {
@@ -15,16 +15,20 @@
 package org.jnosql.artemis.graph.spi;
 
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.jnosql.aphrodite.antlr.method.DeleteMethodFactory;
+import org.jnosql.aphrodite.antlr.method.SelectMethodFactory;
 import org.jnosql.artemis.ConfigurationUnit;
 import org.jnosql.artemis.DatabaseMetadata;
 import org.jnosql.artemis.Databases;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.query.RepositoryGraphBean;
+import org.jnosql.artemis.query.RepositoryQueryCompiler;
 import org.jnosql.artemis.util.ConfigurationUnitUtils;
 import org.jnosql.artemis.util.RepositoryUnit;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.InjectionPoint;
@@ -112,4 +116,13 @@ public class GraphProducerExtension implements Extension {
         repositoryUnits.forEach(type -> afterBeanDiscovery.addBean(new RepositoryUnitGraphBean(beanManager, type)));
 
     }
+
+    void onAfterDeploymentValidation(@Observes final AfterDeploymentValidation validation,
+                                     final BeanManager beanManager) {
+        LOGGER.info(String.format("Compiling the repositories queries on graphs: crud %d", crudTypes.size()));
+        // the Query annotation on graph has a Gremlin script, so only the method names are parsed
+        RepositoryQueryCompiler compiler = new RepositoryQueryCompiler(SelectMethodFactory.get(),
+                DeleteMethodFactory.get(), query -> { });
+        compiler.compile(crudTypes, beanManager, validation);
+    }
 }
@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
@@ -26,15 +27,23 @@ import org.jnosql.artemis.graph.model.Person;
 import org.jnosql.artemis.graph.model.Worker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -96,6 +105,34 @@ abstract class AbstractGraphConverterTest {
         assertEquals(0, BigDecimal.valueOf(1_000).compareTo(worker.getSalary().getValue()));
     }
 
+    @Test
+    public void shouldReturnToEntityWithFields() {
+        Vertex vertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Person person = getConverter().toEntity(Person.class, vertex, Collections.singleton("age"));
+        assertEquals(22, person.getAge());
+        assertNull(person.getName());
+        assertNull(person.getId());
+
+        person = getConverter().toEntity(Person.class, vertex, new HashSet<>(Arrays.asList("id", "name")));
+        assertEquals("Ada", person.getName());
+        assertEquals(vertex.id(), person.getId());
+        assertThrows(IllegalArgumentException.class, () -> getConverter().toEntity(Person.class, vertex,
+                Collections.singleton("unknown")));
+    }
+
+    @Test
+    public void shouldReturnHasStepUsingConverter() {
+        getGraph().addVertex(T.label, "Worker", "name", "James", "money", "USD 1000");
+        getGraph().addVertex(T.label, "Worker", "name", "Ada", "money", "BRL 10");
+        P<Money> predicate = P.within(new Money("USD", BigDecimal.valueOf(1000)));
+
+        List<Object> names = getConverter().toHasStep(Worker.class, "salary", predicate)
+                .apply(getGraph().traversal().V()).values("name").toList();
+        assertEquals(Collections.singletonList("James"), names);
+        assertThrows(IllegalArgumentException.class, () -> getConverter().toHasStep(Worker.class, "unknown",
+                P.eq(10)));
+    }
+
     @Test
     public void shouldConverterFromEmbeddable() {
         Job job = new Job();
@@ -207,6 +244,62 @@ abstract class AbstractGraphConverterTest {
         assertEquals(1999L, matrix.getYear());
     }
 
+    @Test
+    public void shouldConvertEdgeEndpointsLazily() {
+        Vertex matrixVertex = getGraph().addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Edge edge = Mockito.mock(Edge.class);
+        Mockito.when(edge.outVertex()).thenReturn(adaVertex);
+        Mockito.when(edge.inVertex()).thenReturn(matrixVertex);
+
+        EdgeEntity edgeEntity = getConverter().toEdgeEntity(edge);
+        Mockito.verify(edge, Mockito.never()).outVertex();
+        Mockito.verify(edge, Mockito.never()).inVertex();
+
+        Person ada = edgeEntity.getOutgoing();
+        assertSame(ada, edgeEntity.getOutgoing());
+        Mockito.verify(edge, Mockito.times(1)).outVertex();
+        Mockito.verify(edge, Mockito.never()).inVertex();
+        assertEquals("Ada", ada.getName());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenToEdgeEntitiesIsNull() {
+        assertThrows(NullPointerException.class, () -> getConverter().toEdgeEntities(null));
+    }
+
+    @Test
+    public void shouldConvertEachVertexOnceInEdgeBatch() {
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        Vertex matrixVertex = getGraph().addVertex(T.label, "movie", "title", "Matrix", "movie_year", "1999");
+        Vertex alienVertex = getGraph().addVertex(T.label, "movie", "title", "Alien", "movie_year", "1979");
+        Edge matrix = adaVertex.addEdge("watch", matrixVertex);
+        Edge alien = adaVertex.addEdge("watch", alienVertex);
+
+        List<EdgeEntity> edges = getConverter().toEdgeEntities(Arrays.asList(matrix, alien));
+
+        assertEquals(2, edges.size());
+        assertSame(edges.get(0).getOutgoing(), edges.get(1).getOutgoing());
+        assertEquals("Matrix", edges.get(0).<Movie>getIncoming().getTitle());
+        assertEquals("Alien", edges.get(1).<Movie>getIncoming().getTitle());
+    }
+
+    @Test
+    public void shouldConvertEachVertexOnceWhenEdgesAreReadConcurrently() {
+        Vertex adaVertex = getGraph().addVertex(T.label, "Person", "age", 22, "name", "Ada");
+        List<Edge> watched = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            Vertex movie = getGraph().addVertex(T.label, "movie", "title", "Matrix " + index, "movie_year", "1999");
+            watched.add(adaVertex.addEdge("watch", movie));
+        }
+
+        List<EdgeEntity> edges = getConverter().toEdgeEntities(watched);
+
+        Set<Object> outgoing = edges.parallelStream().map(EdgeEntity::getOutgoing)
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+        assertEquals(1, outgoing.size());
+    }
+
     @Test
     public void shouldReturnToEdgeErrorWhenIsNull() {
         assertThrows(NullPointerException.class, () -> getConverter().toEdge(null));
@@ -469,4 +469,33 @@ public class DefaultVertexTraversalTest extends AbstractTraversalTest {
                 .filter(Person::isAdult).count();
         assertEquals(3L, count);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldPredicateWithFields() {
+        long count = graphTemplate.getTraversalVertex()
+                .hasLabel(Person.class)
+                .filter(Person.class, Person::isAdult, "age").count();
+        assertEquals(3L, count);
+        assertThrows(NullPointerException.class, () -> graphTemplate.getTraversalVertex()
+                .filter(Person.class, null, "age"));
+    }
+
+    @Test
+    public void shouldHasFromField() {
+        List<Person> people = graphTemplate.getTraversalVertex()
+                .hasLabel(Person.class)
+                .has(Person.class, "age", P.gt(26))
+                .<Person>stream().collect(toList());
+        assertThat(people, containsInAnyOrder(otavio, paulo));
+
+        Optional<Person> person = graphTemplate.getTraversalVertex()
+                .has(Person.class, "name", "Poliana").next();
+        assertEquals(poliana, person.get());
+
+        person = graphTemplate.getTraversalVertex()
+                .has(Person.class, "id", paulo.getId()).next();
+        assertEquals(paulo, person.get());
+        assertThrows(IllegalArgumentException.class, () -> graphTemplate.getTraversalVertex()
+                .has(Person.class, "unknown", 10));
+    }
+}
@@ -81,6 +81,11 @@ class GraphPageTest {
         assertThrows(NullPointerException.class, () -> template.getTraversalVertex().page(null));
     }
 
+    @Test
+    public void shouldReturnErrorWhenPaginationIsCursored() {
+        assertThrows(IllegalArgumentException.class, () -> template.getTraversalVertex().page(Pagination.cursor(1)));
+    }
+
     @Test
     public void shouldPaginate() {
         Pagination pagination = Pagination.page(1).size(1);
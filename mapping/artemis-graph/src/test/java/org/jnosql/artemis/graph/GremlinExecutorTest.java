@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import javax.inject.Inject;
+import javax.script.CompiledScript;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -34,6 +35,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(CDIExtension.class)
 class GremlinExecutorTest {
@@ -172,4 +174,23 @@ class GremlinExecutorTest {
         List<String> names = people.stream().map(Person::getName).collect(Collectors.toList());
         assertThat(names, containsInAnyOrder("Bruce Banner"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReuseCompiledScript() {
+        String gremlin = "g.V().has('name', param).toList()";
+        CompiledScript script = executor.compile(gremlin);
+
+        List<Person> bruce = executor.executeGremlin(graph.traversal(), script, gremlin,
+                singletonMap("param", "Bruce Banner"));
+        List<Person> natasha = executor.executeGremlin(graph.traversal(), script, gremlin,
+                singletonMap("param", "Natasha Romanoff"));
+
+        assertEquals("Bruce Banner", bruce.get(0).getName());
+        assertEquals("Natasha Romanoff", natasha.get(0).getName());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenScriptIsInvalid() {
+        assertThrows(GremlinQueryException.class, () -> executor.compile("g.V(("));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+class TraversalStreamTest {
+
+    private AtomicInteger reads;
+
+    private Traversal<String, String> traversal;
+
+    @BeforeEach
+    public void setUp() {
+        reads = new AtomicInteger();
+        traversal = Mockito.spy(__.inject("Diana", "Artemis", "Apollo", "Athena")
+                .sideEffect(t -> reads.incrementAndGet()));
+    }
+
+    @Test
+    public void shouldNotReadBeforeTerminalOperation() {
+        Stream<String> stream = TraversalStream.of(traversal).map(String::toUpperCase);
+        assertEquals(0, reads.get());
+        assertEquals(4L, stream.count());
+        assertEquals(4, reads.get());
+    }
+
+    @Test
+    public void shouldReadOnDemand() {
+        Optional<String> first = TraversalStream.of(traversal).findFirst();
+        assertEquals("Diana", first.get());
+        assertTrue(reads.get() < 4);
+    }
+
+    @Test
+    public void shouldReadAll() {
+        List<String> names = TraversalStream.of(traversal).collect(Collectors.toList());
+        assertEquals(Arrays.asList("Diana", "Artemis", "Apollo", "Athena"), names);
+    }
+
+    @Test
+    public void shouldCloseTraversal() throws Exception {
+        try (Stream<String> stream = TraversalStream.of(traversal)) {
+            assertEquals(Arrays.asList("Diana", "Artemis"), stream.limit(2).collect(Collectors.toList()));
+        }
+        verify(traversal).close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCloseFails() throws Exception {
+        doThrow(new IllegalStateException("error")).when(traversal).close();
+        Stream<String> stream = TraversalStream.of(traversal);
+        assertThrows(GremlinQueryException.class, stream::close);
+    }
+
+    @Test
+    public void shouldCloseTraversalAfterNext() throws Exception {
+        assertEquals(Arrays.asList("Diana", "Artemis"), TraversalStream.next(traversal, 2));
+        verify(traversal).close();
+    }
+}
@@ -27,6 +27,7 @@ import org.jnosql.artemis.graph.cdi.CDIExtension;
 import org.jnosql.artemis.graph.model.Person;
 import org.jnosql.artemis.reflection.ClassMappings;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -146,6 +147,11 @@ public class GraphRepositoryProxyPaginationTest {
         assertTrue(people.isEmpty());
     }
 
+    @Test
+    public void shouldReturnErrorWhenPaginationIsCursored() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> personRepository.findAll(Pagination.cursor(2)));
+    }
+
     interface PersonRepository extends Repository<Person, Long> {
 
         List<Person> findAll(Pagination pagination);
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.graph.query;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -21,6 +23,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.cdi.CDIExtension;
 import org.jnosql.artemis.graph.model.Person;
@@ -292,6 +295,71 @@ class SelectQueryConverterTest {
     }
 
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByNameAndAgeGreaterThan"})
+    public void shouldStartWithLabelAndFlatHasSteps(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 20);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V();
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, traversal,
+                converters, method, new Object[]{"Ada", 30});
+
+        List<Vertex> vertices = converter.apply(queryMethod, null);
+        assertEquals(1, vertices.size());
+        assertEquals(40, (int) vertices.get(0).value("age"));
+        MatcherAssert.assertThat(getSteps(traversal), Matchers.contains("V", "hasLabel", "has", "has"));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByNameOrAge"})
+    public void shouldUseFilterStepToOr(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 25);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V();
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, traversal,
+                converters, method, new Object[]{"Ada", 25});
+
+        List<Vertex> vertices = converter.apply(queryMethod, null);
+        assertEquals(2, vertices.size());
+        MatcherAssert.assertThat(getSteps(traversal), Matchers.contains("V", "hasLabel", "filter"));
+    }
+
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"findByAgeGreaterThanOrderByName"})
+    public void shouldApplyPaginationAsRange(String methodName) {
+        Method method = Stream.of(PersonRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst().get();
+
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 40);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 25);
+        ClassMapping mapping = mappings.get(Person.class);
+        GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V();
+        GraphQueryMethod queryMethod = new GraphQueryMethod(mapping, traversal,
+                converters, method, new Object[]{20});
+
+        List<Vertex> vertices = converter.apply(queryMethod, new Object[]{20, Pagination.page(2).size(1)});
+        assertEquals(1, vertices.size());
+        assertEquals("Otavio", vertices.get(0).value("name"));
+        MatcherAssert.assertThat(getSteps(traversal),
+                Matchers.contains("V", "hasLabel", "has", "order", "by", "range"));
+    }
+
+    private List<String> getSteps(GraphTraversal<Vertex, Vertex> traversal) {
+        return traversal.asAdmin().getBytecode().getStepInstructions()
+                .stream().map(Bytecode.Instruction::getOperator).collect(Collectors.toList());
+    }
+
     private void checkEquals(String methodName) {
         Method method = Stream.of(PersonRepository.class.getMethods())
                 .filter(m -> m.getName().equals(methodName)).findFirst().get();
@@ -336,6 +404,12 @@ class SelectQueryConverterTest {
         List<Person> findByAgeIn(List<Integer> ages);
 
         List<Person> findByNameIn(List<String> names);
+
+        List<Person> findByNameAndAgeGreaterThan(String name, Integer age);
+
+        List<Person> findByNameOrAge(String name, Integer age);
+
+        List<Person> findByAgeGreaterThanOrderByName(Integer age, Pagination pagination);
     }
 
 }
\ No newline at end of file
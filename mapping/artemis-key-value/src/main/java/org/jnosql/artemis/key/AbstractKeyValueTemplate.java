@@ -71,6 +71,19 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return getFlow().flow(entity, putAction);
     }
 
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return getFlow().flowBatch(entities, k -> getManager().put(toIterable(k)));
+    }
+
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities, Duration ttl) {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl class is required");
+        return getFlow().flowBatch(entities, k -> getManager().put(toIterable(k), ttl));
+    }
+
     @Override
     public <K, T> Optional<T> get(K key, Class<T> entityClass) {
         requireNonNull(key, "key is required");
@@ -140,4 +153,12 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return new org.jnosql.artemis.key.KeyValuePreparedStatement(getManager().prepare(query), entityClass);
     }
 
+    /**
+     * The entities of a batch might have different key types, the {@link BucketManager} receives them as a single one.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> Iterable<KeyValueEntity<K>> toIterable(List<KeyValueEntity<?>> entities) {
+        return (Iterable<KeyValueEntity<K>>) (Iterable<?>) entities;
+    }
+
 }
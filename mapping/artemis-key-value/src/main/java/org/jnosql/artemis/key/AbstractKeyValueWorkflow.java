@@ -16,7 +16,10 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -37,6 +40,65 @@ public abstract class AbstractKeyValueWorkflow implements KeyValueWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> flowBatch(Iterable<T> entities, Consumer<List<KeyValueEntity<?>>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        int maxBatchSize = getMaxBatchSize();
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            chunk.add(Objects.requireNonNull(entity, "entity is required"));
+            if (chunk.size() == maxBatchSize) {
+                result.addAll(flowChunk(chunk, action));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(flowChunk(chunk, action));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum number of entities sent to the database at once, by default it reads the
+     * {@link KeyValueWorkflow#MAX_BATCH_SIZE} system property.
+     *
+     * @return the maximum batch size
+     */
+    protected int getMaxBatchSize() {
+        int maxBatchSize = Integer.getInteger(MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("The max batch size must be greater than zero: " + maxBatchSize);
+        }
+        return maxBatchSize;
+    }
+
+    private <T> List<T> flowChunk(List<T> entities, Consumer<List<KeyValueEntity<?>>> action) {
+        List<KeyValueEntity<?>> keyValues = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            getEventPersistManager().firePreEntity(entity);
+            getEventPersistManager().firePreKeyValueEntity(entity);
+            KeyValueEntity<?> keyValue = getConverter().toKeyValue(entity);
+            getEventPersistManager().firePreKeyValue(keyValue);
+            keyValues.add(keyValue);
+        }
+
+        action.accept(keyValues);
+
+        List<T> result = new ArrayList<>(keyValues.size());
+        for (int index = 0; index < keyValues.size(); index++) {
+            KeyValueEntity<?> keyValue = keyValues.get(index);
+            getEventPersistManager().firePostKeyValue(keyValue);
+            T entity = getConverter().toEntity((Class<T>) entities.get(index).getClass(), keyValue);
+            getEventPersistManager().firePostEntity(entity);
+            getEventPersistManager().firePostKeyValueEntity(entity);
+            result.add(entity);
+        }
+        return result;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<KeyValueEntity<?>> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
@@ -17,6 +17,8 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 /**
@@ -33,6 +35,17 @@ import java.util.function.UnaryOperator;
  */
 public interface KeyValueWorkflow {
 
+    /**
+     * The system property that defines the maximum number of entities sent to the database at once
+     * by {@link KeyValueWorkflow#flowBatch(Iterable, Consumer)}
+     */
+    String MAX_BATCH_SIZE = "artemis.batch.maxSize";
+
+    /**
+     * The default maximum number of entities sent to the database at once
+     */
+    int DEFAULT_MAX_BATCH_SIZE = 1_000;
+
     /**
      * Executes the workflow to do an interaction on a database key-value.
      *
@@ -44,4 +57,18 @@ public interface KeyValueWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<KeyValueEntity<?>> action);
+
+    /**
+     * Executes the workflow to a group of entities. The events are fired to each entity, however, the entities
+     * are split into chunks of at most {@link KeyValueWorkflow#MAX_BATCH_SIZE} and the alteration is executed once
+     * per chunk with its {@link KeyValueEntity} converted.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database
+     * @param <T>      the entity type
+     * @return after the workflow the the entities response
+     * @throws NullPointerException when there is null parameter
+     * @see KeyValueTemplate#put(Iterable) {@link KeyValueTemplate#put(Iterable, java.time.Duration)}
+     */
+    <T> List<T> flowBatch(Iterable<T> entities, Consumer<List<KeyValueEntity<?>>> action);
 }
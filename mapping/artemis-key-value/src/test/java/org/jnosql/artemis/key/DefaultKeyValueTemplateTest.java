@@ -68,6 +68,9 @@ public class DefaultKeyValueTemplateTest {
     @Captor
     private ArgumentCaptor<KeyValueEntity> captor;
 
+    @Captor
+    private ArgumentCaptor<Iterable<KeyValueEntity<String>>> iterableCaptor;
+
     private KeyValueTemplate subject;
 
 
@@ -92,8 +95,8 @@ public class DefaultKeyValueTemplateTest {
     public void shouldPutIterable() {
         User user = new User(KEY, "otavio", 27);
         subject.put(singletonList(user));
-        Mockito.verify(manager).put(captor.capture());
-        KeyValueEntity entity = captor.getValue();
+        Mockito.verify(manager).put(iterableCaptor.capture());
+        KeyValueEntity entity = iterableCaptor.getValue().iterator().next();
         assertEquals(KEY, entity.getKey());
         assertEquals(user, entity.getValue().get());
     }
@@ -118,8 +121,8 @@ public class DefaultKeyValueTemplateTest {
         User user = new User(KEY, "otavio", 27);
         subject.put(singletonList(user), duration);
 
-        Mockito.verify(manager).put(captor.capture(), Mockito.eq(duration));
-        KeyValueEntity entity = captor.getValue();
+        Mockito.verify(manager).put(iterableCaptor.capture(), Mockito.eq(duration));
+        KeyValueEntity entity = iterableCaptor.getValue().iterator().next();
         assertEquals(KEY, entity.getKey());
         assertEquals(user, entity.getValue().get());
     }
@@ -148,6 +151,18 @@ public class DefaultKeyValueTemplateTest {
         assertEquals(user, userOptional.get(0));
     }
 
+    @Test
+    public void shouldGetIterableWithTheKeyAsId() {
+        User user = new User("otavio", "otavio", 27);
+
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        List<User> users = stream(subject.get(singletonList(KEY), User.class).spliterator(), false)
+                .collect(toList());
+
+        assertEquals(KEY, users.get(0).getNickname());
+        assertEquals(subject.get(KEY, User.class).get(), users.get(0));
+    }
+
     @Test
     public void shouldReturnEmptyIterable() {
         User user = new User(KEY, "otavio", 27);
@@ -22,9 +22,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,4 +65,33 @@ public class DefaultKeyValueWorkflowTest {
         verify(eventPersistManager).firePostKeyValue(any(KeyValueEntity.class));
     }
 
+    @Test
+    public void shouldFollowWorkflowInBatch() {
+        List<List<KeyValueEntity<?>>> actions = new ArrayList<>();
+        subject.flowBatch(Arrays.asList("entity", "entity2"), actions::add);
+
+        assertEquals(1, actions.size());
+        assertEquals(2, actions.get(0).size());
+        verify(eventPersistManager, times(2)).firePreKeyValue(any(KeyValueEntity.class));
+        verify(eventPersistManager, times(2)).firePostKeyValue(any(KeyValueEntity.class));
+    }
+
+    @Test
+    public void shouldSplitBatchInChunks() {
+        System.setProperty(KeyValueWorkflow.MAX_BATCH_SIZE, "2");
+        try {
+            List<List<KeyValueEntity<?>>> actions = new ArrayList<>();
+            List<String> result = subject.flowBatch(Arrays.asList("entity", "entity2", "entity3"), actions::add);
+
+            assertEquals(3, result.size());
+            assertEquals(2, actions.size());
+            assertEquals(2, actions.get(0).size());
+            assertEquals(1, actions.get(1).size());
+            verify(eventPersistManager, times(3)).firePreKeyValue(any(KeyValueEntity.class));
+            verify(eventPersistManager, times(3)).firePostKeyValue(any(KeyValueEntity.class));
+        } finally {
+            System.clearProperty(KeyValueWorkflow.MAX_BATCH_SIZE);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.reflection.GeneratedClassMapping;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor that creates a {@link GeneratedClassMapping} to each class annotated with either
+ * {@link org.jnosql.artemis.Entity} or {@link org.jnosql.artemis.Embeddable}. The generated classes are registered
+ * at the {@link java.util.ServiceLoader} file, so the mapping reads the meta-info and uses the accessors created at
+ * compile time instead of scanning the class by reflection.
+ */
+@SupportedAnnotationTypes({"org.jnosql.artemis.Entity", "org.jnosql.artemis.Embeddable"})
+public class ClassMappingProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + GeneratedClassMapping.class.getName();
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (ElementKind.CLASS.equals(element.getKind())) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement entity) {
+        ClassMappingSource source = new ClassMappingSource(entity, processingEnv);
+        if (!source.isAccessible()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "The class is not accessible, it will use reflection", entity);
+            return;
+        }
+        String name = source.getName();
+        if (generated.contains(name)) {
+            return;
+        }
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, entity);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.getJavaSource());
+            }
+            generated.add(name);
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an error to create the class mapping: " + exception.getMessage(), entity);
+        }
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Set<String> services = new TreeSet<>(generated);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(services::add);
+            }
+        } catch (IOException exception) {
+            //there is not a service file from a previous compilation
+        }
+
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String service : services) {
+                    writer.write(service);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an error to create the service file: " + exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Convert;
+import org.jnosql.artemis.Embeddable;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
+import org.jnosql.artemis.MappedSuperclass;
+import org.jnosql.artemis.reflection.FieldType;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the Java source of a {@link org.jnosql.artemis.reflection.GeneratedClassMapping} from an entity.
+ * The generated class lives at the entity package, so it reads and writes from the getter and setter methods
+ * or straight from the field when it is not private; otherwise the accessor is left to the runtime.
+ * The column name, id, converter and field type are read from the annotations here, so the runtime does not scan them.
+ */
+final class ClassMappingSource {
+
+    static final String SUFFIX = "$GeneratedClassMapping";
+
+    private static final String[] GETTER_PREFIXES = {"get", "is"};
+
+    private static final String SETTER_PREFIX = "set";
+
+    private final TypeElement entity;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final PackageElement entityPackage;
+
+    ClassMappingSource(TypeElement entity, ProcessingEnvironment processingEnv) {
+        this.entity = entity;
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.entityPackage = elements.getPackageOf(entity);
+    }
+
+    /**
+     * @return true when the generated class is able to reference the entity
+     */
+    boolean isAccessible() {
+        for (Element element = entity; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the qualified name of the generated class
+     */
+    String getName() {
+        String packageName = getPackageName();
+        String simpleName = getSimpleName();
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    /**
+     * @return the generated class source
+     */
+    String getJavaSource() {
+        String entityType = types.erasure(entity.asType()).toString();
+        List<VariableElement> fields = getFields(entity);
+        StringBuilder source = new StringBuilder();
+        String packageName = getPackageName();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(getSimpleName())
+                .append(" implements org.jnosql.artemis.reflection.GeneratedClassMapping {\n\n")
+                .append("    private static final java.util.List<java.lang.String> FIELDS = ")
+                .append("java.util.Collections.unmodifiableList(java.util.Arrays.asList(")
+                .append(fields.stream().map(f -> quote(f.getSimpleName().toString()))
+                        .collect(Collectors.joining(", ")))
+                .append("));\n\n")
+                .append("    private final java.util.Map<java.lang.String, java.lang.String> columns = ")
+                .append("new java.util.HashMap<>();\n\n")
+                .append("    private final java.util.Set<java.lang.String> ids = new java.util.HashSet<>();\n\n")
+                .append("    private final java.util.Map<java.lang.String, java.lang.Class<? extends ")
+                .append("org.jnosql.artemis.AttributeConverter>> converters = new java.util.HashMap<>();\n\n")
+                .append("    private final java.util.Map<java.lang.String, org.jnosql.artemis.reflection.FieldType>")
+                .append(" types = new java.util.HashMap<>();\n\n")
+                .append("    private final java.util.Map<java.lang.String, org.jnosql.artemis.reflection.FieldReader>")
+                .append(" readers = new java.util.HashMap<>();\n\n")
+                .append("    private final java.util.Map<java.lang.String, org.jnosql.artemis.reflection.FieldWriter>")
+                .append(" writers = new java.util.HashMap<>();\n\n")
+                .append("    public ").append(getSimpleName()).append("() {\n");
+
+        for (VariableElement field : fields) {
+            String name = field.getSimpleName().toString();
+            source.append("        columns.put(").append(quote(name)).append(", ")
+                    .append(quote(getColumnName(field))).append(");\n");
+            if (isId(field)) {
+                source.append("        ids.add(").append(quote(name)).append(");\n");
+            }
+            getConverter(field).ifPresent(converter -> source.append("        converters.put(").append(quote(name))
+                    .append(", ").append(converter).append(".class);\n"));
+            source.append("        types.put(").append(quote(name))
+                    .append(", org.jnosql.artemis.reflection.FieldType.").append(getFieldType(field)).append(");\n");
+            getReader(field).ifPresent(reader -> source.append("        readers.put(").append(quote(name))
+                    .append(", bean -> ((").append(entityType).append(") bean)").append(reader).append(");\n"));
+            getWriter(field).ifPresent(writer -> source.append("        writers.put(").append(quote(name))
+                    .append(", (bean, value) -> ((").append(entityType).append(") bean)").append(writer)
+                    .append(");\n"));
+        }
+
+        source.append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.lang.Class<?> getClassInstance() {\n")
+                .append("        return ").append(entityType).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.lang.String getName() {\n")
+                .append("        return ").append(quote(getEntityName())).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<java.lang.String> getFieldsName() {\n")
+                .append("        return FIELDS;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Optional<org.jnosql.artemis.reflection.InstanceSupplier> ")
+                .append("getInstanceSupplier() {\n");
+        if (hasConstructor()) {
+            source.append("        return java.util.Optional.of(").append(entityType).append("::new);\n");
+        } else {
+            source.append("        return java.util.Optional.empty();\n");
+        }
+        source.append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Optional<org.jnosql.artemis.reflection.FieldReader> ")
+                .append("getReader(java.lang.String field) {\n")
+                .append("        return java.util.Optional.ofNullable(readers.get(field));\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Optional<org.jnosql.artemis.reflection.FieldWriter> ")
+                .append("getWriter(java.lang.String field) {\n")
+                .append("        return java.util.Optional.ofNullable(writers.get(field));\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.lang.String getColumnName(java.lang.String field) {\n")
+                .append("        return columns.get(field);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public boolean isId(java.lang.String field) {\n")
+                .append("        return ids.contains(field);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Optional<java.lang.Class<? extends org.jnosql.artemis.AttributeConverter>> ")
+                .append("getConverter(java.lang.String field) {\n")
+                .append("        return java.util.Optional.ofNullable(converters.get(field));\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public org.jnosql.artemis.reflection.FieldType getFieldType(java.lang.String field) {\n")
+                .append("        return types.get(field);\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private String getPackageName() {
+        return entityPackage.isUnnamed() ? "" : entityPackage.getQualifiedName().toString();
+    }
+
+    private String getSimpleName() {
+        String binaryName = elements.getBinaryName(entity).toString();
+        String packageName = getPackageName();
+        String flatName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return flatName + SUFFIX;
+    }
+
+    private String getEntityName() {
+        return Optional.ofNullable(entity.getAnnotation(Entity.class))
+                .map(Entity::value)
+                .filter(value -> !value.trim().isEmpty())
+                .orElse(entity.getSimpleName().toString());
+    }
+
+    private List<VariableElement> getFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeMirror superclass = type.getSuperclass();
+        if (TypeKind.DECLARED.equals(superclass.getKind())) {
+            TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (superElement.getAnnotation(MappedSuperclass.class) != null) {
+                fields.addAll(getFields(superElement));
+            }
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getAnnotation(Column.class) != null || field.getAnnotation(Id.class) != null) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private boolean isId(VariableElement field) {
+        return field.getAnnotation(Id.class) != null;
+    }
+
+    private String getColumnName(VariableElement field) {
+        Optional<String> name = isId(field) ? Optional.of(field.getAnnotation(Id.class).value()) :
+                Optional.ofNullable(field.getAnnotation(Column.class)).map(Column::value);
+        return name.filter(value -> !value.trim().isEmpty())
+                .orElse(field.getSimpleName().toString());
+    }
+
+    private Optional<String> getConverter(VariableElement field) {
+        Convert convert = field.getAnnotation(Convert.class);
+        if (convert == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(convert.value().getName());
+        } catch (MirroredTypeException exception) {
+            return Optional.of(types.erasure(exception.getTypeMirror()).toString());
+        }
+    }
+
+    private FieldType getFieldType(VariableElement field) {
+        TypeMirror type = types.erasure(types.asMemberOf(getEntityType(), field));
+        if (isSubtype(type, Collection.class)) {
+            return FieldType.COLLECTION;
+        }
+        if (isSubtype(type, Map.class)) {
+            return FieldType.MAP;
+        }
+        Element element = types.asElement(type);
+        if (element != null && element.getAnnotation(Embeddable.class) != null) {
+            return FieldType.EMBEDDED;
+        }
+        if (element != null && element.getAnnotation(Entity.class) != null) {
+            return FieldType.SUBENTITY;
+        }
+        return FieldType.DEFAULT;
+    }
+
+    private boolean isSubtype(TypeMirror type, Class<?> supertype) {
+        TypeElement element = elements.getTypeElement(supertype.getName());
+        return !type.getKind().isPrimitive() && types.isAssignable(type, types.erasure(element.asType()));
+    }
+
+    private boolean hasConstructor() {
+        if (entity.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (NestingKind.MEMBER.equals(entity.getNestingKind()) && !entity.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(entity.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && isAccessible(c));
+    }
+
+    private Optional<String> getReader(VariableElement field) {
+        String property = capitalize(field.getSimpleName().toString());
+        TypeMirror fieldType = types.asMemberOf(getEntityType(), field);
+        for (String prefix : GETTER_PREFIXES) {
+            Optional<ExecutableElement> getter = getMethod(prefix + property)
+                    .filter(m -> m.getParameters().isEmpty())
+                    .filter(m -> isSameType(getMethodType(m).getReturnType(), fieldType));
+            if (getter.isPresent()) {
+                return Optional.of('.' + getter.get().getSimpleName().toString() + "()");
+            }
+        }
+        if (isAccessible(field)) {
+            return Optional.of('.' + field.getSimpleName().toString());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> getWriter(VariableElement field) {
+        TypeMirror fieldType = types.asMemberOf(getEntityType(), field);
+        String cast = "(" + getCastType(fieldType) + ") value";
+        Optional<ExecutableElement> setter = getMethod(SETTER_PREFIX + capitalize(field.getSimpleName().toString()))
+                .filter(m -> m.getParameters().size() == 1)
+                .filter(m -> isSameType(getMethodType(m).getParameterTypes().get(0), fieldType));
+        if (setter.isPresent()) {
+            return Optional.of('.' + setter.get().getSimpleName().toString() + '(' + cast + ')');
+        }
+        if (isAccessible(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return Optional.of('.' + field.getSimpleName().toString() + " = " + cast);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ExecutableElement> getMethod(String name) {
+        return ElementFilter.methodsIn(elements.getAllMembers(entity)).stream()
+                .filter(m -> m.getSimpleName().contentEquals(name))
+                .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                .filter(this::isAccessible)
+                .findFirst();
+    }
+
+    private boolean isAccessible(Element member) {
+        if (member.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return member.getModifiers().contains(Modifier.PUBLIC)
+                || entityPackage.equals(elements.getPackageOf(member));
+    }
+
+    private DeclaredType getEntityType() {
+        return (DeclaredType) entity.asType();
+    }
+
+    private ExecutableType getMethodType(ExecutableElement method) {
+        return (ExecutableType) types.asMemberOf(getEntityType(), method);
+    }
+
+    private boolean isSameType(TypeMirror type, TypeMirror fieldType) {
+        return types.isSameType(types.erasure(type), types.erasure(fieldType));
+    }
+
+    private String getCastType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return types.erasure(type).toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String quote(String value) {
+        return '"' + value + '"';
+    }
+
+    @Override
+    public String toString() {
+        return "ClassMappingSource{" + "entity=" + entity + '}';
+    }
+}
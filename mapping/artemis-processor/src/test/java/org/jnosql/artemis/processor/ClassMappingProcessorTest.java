@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2018 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.reflection.FieldReader;
+import org.jnosql.artemis.reflection.FieldType;
+import org.jnosql.artemis.reflection.FieldWriter;
+import org.jnosql.artemis.reflection.GeneratedClassMapping;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassMappingProcessorTest {
+
+    private final Map<Class<?>, GeneratedClassMapping> mappings = new HashMap<>();
+
+    {
+        ServiceLoader.load(GeneratedClassMapping.class).forEach(m -> mappings.put(m.getClassInstance(), m));
+    }
+
+    @Test
+    public void shouldRegisterGeneratedClasses() {
+        assertThat(mappings, hasKey(Person.class));
+        assertThat(mappings, hasKey(Animal.class));
+        assertThat(mappings, hasKey(Worker.class));
+        assertThat(mappings, hasKey(Address.class));
+        assertFalse(mappings.containsKey(Job.class));
+        assertEquals(Person.class.getName() + ClassMappingSource.SUFFIX, mappings.get(Person.class).getClass().getName());
+    }
+
+    @Test
+    public void shouldUseAccessors() {
+        GeneratedClassMapping mapping = mappings.get(Person.class);
+        assertEquals("Person", mapping.getName());
+        assertThat(mapping.getFieldsName(), contains("id", "name", "age", "phones", "nickname"));
+
+        Person person = (Person) mapping.getInstanceSupplier().get().get();
+        FieldWriter writer = mapping.getWriter("age").get();
+        FieldReader reader = mapping.getReader("age").get();
+        writer.write(person, 10);
+        assertEquals(10, person.getAge());
+        assertEquals(10, reader.read(person));
+
+        mapping.getWriter("phones").get().write(person, Arrays.asList("123", "456"));
+        assertEquals(Arrays.asList("123", "456"), mapping.getReader("phones").get().read(person));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenFieldIsNotAccessible() {
+        GeneratedClassMapping mapping = mappings.get(Person.class);
+        assertFalse(mapping.getReader("nickname").isPresent());
+        assertFalse(mapping.getWriter("nickname").isPresent());
+        assertFalse(mapping.getReader("ignore").isPresent());
+    }
+
+    @Test
+    public void shouldUseFieldWhenThereIsNotAccessor() {
+        GeneratedClassMapping mapping = mappings.get(Animal.class);
+        assertEquals("animals", mapping.getName());
+        assertThat(mapping.getFieldsName(), contains("name", "legs"));
+
+        Animal animal = (Animal) mapping.getInstanceSupplier().get().get();
+        mapping.getWriter("name").get().write(animal, "dog");
+        mapping.getWriter("legs").get().write(animal, 4);
+        assertEquals("dog", animal.name);
+        assertEquals(4, animal.legs);
+        assertEquals("dog", mapping.getReader("name").get().read(animal));
+    }
+
+    @Test
+    public void shouldReadFieldsFromMappedSuperclass() {
+        GeneratedClassMapping mapping = mappings.get(Worker.class);
+        assertThat(mapping.getFieldsName(), contains("salary", "name"));
+
+        Worker worker = new Worker();
+        mapping.getWriter("salary").get().write(worker, 10D);
+        assertEquals(10D, mapping.getReader("salary").get().read(worker));
+    }
+
+    @Test
+    public void shouldGenerateColumnMetadata() {
+        GeneratedClassMapping person = mappings.get(Person.class);
+        assertTrue(person.isId("id"));
+        assertFalse(person.isId("name"));
+        assertEquals("_id", person.getColumnName("id"));
+        assertEquals("name", person.getColumnName("name"));
+        assertEquals(FieldType.COLLECTION, person.getFieldType("phones"));
+        assertEquals(FieldType.DEFAULT, person.getFieldType("age"));
+        assertFalse(person.getConverter("age").isPresent());
+
+        GeneratedClassMapping animal = mappings.get(Animal.class);
+        assertEquals("animal_legs", animal.getColumnName("legs"));
+        assertEquals(LegsConverter.class, animal.getConverter("legs").get());
+    }
+
+    @Test
+    public void shouldNotWriteFinalField() {
+        GeneratedClassMapping mapping = mappings.get(Address.class);
+        assertEquals("Address", mapping.getName());
+        assertTrue(mapping.getReader("country").isPresent());
+        assertFalse(mapping.getWriter("country").isPresent());
+        assertTrue(mapping.getWriter("street").isPresent());
+    }
+}